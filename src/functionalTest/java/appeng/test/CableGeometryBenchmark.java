@@ -0,0 +1,280 @@
+package appeng.test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.*;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+import net.minecraft.block.Block;
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.renderer.GLAllocation;
+import net.minecraft.client.renderer.RenderBlocks;
+import net.minecraft.client.renderer.Tessellator;
+import net.minecraft.client.shader.TesselatorVertexState;
+import net.minecraft.init.Blocks;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.world.IBlockAccess;
+import net.minecraft.world.biome.BiomeGenBase;
+import net.minecraftforge.common.util.ForgeDirection;
+
+import org.junit.jupiter.api.Test;
+import org.lwjgl.opengl.GL11;
+
+import appeng.api.AEApi;
+import appeng.api.util.AEColor;
+import appeng.client.render.BusRenderHelper;
+import appeng.client.render.BusRenderer;
+import appeng.client.render.CableGeometryCache;
+import appeng.core.AEConfig;
+import appeng.tile.networking.TileCableBus;
+import cpw.mods.fml.common.FMLCommonHandler;
+import cpw.mods.fml.common.eventhandler.SubscribeEvent;
+import cpw.mods.fml.common.gameevent.TickEvent;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+
+/**
+ * Rebuilds a chunk section packed with dense cables into a display list, running the cable renderers for every cable
+ * and replaying the geometry kept by {@code CableGeometryCache} while one cable changes between rebuilds.
+ * <p>
+ * The cable renderers only draw into {@link Tessellator#instance}, which belongs to the client thread and is still
+ * drawing the loading screen while the tests run. The test checks that the cache can read the buffer of a
+ * {@link Tessellator} of its own, the rebuilds run on the first client tick and a failed check there stops the client
+ * with the assertion. Nothing is rendered on a dedicated server.
+ */
+public class CableGeometryBenchmark {
+
+    @Test
+    void rebuildDenseCableSection() {
+        assumeTrue(FMLCommonHandler.instance().getSide().isClient(), "needs a client to render on");
+        assertTrue(CableGeometryCache.getInstance().isSupported(), "the Tessellator buffer can't be read");
+        FMLCommonHandler.instance().bus().register(new Runner());
+    }
+
+    public static final class Runner {
+
+        private static final int SIZE = 16;
+        private static final int ROUNDS = 20;
+        /**
+         * Above the build limit, so the client world has nothing there to connect the cables to.
+         */
+        private static final int BASE_Y = 300;
+
+        private final Map<Long, TileCableBus> tiles = new HashMap<>();
+        private final Block multiPart = AEApi.instance().definitions().blocks().multiPart().maybeBlock().get();
+        private final IBlockAccess section = new Section();
+        private boolean done = false;
+
+        private static long key(final int x, final int y, final int z) {
+            return ((long) x << 42) ^ ((long) y << 21) ^ z;
+        }
+
+        private TileCableBus tile(final int x, final int y, final int z) {
+            return this.tiles.get(key(x, y, z));
+        }
+
+        /**
+         * Syncs a powered dense cable connected to all cables next to it, as the server would.
+         */
+        private static void sync(final TileCableBus tile, final int x, final int y, final int z, final int salt)
+                throws IOException {
+            final ItemStack cable = AEApi.instance().definitions().parts().cableDense()
+                    .stack(AEColor.values()[(x + z) % AEColor.values().length], 1);
+
+            int connections = 1 << ForgeDirection.UNKNOWN.ordinal();
+            int channels = 0;
+            for (final ForgeDirection side : ForgeDirection.VALID_DIRECTIONS) {
+                final int nx = x + side.offsetX;
+                final int ny = y + side.offsetY;
+                final int nz = z + side.offsetZ;
+                if (nx >= 0 && nx < SIZE && ny >= 0 && ny < SIZE && nz >= 0 && nz < SIZE) {
+                    connections |= 1 << side.ordinal();
+                    channels |= ((x + y + z + side.ordinal() + salt) % 9) << (4 * side.ordinal());
+                }
+            }
+
+            final ByteBuf data = Unpooled.buffer();
+            data.writeByte(1 << ForgeDirection.UNKNOWN.ordinal());
+            data.writeShort(Item.getIdFromItem(cable.getItem()));
+            data.writeShort(cable.getItemDamage());
+            data.writeByte(connections);
+            data.writeInt(channels);
+            data.writeByte(0); // no facades
+            tile.getCableBus().readFromStream(data);
+        }
+
+        private void build() throws IOException {
+            for (int x = 0; x < SIZE; x++) {
+                for (int y = 0; y < SIZE; y++) {
+                    for (int z = 0; z < SIZE; z++) {
+                        final TileCableBus tile = new TileCableBus();
+                        tile.xCoord = x;
+                        tile.yCoord = BASE_Y + y;
+                        tile.zCoord = z;
+                        sync(tile, x, y, z, 0);
+                        tile.setWorldObj(Minecraft.getMinecraft().theWorld);
+                        this.tiles.put(key(x, BASE_Y + y, z), tile);
+                    }
+                }
+            }
+        }
+
+        /**
+         * Compiles the whole section into a display list the way a chunk rebuild does.
+         *
+         * @return the rebuild time, the buffer is stored in {@code buffer} if it isn't null.
+         */
+        private long rebuild(final TesselatorVertexState[] buffer) {
+            final Tessellator tess = Tessellator.instance;
+            final RenderBlocks renderer = BusRenderer.INSTANCE.getRenderer();
+            final int list = GLAllocation.generateDisplayLists(1);
+
+            GL11.glNewList(list, GL11.GL_COMPILE);
+            final long start = System.nanoTime();
+            tess.startDrawingQuads();
+            tess.setTranslation(0, -BASE_Y, 0);
+            for (final TileCableBus tile : this.tiles.values()) {
+                BusRenderHelper.INSTANCE.setPass(0);
+                renderer.renderAllFaces = true;
+                renderer.blockAccess = this.section;
+                renderer.overrideBlockTexture = null;
+                tile.getCableBus().renderStatic(tile.xCoord, tile.yCoord, tile.zCoord);
+                renderer.renderAllFaces = false;
+            }
+            final long time = System.nanoTime() - start;
+
+            if (buffer != null) {
+                buffer[0] = tess.getVertexState(0, 0, 0);
+            }
+            tess.draw();
+            tess.setTranslation(0, 0, 0);
+            GL11.glEndList();
+            GLAllocation.deleteDisplayLists(list);
+            return time;
+        }
+
+        private void run() throws IOException {
+            final boolean cacheEnabled = AEConfig.instance.cableGeometryCache;
+            final IBlockAccess blockAccess = BusRenderer.INSTANCE.getRenderer().blockAccess;
+            try {
+                this.build();
+                final TileCableBus changing = this.tile(SIZE / 2, BASE_Y + SIZE / 2, SIZE / 2);
+
+                // replayed quads have to match freshly rendered ones before the timings mean anything
+                final TesselatorVertexState[] rendered = new TesselatorVertexState[1];
+                final TesselatorVertexState[] replayed = new TesselatorVertexState[1];
+                AEConfig.instance.cableGeometryCache = true;
+                this.rebuild(null);
+                sync(changing, SIZE / 2, SIZE / 2, SIZE / 2, 1);
+                this.rebuild(replayed);
+                AEConfig.instance.cableGeometryCache = false;
+                this.rebuild(rendered);
+                assertNotNull(rendered[0]);
+                assertEquals(rendered[0].getVertexCount(), replayed[0].getVertexCount());
+                assertArrayEquals(rendered[0].getRawBuffer(), replayed[0].getRawBuffer());
+
+                long renderTime = 0;
+                for (int round = 0; round < ROUNDS; round++) {
+                    sync(changing, SIZE / 2, SIZE / 2, SIZE / 2, round);
+                    renderTime += this.rebuild(null);
+                }
+
+                AEConfig.instance.cableGeometryCache = true;
+                final long coldTime = this.rebuild(null);
+                long replayTime = 0;
+                for (int round = 0; round < ROUNDS; round++) {
+                    sync(changing, SIZE / 2, SIZE / 2, SIZE / 2, round);
+                    replayTime += this.rebuild(null);
+                }
+
+                System.out.printf(
+                        "Rebuild of %d dense cables (%d vertices) with one cable changed: rendered %d us,"
+                                + " first cached %d us, replayed %d us%n",
+                        this.tiles.size(),
+                        rendered[0].getVertexCount(),
+                        renderTime / ROUNDS / 1000,
+                        coldTime / 1000,
+                        replayTime / ROUNDS / 1000);
+            } finally {
+                AEConfig.instance.cableGeometryCache = cacheEnabled;
+                BusRenderer.INSTANCE.getRenderer().blockAccess = blockAccess;
+            }
+        }
+
+        @SubscribeEvent
+        public void onClientTick(final TickEvent.ClientTickEvent ev) {
+            if (this.done || ev.phase != TickEvent.Phase.END || Minecraft.getMinecraft().theWorld == null) {
+                return;
+            }
+
+            this.done = true;
+            FMLCommonHandler.instance().bus().unregister(this);
+            try {
+                this.run();
+            } catch (final IOException e) {
+                fail("Unable to sync the cables", e);
+            }
+        }
+
+        /**
+         * The section being rebuilt: the cables in full sky light and air around them.
+         */
+        private final class Section implements IBlockAccess {
+
+            @Override
+            public Block getBlock(final int x, final int y, final int z) {
+                return Runner.this.tile(x, y, z) != null ? Runner.this.multiPart : Blocks.air;
+            }
+
+            @Override
+            public TileEntity getTileEntity(final int x, final int y, final int z) {
+                return Runner.this.tile(x, y, z);
+            }
+
+            @Override
+            public int getLightBrightnessForSkyBlocks(final int x, final int y, final int z, final int blockLight) {
+                return 15 << 20 | Math.max(blockLight, 0) << 4;
+            }
+
+            @Override
+            public int getBlockMetadata(final int x, final int y, final int z) {
+                return 0;
+            }
+
+            @Override
+            public int isBlockProvidingPowerTo(final int x, final int y, final int z, final int side) {
+                return 0;
+            }
+
+            @Override
+            public boolean isAirBlock(final int x, final int y, final int z) {
+                return Runner.this.tile(x, y, z) == null;
+            }
+
+            @Override
+            public BiomeGenBase getBiomeGenForCoords(final int x, final int z) {
+                return BiomeGenBase.plains;
+            }
+
+            @Override
+            public int getHeight() {
+                return 512;
+            }
+
+            @Override
+            public boolean extendedLevelsInChunkCache() {
+                return false;
+            }
+
+            @Override
+            public boolean isSideSolid(final int x, final int y, final int z, final ForgeDirection side,
+                    final boolean _default) {
+                return false;
+            }
+        }
+    }
+}
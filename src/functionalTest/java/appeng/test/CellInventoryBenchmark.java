@@ -0,0 +1,105 @@
+package appeng.test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import net.minecraft.init.Blocks;
+import net.minecraft.init.Items;
+import net.minecraft.item.ItemStack;
+
+import org.junit.jupiter.api.Test;
+
+import appeng.api.AEApi;
+import appeng.api.config.Actionable;
+import appeng.api.networking.security.BaseActionSource;
+import appeng.api.storage.IMEInventoryHandler;
+import appeng.api.storage.data.IAEItemStack;
+import appeng.api.storage.data.IItemList;
+import appeng.me.storage.CellInventory;
+import appeng.util.item.AEItemStack;
+
+/**
+ * Compares the keyed {@link IMEInventoryHandler#getAvailableItem} of a full 63-type cell with the linear scan it
+ * replaced.
+ */
+public class CellInventoryBenchmark {
+
+    private static final int TYPES = 63;
+    private static final int ROUNDS = 2_000;
+
+    private static List<IAEItemStack> makeTypes() {
+        final List<IAEItemStack> types = new ArrayList<>();
+        for (int meta = 0; meta < 16; meta++) {
+            types.add(AEItemStack.create(new ItemStack(Blocks.wool, 100, meta)));
+            types.add(AEItemStack.create(new ItemStack(Blocks.stained_hardened_clay, 100, meta)));
+            types.add(AEItemStack.create(new ItemStack(Blocks.stained_glass, 100, meta)));
+            types.add(AEItemStack.create(new ItemStack(Items.dye, 100, meta)));
+        }
+        return types.subList(0, TYPES);
+    }
+
+    /**
+     * The lookup {@link CellInventory} used to do, walking all stored types.
+     */
+    private static long scan(final IItemList<IAEItemStack> cellItems, final IAEItemStack request) {
+        long count = 0;
+        for (final IAEItemStack is : cellItems) {
+            if (is != null && is.getStackSize() > 0 && is.isSameType(request)) {
+                count += is.getStackSize();
+            }
+        }
+        return count;
+    }
+
+    @Test
+    void availableItemOnFullCell() {
+        final ItemStack cellStack = AEApi.instance().definitions().items().cell64k().maybeStack(1).get();
+        final IMEInventoryHandler<IAEItemStack> cell = CellInventory.getCell(cellStack, null);
+        assertNotNull(cell);
+
+        final List<IAEItemStack> types = makeTypes();
+        for (final IAEItemStack type : types) {
+            assertNull(cell.injectItems(type.copy(), Actionable.MODULATE, new BaseActionSource()));
+        }
+        final IAEItemStack missing = AEItemStack.create(new ItemStack(Items.stick, 1));
+        final IItemList<IAEItemStack> stored = cell.getAvailableItems(AEApi.instance().storage().createItemList());
+        assertEquals(TYPES, stored.size());
+
+        // Both lookups have to agree before their timings mean anything.
+        for (final IAEItemStack type : types) {
+            final IAEItemStack found = cell.getAvailableItem(type);
+            assertNotNull(found, type::toString);
+            assertEquals(scan(stored, type), found.getStackSize(), type::toString);
+        }
+        assertNull(cell.getAvailableItem(missing));
+        assertEquals(0, scan(stored, missing));
+
+        long sink = 0;
+        final long scanStart = System.nanoTime();
+        for (int round = 0; round < ROUNDS; round++) {
+            for (final IAEItemStack type : types) {
+                sink += scan(stored, type);
+            }
+        }
+        final long scanTime = System.nanoTime() - scanStart;
+
+        final long keyedStart = System.nanoTime();
+        for (int round = 0; round < ROUNDS; round++) {
+            for (final IAEItemStack type : types) {
+                sink -= cell.getAvailableItem(type).getStackSize();
+            }
+        }
+        final long keyedTime = System.nanoTime() - keyedStart;
+
+        assertEquals(0, sink);
+
+        final long lookups = (long) ROUNDS * TYPES;
+        System.out.printf(
+                "getAvailableItem on a %d-type cell: scan %d ns/op, keyed %d ns/op%n",
+                TYPES,
+                scanTime / lookups,
+                keyedTime / lookups);
+    }
+}
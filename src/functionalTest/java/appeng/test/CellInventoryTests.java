@@ -0,0 +1,62 @@
+package appeng.test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import net.minecraft.init.Blocks;
+import net.minecraft.init.Items;
+import net.minecraft.item.ItemStack;
+
+import org.junit.jupiter.api.Test;
+
+import appeng.api.AEApi;
+import appeng.api.config.Actionable;
+import appeng.api.networking.security.BaseActionSource;
+import appeng.api.storage.IMEInventoryHandler;
+import appeng.api.storage.data.IAEItemStack;
+import appeng.me.storage.CellInventory;
+import appeng.util.item.AEItemStack;
+
+public class CellInventoryTests {
+
+    private static final int TYPES = 63;
+
+    private static IAEItemStack type(final int i) {
+        final ItemStack[] kinds = { new ItemStack(Blocks.wool), new ItemStack(Blocks.stained_glass),
+                new ItemStack(Blocks.stained_hardened_clay), new ItemStack(Items.dye) };
+        final ItemStack stack = kinds[i % kinds.length];
+        return AEItemStack.create(new ItemStack(stack.getItem(), 10, i / kinds.length));
+    }
+
+    @Test
+    void emptiedTypeCountsAsNewTypeOnFullCell() {
+        final ItemStack cellStack = AEApi.instance().definitions().items().cell64k().maybeStack(1).get();
+        final IMEInventoryHandler<IAEItemStack> cell = CellInventory.getCell(cellStack, null);
+        assertNotNull(cell);
+        final BaseActionSource src = new BaseActionSource();
+
+        for (int i = 0; i < TYPES; i++) {
+            assertNull(cell.injectItems(type(i), Actionable.MODULATE, src));
+        }
+        final IAEItemStack extra = AEItemStack.create(new ItemStack(Items.stick, 10));
+        assertNotNull(cell.injectItems(extra.copy(), Actionable.MODULATE, src));
+
+        // empty one type and fill its slot with another one, the emptied type has no room left
+        final IAEItemStack emptied = type(0);
+        assertEquals(10, cell.extractItems(emptied.copy(), Actionable.MODULATE, src).getStackSize());
+        assertNull(cell.injectItems(extra.copy(), Actionable.MODULATE, src));
+        assertEquals(emptied, cell.injectItems(emptied.copy(), Actionable.SIMULATE, src));
+        assertEquals(emptied, cell.injectItems(emptied.copy(), Actionable.MODULATE, src));
+        assertNull(cell.getAvailableItem(emptied));
+        assertNull(cell.extractItems(emptied.copy(), Actionable.MODULATE, src));
+
+        // empty another type, the first one can come back into its slot
+        assertEquals(10, cell.extractItems(type(1), Actionable.MODULATE, src).getStackSize());
+        assertNull(cell.injectItems(emptied.copy(), Actionable.MODULATE, src));
+        assertEquals(10, cell.getAvailableItem(emptied).getStackSize());
+
+        final IMEInventoryHandler<IAEItemStack> reloaded = CellInventory.getCell(cellStack, null);
+        assertEquals(TYPES, reloaded.getAvailableItems(AEApi.instance().storage().createItemList()).size());
+        assertEquals(10, reloaded.getAvailableItem(emptied).getStackSize());
+        assertNull(reloaded.getAvailableItem(type(1)));
+    }
+}
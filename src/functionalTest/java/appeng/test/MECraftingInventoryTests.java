@@ -0,0 +1,57 @@
+package appeng.test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Collection;
+
+import net.minecraft.init.Items;
+import net.minecraft.item.ItemStack;
+
+import org.junit.jupiter.api.Test;
+
+import appeng.api.config.Actionable;
+import appeng.api.config.FuzzyMode;
+import appeng.api.networking.security.BaseActionSource;
+import appeng.api.storage.data.IAEItemStack;
+import appeng.crafting.MECraftingInventory;
+import appeng.util.item.AEItemStack;
+
+public class MECraftingInventoryTests {
+
+    private static final class CountingInventory extends MECraftingInventory {
+
+        private int fuzzyReads = 0;
+
+        @Override
+        public Collection<IAEItemStack> findFuzzy(final IAEItemStack filter, final FuzzyMode fuzzy) {
+            this.fuzzyReads++;
+            return super.findFuzzy(filter, fuzzy);
+        }
+    }
+
+    @Test
+    void repeatedFuzzyLookupsReadParentOnce() {
+        final BaseActionSource src = new BaseActionSource();
+        final CountingInventory parent = new CountingInventory();
+        parent.injectItems(AEItemStack.create(new ItemStack(Items.dye, 8, 1)), Actionable.MODULATE, src);
+        parent.injectItems(AEItemStack.create(new ItemStack(Items.dye, 4, 2)), Actionable.MODULATE, src);
+        final MECraftingInventory child = new MECraftingInventory(parent);
+        final IAEItemStack filter = AEItemStack.create(new ItemStack(Items.dye, 1, 0));
+
+        assertEquals(2, child.findFuzzy(filter, FuzzyMode.IGNORE_ALL).size());
+        assertEquals(1, parent.fuzzyReads);
+
+        // the second lookup answers from the child's own records, which include its extracts
+        child.extractItems(AEItemStack.create(new ItemStack(Items.dye, 3, 1)), Actionable.MODULATE, src);
+        long total = 0;
+        for (final IAEItemStack is : child.findFuzzy(filter, FuzzyMode.IGNORE_ALL)) {
+            total += is.getStackSize();
+        }
+        assertEquals(9, total);
+        assertEquals(1, parent.fuzzyReads);
+
+        // another mode is another read
+        child.findFuzzy(filter, FuzzyMode.PERCENT_99);
+        assertEquals(2, parent.fuzzyReads);
+    }
+}
@@ -0,0 +1,99 @@
+package appeng.test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+import net.minecraft.init.Items;
+import net.minecraft.item.ItemStack;
+
+import org.junit.jupiter.api.Test;
+
+import appeng.api.config.FuzzyMode;
+import appeng.api.networking.security.BaseActionSource;
+import appeng.api.networking.storage.IBaseMonitor;
+import appeng.api.storage.IMEMonitorHandlerReceiver;
+import appeng.api.storage.data.IAEItemStack;
+import appeng.me.cache.NetworkMonitor;
+import appeng.test.mockme.MockAESystem;
+import appeng.util.item.AEItemStack;
+
+public class NetworkMonitorTests {
+
+    /**
+     * Stores another stack while the monitor tells its listeners about a change, the monitor doesn't post that one.
+     */
+    private static final class NestedStore implements IMEMonitorHandlerReceiver<IAEItemStack> {
+
+        private final MockAESystem system;
+        private ItemStack nested;
+
+        private NestedStore(final MockAESystem system, final ItemStack nested) {
+            this.system = system;
+            this.nested = nested;
+        }
+
+        @Override
+        public boolean isValid(final Object verificationToken) {
+            return true;
+        }
+
+        @Override
+        public void postChange(final IBaseMonitor<IAEItemStack> monitor, final Iterable<IAEItemStack> change,
+                final BaseActionSource actionSource) {
+            if (this.nested != null) {
+                final ItemStack stack = this.nested;
+                this.nested = null;
+                this.system.addStoredItem(stack);
+            }
+        }
+
+        @Override
+        public void onListUpdate() {}
+    }
+
+    @SuppressWarnings("unchecked")
+    private static NetworkMonitor<IAEItemStack> monitor(final MockAESystem system) {
+        return (NetworkMonitor<IAEItemStack>) system.sgCache.getItemInventory();
+    }
+
+    @Test
+    void matchIndexSeesTypeStoredDuringChange() {
+        final MockAESystem system = new MockAESystem(null);
+        final NetworkMonitor<IAEItemStack> monitor = monitor(system);
+        final Predicate<IAEItemStack> gold = stack -> stack.getItem() == Items.gold_ingot;
+
+        system.addStoredItem(new ItemStack(Items.iron_ingot, 10));
+        assertTrue(monitor.getMatchingStacks(gold).isEmpty());
+
+        monitor.addListener(new NestedStore(system, new ItemStack(Items.gold_ingot, 5)), null);
+        system.addStoredItem(new ItemStack(Items.iron_ingot, 1));
+
+        final List<IAEItemStack> matching = monitor.getMatchingStacks(gold);
+        assertEquals(1, matching.size());
+        assertEquals(5, matching.get(0).getStackSize());
+    }
+
+    @Test
+    void storedCountsSeeStackStoredDuringChange() {
+        final MockAESystem system = new MockAESystem(null);
+        final NetworkMonitor<IAEItemStack> monitor = monitor(system);
+        final IAEItemStack gold = AEItemStack.create(new ItemStack(Items.gold_ingot, 1));
+
+        system.addStoredItem(new ItemStack(Items.iron_ingot, 10));
+        assertEquals(10, monitor.getStoredCount());
+        assertEquals(0, monitor.getFuzzyStoredCount(gold, FuzzyMode.IGNORE_ALL));
+
+        monitor.addListener(new NestedStore(system, new ItemStack(Items.gold_ingot, 5)), null);
+        system.addStoredItem(new ItemStack(Items.iron_ingot, 1));
+
+        assertEquals(16, monitor.getStoredCount());
+        assertEquals(5, monitor.getFuzzyStoredCount(gold, FuzzyMode.IGNORE_ALL));
+
+        // posted changes keep the sums up to date
+        system.addStoredItem(new ItemStack(Items.gold_ingot, 2));
+        assertEquals(18, monitor.getStoredCount());
+        assertEquals(7, monitor.getFuzzyStoredCount(gold, FuzzyMode.IGNORE_ALL));
+    }
+}
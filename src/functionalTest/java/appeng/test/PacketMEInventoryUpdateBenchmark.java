@@ -0,0 +1,181 @@
+package appeng.test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+
+import org.junit.jupiter.api.Test;
+
+import appeng.api.storage.data.IAEItemStack;
+import appeng.core.sync.packets.PacketMEInventoryUpdate;
+import appeng.util.item.AEItemStack;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+
+/**
+ * Compares the size and speed of {@link PacketMEInventoryUpdate} with the per-stack flushing encoder it replaced.
+ */
+public class PacketMEInventoryUpdateBenchmark {
+
+    private static final int TYPES = 20_000;
+    private static final int ROUNDS = 10;
+
+    private static List<IAEItemStack> makeStacks() {
+        final List<IAEItemStack> stacks = new ArrayList<>();
+        int size = 1;
+        outer: for (int meta = 0; meta < 64; meta++) {
+            for (final Object o : Item.itemRegistry) {
+                stacks.add(AEItemStack.create(new ItemStack((Item) o, size, meta)));
+                size = size * 31 % 100_003;
+                if (stacks.size() >= TYPES) {
+                    break outer;
+                }
+            }
+        }
+        return stacks;
+    }
+
+    /**
+     * The encoder {@link PacketMEInventoryUpdate} used to have, returns the compressed stacks.
+     */
+    private static ByteBuf encodeLegacy(final List<IAEItemStack> stacks) throws IOException {
+        final ByteBuf data = Unpooled.buffer(2 * 1024);
+        final GZIPOutputStream compressFrame = new GZIPOutputStream(new OutputStream() {
+
+            @Override
+            public void write(final int value) throws IOException {
+                data.writeByte(value);
+            }
+        });
+
+        for (final IAEItemStack is : stacks) {
+            final ByteBuf tmp = Unpooled.buffer(2 * 1024);
+            is.writeToPacket(tmp);
+
+            compressFrame.flush();
+            compressFrame.write(tmp.array(), 0, tmp.readableBytes());
+        }
+        compressFrame.close();
+        return data;
+    }
+
+    /**
+     * Encodes with the current packet, returns the compressed stacks without the packet header.
+     */
+    private static ByteBuf encode(final List<IAEItemStack> stacks) throws IOException {
+        final PacketMEInventoryUpdate piu = new PacketMEInventoryUpdate();
+        for (final IAEItemStack is : stacks) {
+            piu.appendItem(is);
+        }
+        final ByteBuf payload = piu.getProxy().payload();
+        payload.readInt(); // packet id
+        payload.readByte(); // ref
+        return payload.slice();
+    }
+
+    private static ByteBuf withRef(final ByteBuf compressed) {
+        final ByteBuf packet = Unpooled.buffer(compressed.readableBytes() + 1);
+        packet.writeByte(0);
+        packet.writeBytes(compressed, compressed.readerIndex(), compressed.readableBytes());
+        return packet;
+    }
+
+    private static List<IAEItemStack> decodePlain(final ByteBuf compressed) throws IOException {
+        final byte[] bytes = new byte[compressed.readableBytes()];
+        compressed.getBytes(compressed.readerIndex(), bytes);
+        final InputStream in = new GZIPInputStream(new ByteArrayInputStream(bytes));
+        final ByteBuf uncompressed = Unpooled.buffer();
+        while (uncompressed.writeBytes(in, 1024) >= 0) {
+            // keep reading
+        }
+
+        final List<IAEItemStack> stacks = new ArrayList<>();
+        while (uncompressed.readableBytes() > 0) {
+            stacks.add(AEItemStack.loadItemStackFromPacket(uncompressed));
+        }
+        return stacks;
+    }
+
+    @Test
+    void encodeAndDecode() throws IOException {
+        final List<IAEItemStack> stacks = makeStacks();
+
+        // both encoders have to produce the same stacks before their numbers mean anything
+        final ByteBuf legacy = encodeLegacy(stacks);
+        final ByteBuf current = encode(stacks);
+        final List<IAEItemStack> fromLegacy = decodePlain(legacy);
+        final List<IAEItemStack> fromCurrent = decodePlain(current);
+        assertEquals(stacks.size(), fromCurrent.size());
+        for (int i = 0; i < stacks.size(); i++) {
+            assertEquals(stacks.get(i), fromCurrent.get(i));
+            assertEquals(stacks.get(i).getStackSize(), fromCurrent.get(i).getStackSize());
+            assertEquals(fromLegacy.get(i).getStackSize(), fromCurrent.get(i).getStackSize());
+        }
+        assertFalse(new PacketMEInventoryUpdate(withRef(legacy)).isEmpty());
+        assertFalse(new PacketMEInventoryUpdate(withRef(current)).isEmpty());
+
+        long legacyEncode = 0;
+        long currentEncode = 0;
+        long legacyDecode = 0;
+        long currentDecode = 0;
+        for (int round = 0; round < ROUNDS; round++) {
+            long start = System.nanoTime();
+            final ByteBuf l = encodeLegacy(stacks);
+            legacyEncode += System.nanoTime() - start;
+
+            start = System.nanoTime();
+            final ByteBuf c = encode(stacks);
+            currentEncode += System.nanoTime() - start;
+
+            // the old decoder read one byte at a time, the current one reads the same stream in bulk
+            final ByteBuf lp = withRef(l);
+            start = System.nanoTime();
+            lp.readByte();
+            final GZIPInputStream gzReader = new GZIPInputStream(new InputStream() {
+
+                @Override
+                public int read() {
+                    return lp.readableBytes() <= 0 ? -1 : lp.readByte() & 0xff;
+                }
+            });
+            final ByteBuf uncompressed = Unpooled.buffer(lp.readableBytes());
+            final byte[] tmp = new byte[1024];
+            while (gzReader.available() != 0) {
+                final int bytes = gzReader.read(tmp);
+                if (bytes > 0) {
+                    uncompressed.writeBytes(tmp, 0, bytes);
+                }
+            }
+            while (uncompressed.readableBytes() > 0) {
+                AEItemStack.loadItemStackFromPacket(uncompressed);
+            }
+            legacyDecode += System.nanoTime() - start;
+
+            final ByteBuf cp = withRef(c);
+            start = System.nanoTime();
+            new PacketMEInventoryUpdate(cp);
+            currentDecode += System.nanoTime() - start;
+        }
+
+        System.out.printf(
+                "PacketMEInventoryUpdate with %d stacks: legacy %d bytes, %d us encode, %d us decode;"
+                        + " current %d bytes, %d us encode, %d us decode%n",
+                stacks.size(),
+                legacy.readableBytes(),
+                legacyEncode / ROUNDS / 1000,
+                legacyDecode / ROUNDS / 1000,
+                current.readableBytes(),
+                currentEncode / ROUNDS / 1000,
+                currentDecode / ROUNDS / 1000);
+    }
+}
@@ -0,0 +1,77 @@
+package appeng.test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import net.minecraft.init.Items;
+import net.minecraft.inventory.InventoryBasic;
+import net.minecraft.inventory.InventoryCrafting;
+import net.minecraft.item.ItemStack;
+import net.minecraftforge.common.util.ForgeDirection;
+
+import org.junit.jupiter.api.Test;
+
+import appeng.api.config.InsertionMode;
+import appeng.container.ContainerNull;
+import appeng.helpers.DualityInterface;
+import appeng.util.InventoryAdaptor;
+
+public class PatternPushTests {
+
+    private static InventoryCrafting copy(final int iron, final int gold) {
+        final InventoryCrafting table = new InventoryCrafting(new ContainerNull(), 2, 1);
+        table.setInventorySlotContents(0, new ItemStack(Items.iron_ingot, iron));
+        table.setInventorySlotContents(1, new ItemStack(Items.gold_ingot, gold));
+        return table;
+    }
+
+    private static int count(final InventoryBasic inv, final ItemStack kind) {
+        int count = 0;
+        for (int x = 0; x < inv.getSizeInventory(); x++) {
+            final ItemStack is = inv.getStackInSlot(x);
+            if (is != null && is.isItemEqual(kind)) {
+                count += is.stackSize;
+            }
+        }
+        return count;
+    }
+
+    @Test
+    void batchStopsAtFirstCopyThatDoesNotFit() {
+        final InventoryBasic inv = new InventoryBasic("target", false, 2);
+        final List<ItemStack> leftovers = new ArrayList<>();
+
+        // every stack of three copies fits on its own, but the iron would take the slot the gold needs
+        final int pushed = DualityInterface.addPatternCopies(
+                InventoryAdaptor.getAdaptor(inv, ForgeDirection.UNKNOWN),
+                copy(40, 40),
+                3,
+                InsertionMode.DEFAULT,
+                leftovers::add);
+
+        assertEquals(1, pushed);
+        assertTrue(leftovers.isEmpty());
+        assertEquals(40, count(inv, new ItemStack(Items.iron_ingot)));
+        assertEquals(40, count(inv, new ItemStack(Items.gold_ingot)));
+    }
+
+    @Test
+    void batchFillsSmallInventoryWithoutOverflow() {
+        final InventoryBasic inv = new InventoryBasic("target", false, 4);
+        final List<ItemStack> leftovers = new ArrayList<>();
+
+        final int pushed = DualityInterface.addPatternCopies(
+                InventoryAdaptor.getAdaptor(inv, ForgeDirection.UNKNOWN),
+                copy(16, 16),
+                10,
+                InsertionMode.DEFAULT,
+                leftovers::add);
+
+        assertEquals(8, pushed);
+        assertTrue(leftovers.isEmpty());
+        assertEquals(8 * 16, count(inv, new ItemStack(Items.iron_ingot)));
+        assertEquals(8 * 16, count(inv, new ItemStack(Items.gold_ingot)));
+    }
+}
@@ -0,0 +1,154 @@
+package appeng.test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import net.minecraft.inventory.InventoryCrafting;
+import net.minecraft.item.ItemStack;
+import net.minecraft.item.crafting.CraftingManager;
+import net.minecraft.item.crafting.IRecipe;
+import net.minecraft.item.crafting.ShapedRecipes;
+import net.minecraft.item.crafting.ShapelessRecipes;
+import net.minecraftforge.oredict.OreDictionary;
+
+import org.junit.jupiter.api.Test;
+
+import appeng.container.ContainerNull;
+import appeng.util.RecipeIndex;
+
+/**
+ * Compares {@link RecipeIndex} with the scan of the whole recipe list it replaced, on grids filled from the registered
+ * recipes and on grids no recipe matches.
+ */
+public class RecipeIndexBenchmark {
+
+    private static final int GRIDS = 2_000;
+    private static final int WARMUP_ROUNDS = 2;
+    private static final int ROUNDS = 5;
+
+    private static ItemStack single(final ItemStack is) {
+        if (is == null) {
+            return null;
+        }
+        final ItemStack copy = is.copy();
+        copy.stackSize = 1;
+        if (copy.getItemDamage() == OreDictionary.WILDCARD_VALUE) {
+            copy.setItemDamage(0);
+        }
+        return copy;
+    }
+
+    private static List<InventoryCrafting> makeGrids(final List<IRecipe> recipes) {
+        final List<InventoryCrafting> grids = new ArrayList<>();
+        final int step = Math.max(1, recipes.size() / GRIDS);
+        for (int x = 0; x < recipes.size() && grids.size() < GRIDS; x += step) {
+            final InventoryCrafting ic = new InventoryCrafting(new ContainerNull(), 3, 3);
+            final IRecipe r = recipes.get(x);
+            if (r instanceof ShapedRecipes shaped) {
+                for (int y = 0; y < shaped.recipeHeight; y++) {
+                    for (int z = 0; z < shaped.recipeWidth; z++) {
+                        ic.setInventorySlotContents(
+                                y * 3 + z,
+                                single(shaped.recipeItems[y * shaped.recipeWidth + z]));
+                    }
+                }
+            } else if (r instanceof ShapelessRecipes shapeless && shapeless.recipeItems.size() <= 9) {
+                for (int y = 0; y < shapeless.recipeItems.size(); y++) {
+                    ic.setInventorySlotContents(y, single((ItemStack) shapeless.recipeItems.get(y)));
+                }
+            } else {
+                // a nonsense grid no recipe should accept
+                for (int y = 0; y < 9; y++) {
+                    ic.setInventorySlotContents(y, single(grids.isEmpty() ? null : firstStack(grids.get(0))));
+                }
+            }
+
+            try {
+                scan(recipes, ic);
+            } catch (final RuntimeException e) {
+                // some recipes need a real world, leave their grids out
+                continue;
+            }
+            grids.add(ic);
+        }
+        return grids;
+    }
+
+    private static ItemStack firstStack(final InventoryCrafting ic) {
+        for (int x = 0; x < ic.getSizeInventory(); x++) {
+            if (ic.getStackInSlot(x) != null) {
+                return ic.getStackInSlot(x);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * The lookup Platform.findMatchingRecipe used to do.
+     */
+    private static IRecipe scan(final List<IRecipe> recipes, final InventoryCrafting ic) {
+        for (final IRecipe r : recipes) {
+            if (r.matches(ic, null)) {
+                return r;
+            }
+        }
+        return null;
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void findMatchingRecipe() {
+        final List<IRecipe> recipes = CraftingManager.getInstance().getRecipeList();
+        final List<InventoryCrafting> grids = makeGrids(recipes);
+
+        final long buildStart = System.nanoTime();
+        RecipeIndex.invalidate();
+        final RecipeIndex index = RecipeIndex.getIndex();
+        final long buildTime = System.nanoTime() - buildStart;
+        assertEquals(recipes.size(), index.size());
+
+        // both lookups have to find the same recipe before their timings mean anything
+        int found = 0;
+        for (final InventoryCrafting ic : grids) {
+            final IRecipe expected = scan(recipes, ic);
+            assertSame(expected, index.findMatchingRecipe(ic, null));
+            if (expected != null) {
+                found++;
+            }
+        }
+
+        long scanTime = 0;
+        long indexTime = 0;
+        for (int round = 0; round < WARMUP_ROUNDS + ROUNDS; round++) {
+            long start = System.nanoTime();
+            for (final InventoryCrafting ic : grids) {
+                scan(recipes, ic);
+            }
+            final long scanned = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            for (final InventoryCrafting ic : grids) {
+                index.findMatchingRecipe(ic, null);
+            }
+            final long indexed = System.nanoTime() - start;
+
+            if (round >= WARMUP_ROUNDS) {
+                scanTime += scanned;
+                indexTime += indexed;
+            }
+        }
+
+        final long lookups = (long) ROUNDS * grids.size();
+        System.out.printf(
+                "findMatchingRecipe over %d recipes, %d of %d grids craftable: index built in %d ms,"
+                        + " scan %d ns/op, index %d ns/op%n",
+                recipes.size(),
+                found,
+                grids.size(),
+                buildTime / 1_000_000,
+                scanTime / lookups,
+                indexTime / lookups);
+    }
+}
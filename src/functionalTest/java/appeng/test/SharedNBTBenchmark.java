@@ -0,0 +1,138 @@
+package appeng.test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.WeakHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+
+import net.minecraft.init.Items;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraft.nbt.NBTTagCompound;
+
+import org.junit.jupiter.api.Test;
+
+import appeng.api.storage.data.IAETagCompound;
+import appeng.util.item.AEItemStack;
+import appeng.util.item.AESharedNBT;
+import appeng.util.item.SharedSearchObject;
+
+/**
+ * Creates NBT-bearing stacks from several threads at once, with the synchronized {@link WeakHashMap} interning
+ * {@link AESharedNBT} used to have and with the current lock free table.
+ * <p>
+ * The current side runs the whole {@link AEItemStack#create} while the legacy side only runs the old interning, so the
+ * difference is a lower bound.
+ */
+public class SharedNBTBenchmark {
+
+    private static final int TAGS = 512;
+    private static final int OPS_PER_THREAD = 200_000;
+    private static final int THREADS = Math.max(4, Runtime.getRuntime().availableProcessors());
+
+    private static final WeakHashMap<SharedSearchObject, NBTTagCompound> LEGACY_TABLE = new WeakHashMap<>();
+    /**
+     * Stands in for the shared compounds that kept the weak keys of the legacy table alive.
+     */
+    private static final List<SharedSearchObject> LEGACY_SHARED = new ArrayList<>();
+
+    private static List<ItemStack> makeStacks() {
+        final Item[] items = { Items.diamond_sword, Items.iron_pickaxe, Items.enchanted_book, Items.written_book };
+        final List<ItemStack> stacks = new ArrayList<>();
+        for (int i = 0; i < TAGS; i++) {
+            final NBTTagCompound tag = new NBTTagCompound();
+            tag.setInteger("id", i);
+            tag.setString("owner", "player" + (i % 17));
+            final ItemStack stack = new ItemStack(items[i % items.length], 1, 0);
+            stack.setTagCompound(tag);
+            stacks.add(stack);
+        }
+        return stacks;
+    }
+
+    /**
+     * The interning {@code AESharedNBT.getSharedTagCompound} used to do, under one lock for all threads.
+     */
+    private static synchronized NBTTagCompound legacyIntern(final NBTTagCompound tagCompound, final ItemStack s) {
+        int meta = -1;
+        if (s.getItem() != null && s.isItemStackDamageable() && s.getHasSubtypes()) {
+            meta = s.getItemDamage();
+        }
+
+        final NBTTagCompound c = LEGACY_TABLE.get(new SharedSearchObject(s.getItem(), meta, tagCompound));
+        if (c != null) {
+            return c;
+        }
+
+        final NBTTagCompound copy = (NBTTagCompound) tagCompound.copy();
+        final SharedSearchObject sso = new SharedSearchObject(s.getItem(), meta, copy);
+        LEGACY_TABLE.put(sso, copy);
+        LEGACY_SHARED.add(sso);
+        return copy;
+    }
+
+    private static long runThreads(final List<ItemStack> stacks, final Consumer<ItemStack> op) throws Exception {
+        final ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        try {
+            final List<Future<?>> futures = new ArrayList<>();
+            final long start = System.nanoTime();
+            for (int t = 0; t < THREADS; t++) {
+                final int offset = t * 7;
+                futures.add(pool.submit(() -> {
+                    for (int i = 0; i < OPS_PER_THREAD; i++) {
+                        op.accept(stacks.get((i * 31 + offset) % TAGS));
+                    }
+                }));
+            }
+            for (final Future<?> future : futures) {
+                future.get();
+            }
+            return System.nanoTime() - start;
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void concurrentInterning() throws Exception {
+        final List<ItemStack> stacks = makeStacks();
+
+        // equal tags have to end up as the same shared compound on every thread before the timings mean anything
+        final IAETagCompound[] shared = new IAETagCompound[TAGS];
+        for (int i = 0; i < TAGS; i++) {
+            shared[i] = AEItemStack.create(stacks.get(i)).getTagCompound();
+            assertNotNull(shared[i]);
+            assertEquals(stacks.get(i).getTagCompound(), shared[i]);
+        }
+        final long hitsBefore = AESharedNBT.sharedTagHits();
+        runThreads(stacks, stack -> {
+            final int id = stack.getTagCompound().getInteger("id");
+            assertSame(shared[id], AEItemStack.create(stack).getTagCompound());
+        });
+        assertTrue(AESharedNBT.sharedTagHits() - hitsBefore >= (long) THREADS * OPS_PER_THREAD);
+        assertTrue(AESharedNBT.sharedTagLoad() >= TAGS);
+
+        // warm up both, then time them
+        runThreads(stacks, stack -> legacyIntern(stack.getTagCompound(), stack));
+        final long legacyTime = runThreads(stacks, stack -> legacyIntern(stack.getTagCompound(), stack));
+        final long currentTime = runThreads(stacks, AEItemStack::create);
+
+        final long ops = (long) THREADS * OPS_PER_THREAD;
+        System.out.printf(
+                "Shared NBT interning of %d tags on %d threads: synchronized %d ns/op, lock free %d ns/op"
+                        + " (%d entries, %d hits, %d misses, %d cleaned up)%n",
+                TAGS,
+                THREADS,
+                legacyTime / ops,
+                currentTime / ops,
+                AESharedNBT.sharedTagLoad(),
+                AESharedNBT.sharedTagHits(),
+                AESharedNBT.sharedTagMisses(),
+                AESharedNBT.sharedTagCleanups());
+    }
+}
@@ -0,0 +1,139 @@
+package appeng.test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import appeng.api.networking.IGridNode;
+import appeng.api.networking.ticking.IGridTickable;
+import appeng.api.networking.ticking.TickRateModulation;
+import appeng.api.networking.ticking.TickingRequest;
+import appeng.me.cache.TickManagerCache;
+import appeng.test.mockme.MockGridMachine;
+import appeng.test.mockme.MockGridNode;
+
+/**
+ * Replays the same recorded tick and alert workload against the priority queue and the timing wheel scheduler of
+ * {@link TickManagerCache}.
+ */
+public class TickSchedulerBenchmark {
+
+    private static final int DEVICES = 5_000;
+    private static final int TICKS = 20_000;
+    private static final int ALERTS_PER_TICK = 40;
+    private static final int WAKES_PER_TICK = 5;
+    private static final TickRateModulation[] MODULATIONS = { TickRateModulation.SAME, TickRateModulation.SAME,
+            TickRateModulation.SAME, TickRateModulation.SAME, TickRateModulation.SLOWER, TickRateModulation.SLOWER,
+            TickRateModulation.SLOWER, TickRateModulation.FASTER, TickRateModulation.FASTER, TickRateModulation.IDLE,
+            TickRateModulation.URGENT, TickRateModulation.SLEEP };
+
+    /**
+     * The recorded workload: the ticking requests of all devices and the devices alerted or woken on each tick.
+     */
+    private static final class Workload {
+
+        private final TickingRequest[] requests = new TickingRequest[DEVICES];
+        private final int[][] alerts = new int[TICKS][ALERTS_PER_TICK];
+        private final int[][] wakes = new int[TICKS][WAKES_PER_TICK];
+
+        private Workload(final long seed) {
+            final Random random = new Random(seed);
+            for (int i = 0; i < DEVICES; i++) {
+                final int min = 1 + random.nextInt(20);
+                final int max = min + random.nextInt(100);
+                this.requests[i] = new TickingRequest(min, max, random.nextInt(8) == 0, random.nextInt(4) != 0);
+            }
+            for (int tick = 0; tick < TICKS; tick++) {
+                for (int i = 0; i < ALERTS_PER_TICK; i++) {
+                    this.alerts[tick][i] = random.nextInt(DEVICES);
+                }
+                for (int i = 0; i < WAKES_PER_TICK; i++) {
+                    this.wakes[tick][i] = random.nextInt(DEVICES);
+                }
+            }
+        }
+    }
+
+    /**
+     * Answers from its own tick count only, so the order devices are ticked in within one tick does not matter.
+     */
+    private static final class Device extends MockGridMachine implements IGridTickable {
+
+        private final int id;
+        private final TickingRequest request;
+        private final MockGridNode node = new MockGridNode();
+        private int ticks;
+        private long ticksSinceLastCall;
+
+        private Device(final int id, final TickingRequest request) {
+            this.id = id;
+            this.request = request;
+        }
+
+        @Override
+        public TickingRequest getTickingRequest(final IGridNode node) {
+            return this.request;
+        }
+
+        @Override
+        public TickRateModulation tickingRequest(final IGridNode node, final int ticksSinceLastCall) {
+            this.ticksSinceLastCall += ticksSinceLastCall;
+            final int hash = (this.id * 31 + this.ticks++) * 0x9E3779B9;
+            return MODULATIONS[(hash >>> 16) % MODULATIONS.length];
+        }
+    }
+
+    private static Device[] replay(final Workload workload, final boolean timingWheel, final long[] time) {
+        final TickManagerCache tickManager = new TickManagerCache(null, timingWheel);
+        final Device[] devices = new Device[DEVICES];
+        for (int i = 0; i < DEVICES; i++) {
+            devices[i] = new Device(i, workload.requests[i]);
+            tickManager.addNode(devices[i].node, devices[i]);
+        }
+
+        final long start = System.nanoTime();
+        for (int tick = 0; tick < TICKS; tick++) {
+            for (final int alert : workload.alerts[tick]) {
+                tickManager.alertDevice(devices[alert].node);
+            }
+            for (final int wake : workload.wakes[tick]) {
+                tickManager.wakeDevice(devices[wake].node);
+            }
+            tickManager.onUpdateTick();
+        }
+        time[0] = System.nanoTime() - start;
+        return devices;
+    }
+
+    @Test
+    void replayWorkload() {
+        final Workload workload = new Workload(0x5EEDL);
+        final long[] queueTime = new long[1];
+        final long[] wheelTime = new long[1];
+
+        // a first round each to warm up, the schedulers have to tick every device the same before timings matter
+        final Device[] fromQueue = replay(workload, false, queueTime);
+        final Device[] fromWheel = replay(workload, true, wheelTime);
+        long totalTicks = 0;
+        for (int i = 0; i < DEVICES; i++) {
+            assertEquals(fromQueue[i].ticks, fromWheel[i].ticks, "ticks of device " + i);
+            assertEquals(fromQueue[i].ticksSinceLastCall, fromWheel[i].ticksSinceLastCall, "delay of device " + i);
+            totalTicks += fromQueue[i].ticks;
+        }
+        assertTrue(totalTicks > 0);
+
+        replay(workload, false, queueTime);
+        replay(workload, true, wheelTime);
+
+        System.out.printf(
+                "TickManagerCache with %d devices over %d ticks (%d device ticks): priority queue %d ms,"
+                        + " timing wheel %d ms%n",
+                DEVICES,
+                TICKS,
+                totalTicks,
+                queueTime[0] / 1_000_000,
+                wheelTime[0] / 1_000_000);
+    }
+}
@@ -31,6 +31,27 @@ public interface ICraftingMedium {
      */
     boolean pushPattern(ICraftingPatternDetails patternDetails, InventoryCrafting table);
 
+    /**
+     * instruct a medium to create several copies of the pattern at once, every stack on the table holds the items of
+     * all copies.
+     *
+     * @param patternDetails details
+     * @param table          crafting table
+     * @param copies         number of copies, at most {@link #getMaxPatternCopies}
+     * @return how many copies were pushed, the items of the other copies are left on the table.
+     */
+    default int pushPatterns(ICraftingPatternDetails patternDetails, InventoryCrafting table, int copies) {
+        return copies == 1 && this.pushPattern(patternDetails, table) ? 1 : 0;
+    }
+
+    /**
+     * @param patternDetails details
+     * @return how many copies of the pattern {@link #pushPatterns} accepts at once.
+     */
+    default int getMaxPatternCopies(ICraftingPatternDetails patternDetails) {
+        return 1;
+    }
+
     /**
      * @return if this is false, the crafting engine will refuse to send new jobs to this medium.
      */
@@ -13,6 +13,9 @@
 
 package appeng.api.storage;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import javax.annotation.Nonnull;
 
 import appeng.api.config.Actionable;
@@ -51,6 +54,43 @@ public interface IMEInventory<StackType extends IAEStack> {
      */
     StackType extractItems(StackType request, Actionable mode, BaseActionSource src);
 
+    /**
+     * Store, or simulate storing, several stacks at once, as if {@link #injectItems} was called for each of them in
+     * order. Inventories that report their changes to others can override it to report them once for the whole batch.
+     *
+     * @param input items to add.
+     * @param type  action type
+     * @param src   action source
+     * @return the items not added, in the order of the input, null for stacks added completely.
+     */
+    default List<StackType> injectBatch(final List<StackType> input, final Actionable type,
+            final BaseActionSource src) {
+        final List<StackType> leftovers = new ArrayList<>(input.size());
+        for (final StackType stack : input) {
+            leftovers.add(this.injectItems(stack, type, src));
+        }
+        return leftovers;
+    }
+
+    /**
+     * Extract, or simulate extracting, several stacks at once, as if {@link #extractItems} was called for each of them
+     * in order. Inventories that report their changes to others can override it to report them once for the whole
+     * batch.
+     *
+     * @param requests items to request ( with stack size. )
+     * @param mode     simulate, or perform action?
+     * @param src      action source
+     * @return the items extracted, in the order of the requests, null for requests nothing was extracted for.
+     */
+    default List<StackType> extractBatch(final List<StackType> requests, final Actionable mode,
+            final BaseActionSource src) {
+        final List<StackType> extracted = new ArrayList<>(requests.size());
+        for (final StackType request : requests) {
+            extracted.add(this.extractItems(request, mode, src));
+        }
+        return extracted;
+    }
+
     /**
      * Request a full report of all available items, storage.
      *
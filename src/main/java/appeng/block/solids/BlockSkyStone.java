@@ -98,8 +98,9 @@ public class BlockSkyStone extends AEBaseBlock implements IOrientableBlock {
     @Override
     public void onBlockAdded(final World w, final int x, final int y, final int z) {
         super.onBlockAdded(w, x, y, z);
-        if (Platform.isServer()) {
-            WorldData.instance().compassData().service().updateArea(w, x, y, z);
+        // only natural sky stone is tracked, placing it can not remove any, so there is nothing to scan for
+        if (Platform.isServer() && w.getBlockMetadata(x, y, z) == 0) {
+            WorldData.instance().compassData().service().markBeacon(w, x, y, z);
         }
     }
 
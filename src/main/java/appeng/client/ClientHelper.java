@@ -46,6 +46,7 @@ import appeng.api.parts.CableRenderMode;
 import appeng.api.util.AEColor;
 import appeng.block.AEBaseBlock;
 import appeng.client.render.BaseBlockRender;
+import appeng.client.render.CableGeometryCache;
 import appeng.client.render.TESRWrapper;
 import appeng.client.render.WorldRender;
 import appeng.client.render.effects.AssemblerFX;
@@ -423,6 +424,8 @@ public class ClientHelper extends ServerHelper {
         }
 
         if (ev.map.getTextureType() == 0) {
+            CableGeometryCache.getInstance().invalidate();
+
             for (final ExtraBlockTextures et : ExtraBlockTextures.values()) {
                 et.registerIcon(ev.map);
             }
@@ -15,7 +15,13 @@ import static net.minecraft.client.gui.GuiScreen.isShiftKeyDown;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.function.BiPredicate;
 import java.util.regex.Pattern;
 
@@ -46,6 +52,9 @@ import cpw.mods.fml.relauncher.ReflectionHelper;
 
 public class ItemRepo implements IDisplayRepo {
 
+    private static final Pattern REGEX_CHARS = Pattern.compile("[\\\\^$.|?*+()\\[\\]{}]");
+    private static final int MAX_INCREMENTAL_CHANGES = 256;
+
     private final IItemList<IAEItemStack> list = AEApi.instance().storage().createItemList();
     private final ArrayList<IAEItemStack> view = new ArrayList<>();
     private final ArrayList<ItemStack> dsp = new ArrayList<>();
@@ -61,6 +70,12 @@ public class ItemRepo implements IDisplayRepo {
     private String NEIWord = null;
     private boolean hasPower;
 
+    private final Map<IAEItemStack, SearchEntry> searchIndex = new HashMap<>();
+    // stacks of the list changed since the view was updated
+    private final Set<IAEItemStack> changed = new HashSet<>();
+    // what the view was built with, null if it has to be rebuilt
+    private ViewFilter viewFilter = null;
+
     public ItemRepo(final IScrollSource src, final ISortSource sortSrc) {
         this.src = src;
         this.sortSrc = sortSrc;
@@ -95,15 +110,18 @@ public class ItemRepo implements IDisplayRepo {
             if (isShiftKeyDown() && this.view.contains(st)) {
                 this.view.get(this.view.indexOf(st)).setStackSize(st.getStackSize());
             }
+            this.changed.add(st);
         } else {
             if (isShiftKeyDown()) this.cache.add(is);
             this.list.add(is);
+            this.changed.add(this.list.findPrecise(is));
         }
     }
 
     @Override
     public void setViewCell(final ItemStack[] list) {
         this.myPartitionList = ItemViewCell.createFilter(list);
+        this.viewFilter = null;
         this.updateView();
     }
 
@@ -113,134 +131,142 @@ public class ItemRepo implements IDisplayRepo {
 
     @Override
     public void updateView() {
-        if (needUpdateView()) this.view.clear();
-        this.dsp.clear();
-
-        this.view.ensureCapacity(this.list.size());
-        this.dsp.ensureCapacity(this.list.size());
-
-        final Enum viewMode = this.sortSrc.getSortDisplay();
         final Enum searchMode = AEConfig.instance.settings.getSetting(Settings.SEARCH_MODE);
-        final Enum typeFilter = this.sortSrc.getTypeFilter();
         if (searchMode == SearchBoxMode.NEI_AUTOSEARCH || searchMode == SearchBoxMode.NEI_MANUAL_SEARCH) {
             this.updateNEI(this.searchString);
         }
 
-        String innerSearch = this.searchString;
-        // final boolean terminalSearchToolTips =
-        // AEConfig.instance.settings.getSetting(Settings.SEARCH_TOOLTIPS) != YesNo.NO;
-        // boolean terminalSearchMods = Configuration.INSTANCE.settings.getSetting( Settings.SEARCH_MODS ) != YesNo.NO;
-        final SearchMode searchWhat;
-        if (innerSearch.length() == 0) {
-            searchWhat = SearchMode.ITEM;
-        } else {
-            searchWhat = switch (innerSearch.substring(0, 1)) {
-                case "#" -> SearchMode.TOOLTIPS;
-                case "@" -> SearchMode.MOD;
-                case "$" -> SearchMode.ORE;
-                default -> SearchMode.ITEM;
-            };
-            if (searchWhat != SearchMode.ITEM) innerSearch = innerSearch.substring(1);
+        final ViewFilter filter = ViewFilter.create(this.searchString, this.sortSrc, this.myPartitionList);
+        if (filter == null) {
+            if (needUpdateView()) this.view.clear();
+            this.dsp.clear();
+            return;
         }
-        Pattern m = null;
-        try {
-            m = Pattern.compile(innerSearch.toLowerCase(), Pattern.CASE_INSENSITIVE);
-        } catch (final Throwable ignore) {
-            try {
-                m = Pattern.compile(Pattern.quote(innerSearch.toLowerCase()), Pattern.CASE_INSENSITIVE);
-            } catch (final Throwable __) {
-                return;
-            }
-        }
-        IItemDisplayRegistry registry = AEApi.instance().registries().itemDisplay();
 
-        boolean notDone = false;
-        out: for (IAEItemStack is : needUpdateView() ? this.list : this.cache) {
-            // filter AEStack type
-            IAEItemStack finalIs = is;
-            if (registry.isBlacklisted(finalIs.getItem()) || registry.isBlacklisted(finalIs.getItem().getClass())) {
-                continue;
+        if (!needUpdateView()) {
+            // keep the order while shift is held, only add new stacks at the end
+            for (final IAEItemStack is : this.cache) {
+                final IAEItemStack shown = this.filter(filter, is);
+                if (shown != null) {
+                    this.view.add(shown);
+                }
             }
-            for (final BiPredicate<TypeFilter, IAEItemStack> filter : registry.getItemFilters()) {
-                if (!filter.test((TypeFilter) typeFilter, is)) continue out;
+            this.cache.clear();
+            this.viewFilter = null;
+        } else if (this.viewFilter == null || !filter.hasSameView(this.viewFilter)) {
+            this.rebuildView(filter);
+        } else if (!filter.hasSameSearch(this.viewFilter) && !filter.refines(this.viewFilter)) {
+            this.rebuildView(filter);
+        } else {
+            if (!filter.hasSameSearch(this.viewFilter)) {
+                // the view already holds every match of the shorter query, in order
+                this.view.removeIf(is -> !filter.matches(this.getSearchEntry(is)));
+                this.viewFilter = filter;
             }
-            if (this.myPartitionList != null) {
-                if (!this.myPartitionList.isListed(is)) {
-                    continue;
-                }
+            if (!this.applyChanges(filter)) {
+                this.rebuildView(filter);
             }
+        }
 
-            if (viewMode == ViewItems.CRAFTABLE && !is.isCraftable()) {
-                continue;
-            }
+        this.dsp.clear();
+        this.dsp.ensureCapacity(this.view.size());
+        for (final IAEItemStack is : this.view) {
+            this.dsp.add(is.getItemStack());
+        }
+        this.lastSearchString = this.searchString;
+    }
 
-            if (viewMode == ViewItems.CRAFTABLE) {
-                is = is.copy();
-                is.setStackSize(0);
-            }
+    private void rebuildView(final ViewFilter filter) {
+        this.view.clear();
+        this.view.ensureCapacity(this.list.size());
+        this.changed.clear();
+        this.cache.clear();
 
-            if (viewMode == ViewItems.STORED && is.getStackSize() == 0) {
-                continue;
-            }
-            String dspName = null;
-            switch (searchWhat) {
-                case MOD -> dspName = Platform.getModId(is);
-                case ORE -> {
-                    OreReference ore = OreHelper.INSTANCE.isOre(is.getItemStack());
-                    if (ore != null) {
-                        dspName = String.join(" ", ore.getEquivalents());
-                    }
-                }
-                case TOOLTIPS -> dspName = String.join(" ", ((List<String>) Platform.getTooltip(is)));
-                default -> dspName = Platform.getItemDisplayName(is);
+        for (final IAEItemStack is : this.list) {
+            final IAEItemStack shown = this.filter(filter, is);
+            if (shown != null) {
+                this.view.add(shown);
             }
+        }
+
+        this.view.sort(filter.getSorter());
+        this.viewFilter = filter;
+    }
+
+    /**
+     * Moves the stacks changed since the last update to their place in the sorted view.
+     *
+     * @return false if there are too many changes, and rebuilding the view is cheaper
+     */
+    private boolean applyChanges(final ViewFilter filter) {
+        if (this.changed.isEmpty()) {
+            return true;
+        }
+        if (this.changed.size() > MAX_INCREMENTAL_CHANGES || this.changed.size() > this.view.size() / 8) {
+            return false;
+        }
 
-            if (dspName == null) continue;
+        // the changed stacks were updated in place, the view is only sorted again once they are all out of it
+        this.view.removeAll(this.changed);
 
-            notDone = true;
-            if (m.matcher(dspName.toLowerCase()).find()) {
-                this.view.add(is);
-                notDone = false;
+        final Comparator<IAEItemStack> sorter = filter.getSorter();
+        for (final IAEItemStack is : this.changed) {
+            final IAEItemStack shown = this.filter(filter, is);
+            if (shown != null) {
+                final int pos = Collections.binarySearch(this.view, shown, sorter);
+                this.view.add(pos < 0 ? -pos - 1 : pos, shown);
             }
+        }
+        this.changed.clear();
 
-            if (notDone && searchWhat == SearchMode.ITEM) {
-                for (final Object lp : Platform.getTooltip(is)) {
-                    if (lp instanceof String && m.matcher((CharSequence) lp).find()) {
-                        this.view.add(is);
-                        notDone = false;
-                        break;
-                    }
-                }
+        return true;
+    }
+
+    /**
+     * @return the stack to show for is, or null if it is filtered out
+     */
+    private IAEItemStack filter(final ViewFilter filter, IAEItemStack is) {
+        if (!is.isMeaningful()) {
+            return null;
+        }
+
+        // filter AEStack type
+        final IItemDisplayRegistry registry = AEApi.instance().registries().itemDisplay();
+        if (registry.isBlacklisted(is.getItem()) || registry.isBlacklisted(is.getItem().getClass())) {
+            return null;
+        }
+        for (final BiPredicate<TypeFilter, IAEItemStack> itemFilter : registry.getItemFilters()) {
+            if (!itemFilter.test(filter.typeFilter, is)) return null;
+        }
+        if (filter.partitionList != null) {
+            if (!filter.partitionList.isListed(is)) {
+                return null;
             }
+        }
 
-            /*
-             * if ( terminalSearchMods && notDone ) { if ( m.matcher( Platform.getMod( is.getItemStack() ) ).find() ) {
-             * view.add( is ); notDone = false; } }
-             */
+        if (filter.viewMode == ViewItems.CRAFTABLE && !is.isCraftable()) {
+            return null;
         }
-        if (needUpdateView()) {
-            final Enum SortBy = this.sortSrc.getSortBy();
-            final Enum SortDir = this.sortSrc.getSortDir();
 
-            ItemSorters.setDirection((appeng.api.config.SortDir) SortDir);
-            ItemSorters.init();
+        if (filter.viewMode == ViewItems.CRAFTABLE) {
+            is = is.copy();
+            is.setStackSize(0);
+        }
 
-            if (SortBy == SortOrder.MOD) {
-                this.view.sort(ItemSorters.CONFIG_BASED_SORT_BY_MOD);
-            } else if (SortBy == SortOrder.AMOUNT) {
-                this.view.sort(ItemSorters.CONFIG_BASED_SORT_BY_SIZE);
-            } else if (SortBy == SortOrder.INVTWEAKS) {
-                this.view.sort(ItemSorters.CONFIG_BASED_SORT_BY_INV_TWEAKS);
-            } else {
-                this.view.sort(ItemSorters.CONFIG_BASED_SORT_BY_NAME);
-            }
-        } else {
-            this.cache.clear();
+        if (filter.viewMode == ViewItems.STORED && is.getStackSize() == 0) {
+            return null;
         }
-        for (final IAEItemStack is : this.view) {
-            this.dsp.add(is.getItemStack());
+
+        return filter.matches(this.getSearchEntry(is)) ? is : null;
+    }
+
+    private SearchEntry getSearchEntry(final IAEItemStack is) {
+        SearchEntry entry = this.searchIndex.get(is);
+        if (entry == null) {
+            entry = new SearchEntry(is.copy());
+            this.searchIndex.put(entry.stack, entry);
         }
-        this.lastSearchString = this.searchString;
+        return entry;
     }
 
     private void updateNEI(final String filter) {
@@ -271,6 +297,7 @@ public class ItemRepo implements IDisplayRepo {
     @Override
     public void clear() {
         this.list.resetStatus();
+        this.viewFilter = null;
     }
 
     @Override
@@ -309,4 +336,203 @@ public class ItemRepo implements IDisplayRepo {
         ORE,
         ITEM
     }
+
+    /**
+     * Everything the view depends on besides the stacks.
+     */
+    private static final class ViewFilter {
+
+        private final Enum viewMode;
+        private final TypeFilter typeFilter;
+        private final Enum sortBy;
+        private final Enum sortDir;
+        private final IPartitionList<IAEItemStack> partitionList;
+        private final SearchMode searchWhat;
+        private final String search;
+        private final Pattern pattern;
+        // whether the search matches as a plain substring
+        private final boolean literal;
+
+        private ViewFilter(final Enum viewMode, final TypeFilter typeFilter, final Enum sortBy, final Enum sortDir,
+                final IPartitionList<IAEItemStack> partitionList, final SearchMode searchWhat, final String search,
+                final Pattern pattern, final boolean literal) {
+            this.viewMode = viewMode;
+            this.typeFilter = typeFilter;
+            this.sortBy = sortBy;
+            this.sortDir = sortDir;
+            this.partitionList = partitionList;
+            this.searchWhat = searchWhat;
+            this.search = search;
+            this.pattern = pattern;
+            this.literal = literal;
+        }
+
+        private static ViewFilter create(final String searchString, final ISortSource sortSrc,
+                final IPartitionList<IAEItemStack> partitionList) {
+            String innerSearch = searchString;
+            final SearchMode searchWhat;
+            if (innerSearch.length() == 0) {
+                searchWhat = SearchMode.ITEM;
+            } else {
+                searchWhat = switch (innerSearch.substring(0, 1)) {
+                    case "#" -> SearchMode.TOOLTIPS;
+                    case "@" -> SearchMode.MOD;
+                    case "$" -> SearchMode.ORE;
+                    default -> SearchMode.ITEM;
+                };
+                if (searchWhat != SearchMode.ITEM) innerSearch = innerSearch.substring(1);
+            }
+            innerSearch = innerSearch.toLowerCase();
+
+            Pattern m = null;
+            boolean literal = false;
+            try {
+                m = Pattern.compile(innerSearch, Pattern.CASE_INSENSITIVE);
+                literal = !REGEX_CHARS.matcher(innerSearch).find();
+            } catch (final Throwable ignore) {
+                try {
+                    m = Pattern.compile(Pattern.quote(innerSearch), Pattern.CASE_INSENSITIVE);
+                    literal = true;
+                } catch (final Throwable __) {
+                    return null;
+                }
+            }
+
+            return new ViewFilter(
+                    sortSrc.getSortDisplay(),
+                    (TypeFilter) sortSrc.getTypeFilter(),
+                    sortSrc.getSortBy(),
+                    sortSrc.getSortDir(),
+                    partitionList,
+                    searchWhat,
+                    innerSearch,
+                    m,
+                    literal);
+        }
+
+        private boolean hasSameView(final ViewFilter o) {
+            return this.viewMode == o.viewMode && this.typeFilter == o.typeFilter
+                    && this.sortBy == o.sortBy
+                    && this.sortDir == o.sortDir
+                    && this.partitionList == o.partitionList;
+        }
+
+        private boolean hasSameSearch(final ViewFilter o) {
+            return this.searchWhat == o.searchWhat && this.search.equals(o.search);
+        }
+
+        /**
+         * @return true if everything this filter matches is matched by o as well
+         */
+        private boolean refines(final ViewFilter o) {
+            return this.literal && o.literal && this.searchWhat == o.searchWhat && this.search.startsWith(o.search);
+        }
+
+        private boolean matches(final SearchEntry entry) {
+            final String text = switch (this.searchWhat) {
+                case MOD -> entry.getModId();
+                case ORE -> entry.getOres();
+                case TOOLTIPS -> entry.getTooltipText();
+                default -> entry.getName();
+            };
+
+            if (text == null) {
+                return false;
+            }
+            if (this.find(text)) {
+                return true;
+            }
+
+            if (this.searchWhat == SearchMode.ITEM) {
+                for (final String line : entry.getTooltip()) {
+                    if (this.find(line)) {
+                        return true;
+                    }
+                }
+            }
+
+            return false;
+        }
+
+        private boolean find(final String text) {
+            return this.literal ? text.contains(this.search) : this.pattern.matcher(text).find();
+        }
+
+        private Comparator<IAEItemStack> getSorter() {
+            ItemSorters.setDirection((appeng.api.config.SortDir) this.sortDir);
+            ItemSorters.init();
+
+            if (this.sortBy == SortOrder.MOD) {
+                return ItemSorters.CONFIG_BASED_SORT_BY_MOD;
+            } else if (this.sortBy == SortOrder.AMOUNT) {
+                return ItemSorters.CONFIG_BASED_SORT_BY_SIZE;
+            } else if (this.sortBy == SortOrder.INVTWEAKS) {
+                return ItemSorters.CONFIG_BASED_SORT_BY_INV_TWEAKS;
+            } else {
+                return ItemSorters.CONFIG_BASED_SORT_BY_NAME;
+            }
+        }
+    }
+
+    /**
+     * The lower-case texts a stack can be searched by, computed when they are first needed.
+     */
+    private static final class SearchEntry {
+
+        private final IAEItemStack stack;
+        private String name;
+        private String modId;
+        private String ores;
+        private boolean oresKnown;
+        private List<String> tooltip;
+        private String tooltipText;
+
+        private SearchEntry(final IAEItemStack stack) {
+            this.stack = stack;
+        }
+
+        private String getName() {
+            if (this.name == null) {
+                this.name = Platform.getItemDisplayName(this.stack).toLowerCase();
+            }
+            return this.name;
+        }
+
+        private String getModId() {
+            if (this.modId == null) {
+                this.modId = Platform.getModId(this.stack).toLowerCase();
+            }
+            return this.modId;
+        }
+
+        private String getOres() {
+            if (!this.oresKnown) {
+                final OreReference ore = OreHelper.INSTANCE.isOre(this.stack.getItemStack());
+                if (ore != null) {
+                    this.ores = String.join(" ", ore.getEquivalents()).toLowerCase();
+                }
+                this.oresKnown = true;
+            }
+            return this.ores;
+        }
+
+        private List<String> getTooltip() {
+            if (this.tooltip == null) {
+                this.tooltip = new ArrayList<>();
+                for (final Object lp : Platform.getTooltip(this.stack)) {
+                    if (lp instanceof String) {
+                        this.tooltip.add(((String) lp).toLowerCase());
+                    }
+                }
+            }
+            return this.tooltip;
+        }
+
+        private String getTooltipText() {
+            if (this.tooltipText == null) {
+                this.tooltipText = String.join(" ", this.getTooltip());
+            }
+            return this.tooltipText;
+        }
+    }
 }
@@ -0,0 +1,390 @@
+/*
+ * This file is part of Applied Energistics 2. Copyright (c) 2013 - 2014, AlgorithmX2, All rights reserved. Applied
+ * Energistics 2 is free software: you can redistribute it and/or modify it under the terms of the GNU Lesser General
+ * Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any
+ * later version. Applied Energistics 2 is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General
+ * Public License for more details. You should have received a copy of the GNU Lesser General Public License along with
+ * Applied Energistics 2. If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+
+package appeng.client.render;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.renderer.Tessellator;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.world.IBlockAccess;
+import net.minecraftforge.common.util.ForgeDirection;
+
+import appeng.api.implementations.parts.IPartCable;
+import appeng.api.parts.IFacadeContainer;
+import appeng.api.parts.IPartHost;
+import appeng.api.parts.ISimplifiedBundle;
+import appeng.core.AEConfig;
+import appeng.core.AELog;
+import appeng.parts.CableBusContainer;
+import appeng.tile.networking.TileCableBus;
+import cpw.mods.fml.relauncher.Side;
+import cpw.mods.fml.relauncher.SideOnly;
+
+/**
+ * Keeps the quads of cable buses holding nothing but a cable, so a chunk rebuild can replay them into the
+ * {@link Tessellator} instead of running the cable renderers again.
+ * <p>
+ * The quads are kept on the bus, relative to its block, together with everything they were rendered from: the render
+ * revision of the bus and of the buses next to it, the other tile entities next to it, the lighting around it and the
+ * render pass. Equal quads of different buses are shared.
+ */
+@SideOnly(Side.CLIENT)
+public final class CableGeometryCache {
+
+    private static final CableGeometryCache INSTANCE = new CableGeometryCache();
+
+    /**
+     * Ints per vertex in the buffer of the {@link Tessellator}: position, texture, colour, normal and brightness.
+     */
+    private static final int VERTEX_SIZE = 8;
+    /**
+     * Ints per vertex kept here, the normal is left out as blocks in the world are rendered without one.
+     */
+    private static final int STRIDE = 7;
+    private static final int MAX_SHARED = 4096;
+    private static final int PASSES = 2;
+    private static final boolean LITTLE_ENDIAN = ByteOrder.nativeOrder() == ByteOrder.LITTLE_ENDIAN;
+
+    private final Map<Quads, Quads> shared = new HashMap<>();
+    private int generation = 0;
+    private boolean resolved = false;
+    private Field rawBuffer;
+    private Field rawBufferIndex;
+    private Field xOffset;
+    private Field yOffset;
+    private Field zOffset;
+
+    public static CableGeometryCache getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * @return false if the buffer of the {@link Tessellator} can't be read, then nothing is cached.
+     */
+    public boolean isSupported() {
+        return this.resolve();
+    }
+
+    /**
+     * Forgets all kept quads, their texture coordinates are stale once the block textures were stitched again.
+     */
+    public void invalidate() {
+        this.generation++;
+        this.shared.clear();
+    }
+
+    /**
+     * @return what the quads of the bus depend on right now, or null if the bus can't be cached.
+     */
+    Geometry getKey(final CableBusContainer bus, final IFacadeContainer facades,
+            final RenderBlocksWorkaround renderer) {
+        final int pass = BusRenderHelper.INSTANCE.getPass();
+        if (!AEConfig.instance.cableGeometryCache || renderer.overrideBlockTexture != null
+                || pass < 0
+                || pass >= PASSES
+                || !facades.isEmpty()
+                || !(bus.getPart(ForgeDirection.UNKNOWN) instanceof IPartCable)
+                || !(bus.getTile() instanceof TileCableBus)
+                || !this.resolve()) {
+            return null;
+        }
+
+        for (final ForgeDirection side : ForgeDirection.VALID_DIRECTIONS) {
+            if (bus.getPart(side) != null) {
+                return null;
+            }
+        }
+
+        final TileEntity te = bus.getTile();
+        final IBlockAccess world = renderer.blockAccess;
+        final Object[] neighbours = new Object[6];
+        final int[] revisions = new int[6];
+        for (final ForgeDirection side : ForgeDirection.VALID_DIRECTIONS) {
+            final TileEntity neighbour = world
+                    .getTileEntity(te.xCoord + side.offsetX, te.yCoord + side.offsetY, te.zCoord + side.offsetZ);
+            if (neighbour instanceof TileCableBus tcb) {
+                neighbours[side.ordinal()] = tcb.getCableBus();
+                revisions[side.ordinal()] = tcb.getCableBus().getRenderRevision();
+            } else if (neighbour instanceof IPartHost) {
+                // multipart hosts don't tell when their parts change
+                return null;
+            } else {
+                neighbours[side.ordinal()] = neighbour;
+            }
+        }
+
+        int flags = Minecraft.isAmbientOcclusionEnabled() ? 1 : 0;
+        flags |= Minecraft.getMinecraft().gameSettings.anaglyph ? 2 : 0;
+
+        final int lightHash = renderer
+                .getLightingHash(BusRenderHelper.INSTANCE.getBlock(), world, te.xCoord, te.yCoord, te.zCoord);
+
+        return new Geometry(this.generation, pass, flags, lightHash, bus.getRenderRevision(), neighbours, revisions);
+    }
+
+    /**
+     * Replays the kept quads of the bus if they were rendered from the same state.
+     *
+     * @return true if the bus doesn't need to be rendered.
+     */
+    boolean replay(final CableBusContainer bus, final Geometry key) {
+        if (!(bus.getRenderCache() instanceof Passes passes)) {
+            return false;
+        }
+        final Geometry geometry = passes.geometry[key.pass];
+        if (geometry == null || !geometry.isSame(key)) {
+            return false;
+        }
+
+        final TileEntity te = bus.getTile();
+        final Tessellator tess = Tessellator.instance;
+        final int[] data = geometry.quads.data;
+        for (int i = 0; i < data.length; i += STRIDE) {
+            final int color = data[i + 5];
+            if (LITTLE_ENDIAN) {
+                tess.setColorRGBA(color & 255, color >> 8 & 255, color >> 16 & 255, color >>> 24);
+            } else {
+                tess.setColorRGBA(color >>> 24, color >> 16 & 255, color >> 8 & 255, color & 255);
+            }
+            tess.setBrightness(data[i + 6]);
+            tess.addVertexWithUV(
+                    te.xCoord + Float.intBitsToFloat(data[i]),
+                    te.yCoord + Float.intBitsToFloat(data[i + 1]),
+                    te.zCoord + Float.intBitsToFloat(data[i + 2]),
+                    Float.intBitsToFloat(data[i + 3]),
+                    Float.intBitsToFloat(data[i + 4]));
+        }
+
+        BusRenderHelper.INSTANCE.addItemsRendered(geometry.items);
+        return true;
+    }
+
+    /**
+     * @return where the quads about to be rendered start in the buffer of the {@link Tessellator}.
+     */
+    int startRecording() {
+        try {
+            return this.rawBufferIndex.getInt(Tessellator.instance);
+        } catch (final IllegalAccessException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * Keeps the quads rendered since {@link #startRecording()} on the bus.
+     */
+    void finishRecording(final CableBusContainer bus, final Geometry key, final int start, final int itemsBefore) {
+        final Passes passes;
+        if (bus.getRenderCache() instanceof Passes known) {
+            passes = known;
+        } else {
+            passes = new Passes();
+            bus.setRenderCache(passes);
+        }
+        passes.geometry[key.pass] = null;
+
+        if (start < 0) {
+            return;
+        }
+
+        try {
+            final Tessellator tess = Tessellator.instance;
+            final int end = this.rawBufferIndex.getInt(tess);
+            if (end < start || (end - start) % VERTEX_SIZE != 0) {
+                // the buffer was drawn in between
+                return;
+            }
+
+            final TileEntity te = bus.getTile();
+            final double x = te.xCoord + this.xOffset.getDouble(tess);
+            final double y = te.yCoord + this.yOffset.getDouble(tess);
+            final double z = te.zCoord + this.zOffset.getDouble(tess);
+            final int[] raw = (int[]) this.rawBuffer.get(tess);
+            final int[] data = new int[(end - start) / VERTEX_SIZE * STRIDE];
+
+            for (int i = start, o = 0; i < end; i += VERTEX_SIZE, o += STRIDE) {
+                data[o] = Float.floatToRawIntBits((float) (Float.intBitsToFloat(raw[i]) - x));
+                data[o + 1] = Float.floatToRawIntBits((float) (Float.intBitsToFloat(raw[i + 1]) - y));
+                data[o + 2] = Float.floatToRawIntBits((float) (Float.intBitsToFloat(raw[i + 2]) - z));
+                data[o + 3] = raw[i + 3];
+                data[o + 4] = raw[i + 4];
+                data[o + 5] = raw[i + 5];
+                data[o + 6] = raw[i + 7];
+            }
+
+            key.quads = this.share(new Quads(data));
+            key.items = BusRenderHelper.INSTANCE.getItemsRendered() - itemsBefore;
+            passes.geometry[key.pass] = key;
+        } catch (final IllegalAccessException e) {
+            AELog.debug(e);
+        }
+    }
+
+    private Quads share(final Quads quads) {
+        final Quads known = this.shared.get(quads);
+        if (known != null) {
+            return known;
+        }
+
+        if (this.shared.size() >= MAX_SHARED) {
+            this.shared.clear();
+        }
+        this.shared.put(quads, quads);
+        return quads;
+    }
+
+    /**
+     * The buffer fields of the {@link Tessellator} are private and their names change with obfuscation, so they are
+     * told apart by how a spare {@link Tessellator} changes when a vertex is added.
+     */
+    private boolean resolve() {
+        if (this.resolved) {
+            return this.rawBufferIndex != null;
+        }
+        this.resolved = true;
+
+        try {
+            final Constructor<Tessellator> constructor = Tessellator.class.getDeclaredConstructor(int.class);
+            constructor.setAccessible(true);
+            final Tessellator probe = constructor.newInstance(VERTEX_SIZE * 64);
+            probe.startDrawingQuads();
+            probe.setTranslation(0.25, 0.5, 0.75);
+
+            final Field[] fields = Tessellator.class.getDeclaredFields();
+            final Object[] before = new Object[fields.length];
+            for (int i = 0; i < fields.length; i++) {
+                if (!Modifier.isStatic(fields[i].getModifiers())) {
+                    fields[i].setAccessible(true);
+                    before[i] = fields[i].get(probe);
+                }
+            }
+
+            probe.addVertex(0, 0, 0);
+
+            Field buffer = null;
+            Field index = null;
+            Field x = null;
+            Field y = null;
+            Field z = null;
+            for (int i = 0; i < fields.length; i++) {
+                final Field f = fields[i];
+                if (Modifier.isStatic(f.getModifiers())) {
+                    continue;
+                }
+
+                if (f.getType() == int[].class) {
+                    buffer = f;
+                } else if (f.getType() == int.class && f.getInt(probe) - (Integer) before[i] == VERTEX_SIZE) {
+                    index = f;
+                } else if (f.getType() == double.class) {
+                    final double value = f.getDouble(probe);
+                    if (value == 0.25) {
+                        x = f;
+                    } else if (value == 0.5) {
+                        y = f;
+                    } else if (value == 0.75) {
+                        z = f;
+                    }
+                }
+            }
+
+            if (buffer != null && index != null && x != null && y != null && z != null) {
+                this.rawBuffer = buffer;
+                this.xOffset = x;
+                this.yOffset = y;
+                this.zOffset = z;
+                this.rawBufferIndex = index;
+            } else {
+                AELog.info("Unable to find the Tessellator buffer, cable geometry is not cached.");
+            }
+        } catch (final Throwable t) {
+            AELog.debug(t);
+        }
+
+        return this.rawBufferIndex != null;
+    }
+
+    /**
+     * The kept quads of one bus, by render pass.
+     */
+    private static final class Passes implements ISimplifiedBundle {
+
+        private final Geometry[] geometry = new Geometry[PASSES];
+    }
+
+    static final class Geometry {
+
+        private final int generation;
+        private final int pass;
+        private final int flags;
+        private final int lightHash;
+        private final int revision;
+        private final Object[] neighbours;
+        private final int[] revisions;
+        private Quads quads;
+        private int items;
+
+        private Geometry(final int generation, final int pass, final int flags, final int lightHash,
+                final int revision, final Object[] neighbours, final int[] revisions) {
+            this.generation = generation;
+            this.pass = pass;
+            this.flags = flags;
+            this.lightHash = lightHash;
+            this.revision = revision;
+            this.neighbours = neighbours;
+            this.revisions = revisions;
+        }
+
+        private boolean isSame(final Geometry other) {
+            if (this.generation != other.generation || this.flags != other.flags
+                    || this.lightHash != other.lightHash
+                    || this.revision != other.revision
+                    || !Arrays.equals(this.revisions, other.revisions)) {
+                return false;
+            }
+
+            for (int i = 0; i < this.neighbours.length; i++) {
+                if (this.neighbours[i] != other.neighbours[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    private static final class Quads {
+
+        private final int[] data;
+        private final int hash;
+
+        private Quads(final int[] data) {
+            this.data = data;
+            this.hash = Arrays.hashCode(data);
+        }
+
+        @Override
+        public int hashCode() {
+            return this.hash;
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            return obj instanceof Quads other && this.hash == other.hash && Arrays.equals(this.data, other.data);
+        }
+    }
+}
@@ -45,6 +45,15 @@ public class CableRenderHelper {
             renderer.blockAccess = Minecraft.getMinecraft().theWorld;
         }
 
+        final CableGeometryCache geometryCache = CableGeometryCache.getInstance();
+        final CableGeometryCache.Geometry geometry = geometryCache
+                .getKey(cableBusContainer, iFacadeContainer, renderer);
+        if (geometry != null && geometryCache.replay(cableBusContainer, geometry)) {
+            return;
+        }
+        final int recordingStart = geometry != null ? geometryCache.startRecording() : -1;
+        final int itemsBefore = BusRenderHelper.INSTANCE.getItemsRendered();
+
         for (final ForgeDirection s : ForgeDirection.values()) {
             final IPart part = cableBusContainer.getPart(s);
             if (part != null) {
@@ -62,6 +71,10 @@ public class CableRenderHelper {
             }
         }
 
+        if (geometry != null) {
+            geometryCache.finishRecording(cableBusContainer, geometry, recordingStart, itemsBefore);
+        }
+
         if (!iFacadeContainer.isEmpty()) {
             /**
              * snag list of boxes...
@@ -535,7 +535,7 @@ public class RenderBlocksWorkaround extends RenderBlocks {
         return ((LightingCache) sim).lightHash == lh;
     }
 
-    private int getLightingHash(final Block blk, final IBlockAccess w, final int x, final int y, final int z) {
+    int getLightingHash(final Block blk, final IBlockAccess w, final int x, final int y, final int z) {
         int o = 0;
 
         for (int i = -1; i <= 1; i++) {
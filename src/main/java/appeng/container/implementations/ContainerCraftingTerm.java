@@ -14,7 +14,6 @@ import net.minecraft.entity.player.InventoryPlayer;
 import net.minecraft.inventory.IInventory;
 import net.minecraft.inventory.InventoryCrafting;
 import net.minecraft.item.ItemStack;
-import net.minecraft.item.crafting.CraftingManager;
 
 import appeng.api.storage.ITerminalHost;
 import appeng.container.ContainerNull;
@@ -25,6 +24,7 @@ import appeng.parts.reporting.PartCraftingTerminal;
 import appeng.tile.inventory.AppEngInternalInventory;
 import appeng.tile.inventory.IAEAppEngInventory;
 import appeng.tile.inventory.InvOperation;
+import appeng.util.Platform;
 
 public class ContainerCraftingTerm extends ContainerMEMonitorable
         implements IAEAppEngInventory, IContainerCraftingPacket {
@@ -82,8 +82,7 @@ public class ContainerCraftingTerm extends ContainerMEMonitorable
             ic.setInventorySlotContents(x, this.craftingSlots[x].getStack());
         }
 
-        this.outputSlot
-                .putStack(CraftingManager.getInstance().findMatchingRecipe(ic, this.getPlayerInv().player.worldObj));
+        this.outputSlot.putStack(Platform.findMatchingRecipeOutput(ic, this.getPlayerInv().player.worldObj));
     }
 
     @Override
@@ -12,6 +12,8 @@ package appeng.container.implementations;
 
 import java.io.IOException;
 import java.nio.BufferOverflowException;
+import java.util.ArrayList;
+import java.util.List;
 
 import javax.annotation.Nonnull;
 
@@ -61,6 +63,7 @@ import appeng.core.sync.network.NetworkHandler;
 import appeng.core.sync.packets.PacketMEInventoryUpdate;
 import appeng.core.sync.packets.PacketValueConfig;
 import appeng.helpers.WirelessTerminalGuiObject;
+import appeng.me.cache.NetworkMonitor;
 import appeng.me.helpers.ChannelPowerSrc;
 import appeng.util.ConfigManager;
 import appeng.util.IConfigManagerHost;
@@ -75,6 +78,9 @@ public class ContainerMEMonitorable extends AEBaseContainer
     private final IItemList<IAEItemStack> items = AEApi.instance().storage().createItemList();
     private final IConfigManager clientCM;
     private final ITerminalHost host;
+    // the generation of a network monitor when items started collecting changes
+    private long itemsGeneration;
+    private MonitorPacketCache packetCache;
 
     @GuiSync(99)
     public boolean canAccessViewCells = false;
@@ -112,6 +118,10 @@ public class ContainerMEMonitorable extends AEBaseContainer
             this.monitor = monitorable.getItemInventory();
             if (this.monitor != null) {
                 this.monitor.addListener(this, null);
+                if (this.monitor instanceof NetworkMonitor<?> networkMonitor) {
+                    this.itemsGeneration = networkMonitor.getChangeGeneration();
+                    this.packetCache = MonitorPacketCache.attach(networkMonitor, this);
+                }
 
                 this.setCellInventory(this.monitor);
 
@@ -197,18 +207,21 @@ public class ContainerMEMonitorable extends AEBaseContainer
 
             if (!this.items.isEmpty()) {
                 try {
-                    final IItemList<IAEItemStack> monitorCache = this.monitor.getStorageList();
-
-                    final PacketMEInventoryUpdate piu = new PacketMEInventoryUpdate();
-
-                    for (final IAEItemStack is : this.items) {
-                        final IAEItemStack send = monitorCache.findPrecise(is);
-                        if (send == null) {
-                            is.setStackSize(0);
-                            piu.appendItem(is);
+                    final PacketMEInventoryUpdate piu;
+                    if (this.packetCache != null && this.monitor instanceof NetworkMonitor<?> networkMonitor) {
+                        // terminals that collected the same generations of changes send the same packet
+                        final MonitorPacketCache cache = this.packetCache;
+                        final long generation = networkMonitor.getChangeGeneration();
+                        final PacketMEInventoryUpdate cached = cache.getDelta(this.itemsGeneration, generation);
+                        if (cached != null) {
+                            piu = cached;
                         } else {
-                            piu.appendItem(send);
+                            piu = this.encodeItems();
+                            cache.putDelta(this.itemsGeneration, generation, piu);
                         }
+                        this.itemsGeneration = generation;
+                    } else {
+                        piu = this.encodeItems();
                     }
 
                     if (!piu.isEmpty()) {
@@ -242,6 +255,24 @@ public class ContainerMEMonitorable extends AEBaseContainer
         }
     }
 
+    private PacketMEInventoryUpdate encodeItems() throws IOException {
+        final IItemList<IAEItemStack> monitorCache = this.monitor.getStorageList();
+
+        final PacketMEInventoryUpdate piu = new PacketMEInventoryUpdate();
+
+        for (final IAEItemStack is : this.items) {
+            final IAEItemStack send = monitorCache.findPrecise(is);
+            if (send == null) {
+                is.setStackSize(0);
+                piu.appendItem(is);
+            } else {
+                piu.appendItem(send);
+            }
+        }
+
+        return piu;
+    }
+
     protected void updatePowerStatus() {
         try {
             if (this.networkNode != null) {
@@ -279,33 +310,55 @@ public class ContainerMEMonitorable extends AEBaseContainer
     private void queueInventory(final ICrafting c) {
         if (Platform.isServer() && c instanceof EntityPlayer && this.monitor != null) {
             try {
-                PacketMEInventoryUpdate piu = new PacketMEInventoryUpdate();
-                final IItemList<IAEItemStack> monitorCache = this.monitor.getStorageList();
-
-                for (final IAEItemStack send : monitorCache) {
-                    try {
-                        piu.appendItem(send);
-                    } catch (final BufferOverflowException boe) {
-                        NetworkHandler.instance.sendTo(piu, (EntityPlayerMP) c);
-
-                        piu = new PacketMEInventoryUpdate();
-                        piu.appendItem(send);
+                List<PacketMEInventoryUpdate> packets;
+                if (this.packetCache != null && this.monitor instanceof NetworkMonitor<?> networkMonitor) {
+                    final MonitorPacketCache cache = this.packetCache;
+                    final long generation = networkMonitor.getChangeGeneration();
+                    packets = cache.getSnapshot(generation);
+                    if (packets == null) {
+                        packets = this.encodeInventory();
+                        cache.putSnapshot(generation, packets);
                     }
+                } else {
+                    packets = this.encodeInventory();
                 }
 
-                NetworkHandler.instance.sendTo(piu, (EntityPlayerMP) c);
+                for (final PacketMEInventoryUpdate piu : packets) {
+                    NetworkHandler.instance.sendTo(piu, (EntityPlayerMP) c);
+                }
             } catch (final IOException e) {
                 AELog.debug(e);
             }
         }
     }
 
+    private List<PacketMEInventoryUpdate> encodeInventory() throws IOException {
+        final List<PacketMEInventoryUpdate> packets = new ArrayList<>();
+        PacketMEInventoryUpdate piu = new PacketMEInventoryUpdate();
+        final IItemList<IAEItemStack> monitorCache = this.monitor.getStorageList();
+
+        for (final IAEItemStack send : monitorCache) {
+            try {
+                piu.appendItem(send);
+            } catch (final BufferOverflowException boe) {
+                packets.add(piu);
+
+                piu = new PacketMEInventoryUpdate();
+                piu.appendItem(send);
+            }
+        }
+
+        packets.add(piu);
+        return packets;
+    }
+
     @Override
     public void removeCraftingFromCrafters(final ICrafting c) {
         super.removeCraftingFromCrafters(c);
 
         if (this.crafters.isEmpty() && this.monitor != null) {
             this.monitor.removeListener(this);
+            this.detachPacketCache();
         }
     }
 
@@ -314,6 +367,14 @@ public class ContainerMEMonitorable extends AEBaseContainer
         super.onContainerClosed(player);
         if (this.monitor != null) {
             this.monitor.removeListener(this);
+            this.detachPacketCache();
+        }
+    }
+
+    private void detachPacketCache() {
+        if (this.packetCache != null && this.monitor instanceof NetworkMonitor<?> networkMonitor) {
+            MonitorPacketCache.detach(networkMonitor, this);
+            this.packetCache = null;
         }
     }
 
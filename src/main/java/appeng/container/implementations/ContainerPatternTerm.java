@@ -24,7 +24,6 @@ import net.minecraft.inventory.InventoryCrafting;
 import net.minecraft.inventory.Slot;
 import net.minecraft.inventory.SlotCrafting;
 import net.minecraft.item.ItemStack;
-import net.minecraft.item.crafting.CraftingManager;
 import net.minecraft.item.crafting.IRecipe;
 import net.minecraft.nbt.NBTBase;
 import net.minecraft.nbt.NBTTagCompound;
@@ -182,7 +181,7 @@ public class ContainerPatternTerm extends ContainerMEMonitorable
             ic.setInventorySlotContents(x, this.crafting.getStackInSlot(x));
         }
 
-        final ItemStack is = CraftingManager.getInstance().findMatchingRecipe(ic, this.getPlayerInv().player.worldObj);
+        final ItemStack is = Platform.findMatchingRecipeOutput(ic, this.getPlayerInv().player.worldObj);
         this.cOut.setInventorySlotContents(0, is);
         return is;
     }
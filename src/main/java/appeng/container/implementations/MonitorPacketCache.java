@@ -0,0 +1,84 @@
+/*
+ * This file is part of Applied Energistics 2. Copyright (c) 2013 - 2014, AlgorithmX2, All rights reserved. Applied
+ * Energistics 2 is free software: you can redistribute it and/or modify it under the terms of the GNU Lesser General
+ * Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any
+ * later version. Applied Energistics 2 is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General
+ * Public License for more details. You should have received a copy of the GNU Lesser General Public License along with
+ * Applied Energistics 2. If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+
+package appeng.container.implementations;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+import appeng.core.sync.packets.PacketMEInventoryUpdate;
+import appeng.me.cache.NetworkMonitor;
+
+/**
+ * Inventory packets shared by all terminals watching the same {@link NetworkMonitor}. A packet belongs to a change
+ * generation of the monitor, terminals that need it in the same generation send the same bytes instead of encoding
+ * their own copy. The cache lives for as long as a terminal is attached to it.
+ */
+final class MonitorPacketCache {
+
+    private static final Map<NetworkMonitor<?>, MonitorPacketCache> CACHES = new WeakHashMap<>();
+
+    private final Set<Object> users = Collections.newSetFromMap(new IdentityHashMap<>());
+    private long snapshotGeneration = -1;
+    private List<PacketMEInventoryUpdate> snapshot = null;
+    private long deltaGeneration = -1;
+    // by the generation the terminals collected their changes from
+    private final Map<Long, PacketMEInventoryUpdate> deltas = new HashMap<>();
+
+    private MonitorPacketCache() {}
+
+    static MonitorPacketCache attach(final NetworkMonitor<?> monitor, final Object user) {
+        final MonitorPacketCache cache = CACHES.computeIfAbsent(monitor, m -> new MonitorPacketCache());
+        cache.users.add(user);
+        return cache;
+    }
+
+    /**
+     * Drops the packets of the monitor once the last terminal attached to it is gone.
+     */
+    static void detach(final NetworkMonitor<?> monitor, final Object user) {
+        final MonitorPacketCache cache = CACHES.get(monitor);
+        if (cache != null && cache.users.remove(user) && cache.users.isEmpty()) {
+            CACHES.remove(monitor);
+        }
+    }
+
+    /**
+     * @return The packets of the whole inventory in this generation, or null if nobody encoded them yet.
+     */
+    List<PacketMEInventoryUpdate> getSnapshot(final long generation) {
+        return this.snapshotGeneration == generation ? this.snapshot : null;
+    }
+
+    void putSnapshot(final long generation, final List<PacketMEInventoryUpdate> packets) {
+        this.snapshotGeneration = generation;
+        this.snapshot = packets;
+    }
+
+    /**
+     * @return The packet of the changes between both generations, or null if nobody encoded it yet.
+     */
+    PacketMEInventoryUpdate getDelta(final long fromGeneration, final long generation) {
+        return this.deltaGeneration == generation ? this.deltas.get(fromGeneration) : null;
+    }
+
+    void putDelta(final long fromGeneration, final long generation, final PacketMEInventoryUpdate packet) {
+        if (this.deltaGeneration != generation) {
+            this.deltaGeneration = generation;
+            this.deltas.clear();
+        }
+        this.deltas.put(fromGeneration, packet);
+    }
+}
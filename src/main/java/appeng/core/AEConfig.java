@@ -100,6 +100,7 @@ public final class AEConfig extends Configuration implements IConfigurableObject
     public double meteoriteSpawnChance = 0.3;
     public int[] meteoriteDimensionWhitelist = { 0 };
     public int craftingCalculationTimePerTick = 5;
+    public int craftingCalculationThreads = 0;
     PowerUnits selectedPowerUnit = PowerUnits.AE;
     CellType selectedCellType = CellType.ITEM;
     private double WirelessBaseCost = 8;
@@ -113,6 +114,10 @@ public final class AEConfig extends Configuration implements IConfigurableObject
     public int maxCraftingSteps = 2_000_000;
     public int maxCraftingTreeVisualizationSize = 32 * 1024 * 1024; // 32 MiB
     public boolean limitCraftingCPUSpill = true;
+    public boolean timingWheelTickScheduler = false;
+    public boolean incrementalChannelPathing = false;
+    public boolean injectionRoutingCache = true;
+    public boolean cableGeometryCache = true;
 
     public AEConfig(final File configFile) {
         super(configFile);
@@ -241,6 +246,27 @@ public final class AEConfig extends Configuration implements IConfigurableObject
                 .max(4096, Math.min(this.maxCraftingTreeVisualizationSize, 1024 * 1024 * 1024));
         this.limitCraftingCPUSpill = this.get("misc", "LimitCraftingCPUSpill", this.limitCraftingCPUSpill)
                 .getBoolean(this.limitCraftingCPUSpill);
+        this.timingWheelTickScheduler = this.get(
+                "misc",
+                "TimingWheelTickScheduler",
+                this.timingWheelTickScheduler,
+                "Schedule ticking network devices with a timing wheel instead of a priority queue,"
+                        + " cheaper on networks with many devices or frequent alerts")
+                .getBoolean(this.timingWheelTickScheduler);
+        this.incrementalChannelPathing = this.get(
+                "misc",
+                "IncrementalChannelPathing",
+                this.incrementalChannelPathing,
+                "Assign channels to devices added to or removed from the edge of a booted controller network"
+                        + " without rebooting the whole network")
+                .getBoolean(this.incrementalChannelPathing);
+        this.injectionRoutingCache = this.get(
+                "misc",
+                "InjectionRoutingCache",
+                this.injectionRoutingCache,
+                "Remember per item which storage cells accept it and are partitioned for it, disable to check the"
+                        + " partitions of every cell on every insertion")
+                .getBoolean(this.injectionRoutingCache);
         this.clientSync();
 
         for (final AEFeature feature : AEFeature.values()) {
@@ -292,6 +318,12 @@ public final class AEConfig extends Configuration implements IConfigurableObject
             this.craftingCalculationTimePerTick = this
                     .get("craftingCPU", "craftingCalculationTimePerTick", this.craftingCalculationTimePerTick)
                     .getInt(this.craftingCalculationTimePerTick);
+            this.craftingCalculationThreads = this.get(
+                    "craftingCPU",
+                    "craftingCalculationThreads",
+                    this.craftingCalculationThreads,
+                    "Threads used to calculate crafting jobs off the world tick, 0 calculates them on the tick")
+                    .getInt(this.craftingCalculationThreads);
         }
 
         this.updatable = true;
@@ -310,6 +342,13 @@ public final class AEConfig extends Configuration implements IConfigurableObject
                 .getInt(this.quartzKnifeInputLength);
         this.MEMonitorableSmallSize = this.get("Client", "MEMonitorableSmallSize", 6).getInt(6);
         this.InterfaceTerminalSmallSize = this.get("Client", "InterfaceTerminalSmallSize", 6).getInt(6);
+        this.cableGeometryCache = this.get(
+                "Client",
+                "cableGeometryCache",
+                this.cableGeometryCache,
+                "Keep the quads of plain cables between chunk rebuilds and replay them while nothing around a cable"
+                        + " changed, disable to run the cable renderers on every rebuild")
+                .getBoolean(this.cableGeometryCache);
         // load buttons..
         for (int btnNum = 0; btnNum < 4; btnNum++) {
             final Property cmb = this.get("Client", "craftAmtButton" + (btnNum + 1), this.craftByStacks[btnNum]);
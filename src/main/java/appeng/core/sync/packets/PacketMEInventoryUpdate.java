@@ -11,8 +11,6 @@
 package appeng.core.sync.packets;
 
 import java.io.IOException;
-import java.io.InputStream;
-import java.io.OutputStream;
 import java.nio.BufferOverflowException;
 import java.util.LinkedList;
 import java.util.List;
@@ -38,14 +36,15 @@ import cpw.mods.fml.common.network.internal.FMLProxyPacket;
 import cpw.mods.fml.relauncher.Side;
 import cpw.mods.fml.relauncher.SideOnly;
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufInputStream;
+import io.netty.buffer.ByteBufOutputStream;
 import io.netty.buffer.Unpooled;
 
 public class PacketMEInventoryUpdate extends AppEngPacket {
 
     private static final int UNCOMPRESSED_PACKET_BYTE_LIMIT = 16 * 1024 * 1024;
     private static final int OPERATION_BYTE_LIMIT = 2 * 1024;
-    private static final int TEMP_BUFFER_SIZE = 1024;
-    private static final int STREAM_MASK = 0xff;
+    private static final int COMPRESS_BUFFER_SIZE = 8 * 1024;
 
     // input.
     @Nullable
@@ -59,6 +58,10 @@ public class PacketMEInventoryUpdate extends AppEngPacket {
     @Nullable
     private final GZIPOutputStream compressFrame;
 
+    // one stack at a time is serialized here before it is compressed
+    @Nullable
+    private final ByteBuf scratch;
+
     private int writtenBytes = 0;
     private boolean empty = true;
 
@@ -66,31 +69,19 @@ public class PacketMEInventoryUpdate extends AppEngPacket {
     public PacketMEInventoryUpdate(final ByteBuf stream) throws IOException {
         this.data = null;
         this.compressFrame = null;
+        this.scratch = null;
         this.list = new LinkedList<>();
         this.ref = stream.readByte();
 
         // int originalBytes = stream.readableBytes();
 
-        final GZIPInputStream gzReader = new GZIPInputStream(new InputStream() {
-
-            @Override
-            public int read() throws IOException {
-                if (stream.readableBytes() <= 0) {
-                    return -1;
-                }
-
-                return stream.readByte() & STREAM_MASK;
-            }
-        });
-
-        final ByteBuf uncompressed = Unpooled.buffer(stream.readableBytes());
-        final byte[] tmp = new byte[TEMP_BUFFER_SIZE];
-        while (gzReader.available() != 0) {
-            final int bytes = gzReader.read(tmp);
-            if (bytes > 0) {
-                uncompressed.writeBytes(tmp, 0, bytes);
-            }
-        }
+        final GZIPInputStream gzReader = new GZIPInputStream(new ByteBufInputStream(stream), COMPRESS_BUFFER_SIZE);
+
+        final ByteBuf uncompressed = Unpooled.buffer(Math.max(stream.readableBytes() * 4, OPERATION_BYTE_LIMIT));
+        int bytes;
+        do {
+            bytes = uncompressed.writeBytes(gzReader, COMPRESS_BUFFER_SIZE);
+        } while (bytes >= 0);
         gzReader.close();
 
         // int uncompressedBytes = uncompressed.readableBytes();
@@ -115,13 +106,8 @@ public class PacketMEInventoryUpdate extends AppEngPacket {
         this.data.writeInt(this.getPacketID());
         this.data.writeByte(this.ref);
 
-        this.compressFrame = new GZIPOutputStream(new OutputStream() {
-
-            @Override
-            public void write(final int value) throws IOException {
-                PacketMEInventoryUpdate.this.data.writeByte(value);
-            }
-        });
+        this.compressFrame = new GZIPOutputStream(new ByteBufOutputStream(this.data), COMPRESS_BUFFER_SIZE);
+        this.scratch = Unpooled.buffer(OPERATION_BYTE_LIMIT);
 
         this.list = null;
     }
@@ -164,15 +150,15 @@ public class PacketMEInventoryUpdate extends AppEngPacket {
     }
 
     public void appendItem(final IAEItemStack is) throws IOException, BufferOverflowException {
-        final ByteBuf tmp = Unpooled.buffer(OPERATION_BYTE_LIMIT);
+        final ByteBuf tmp = this.scratch;
+        tmp.clear();
         is.writeToPacket(tmp);
 
-        this.compressFrame.flush();
         if (this.writtenBytes + tmp.readableBytes() > UNCOMPRESSED_PACKET_BYTE_LIMIT) {
             throw new BufferOverflowException();
         } else {
             this.writtenBytes += tmp.readableBytes();
-            this.compressFrame.write(tmp.array(), 0, tmp.readableBytes());
+            this.compressFrame.write(tmp.array(), tmp.arrayOffset() + tmp.readerIndex(), tmp.readableBytes());
             this.empty = false;
         }
     }
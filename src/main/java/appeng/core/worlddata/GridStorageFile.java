@@ -0,0 +1,337 @@
+/*
+ * This file is part of Applied Energistics 2. Copyright (c) 2013 - 2015, AlgorithmX2, All rights reserved. Applied
+ * Energistics 2 is free software: you can redistribute it and/or modify it under the terms of the GNU Lesser General
+ * Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any
+ * later version. Applied Energistics 2 is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General
+ * Public License for more details. You should have received a copy of the GNU Lesser General Public License along with
+ * Applied Energistics 2. If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+
+package appeng.core.worlddata;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import com.google.common.base.Preconditions;
+
+import appeng.core.AELog;
+
+/**
+ * Binary, append only store of grid storages.
+ * <p>
+ * The file starts with a header holding the grid storage counter. It is followed by records, each either putting the
+ * NBT of one grid storage or removing it. Loading only reads where the records are, the NBT of a grid storage is read
+ * once it is requested. A rewritten grid storage is appended as a new record, the file is compacted once most of it is
+ * outdated records.
+ */
+final class GridStorageFile implements Closeable {
+
+    private static final int MAGIC = 0x41453247;
+    private static final int VERSION = 1;
+    private static final long COUNTER_OFFSET = 8;
+    private static final int HEADER_SIZE = 16;
+    private static final int RECORD_HEADER_SIZE = 13;
+    private static final byte PUT = 1;
+    private static final byte REMOVE = 2;
+    private static final long MIN_COMPACT_SIZE = 1024 * 1024;
+
+    private final File file;
+    private final Map<Long, Record> index = new HashMap<>();
+    private final Set<Long> pendingRemovals = new HashSet<>();
+    private RandomAccessFile data;
+    private long staleBytes;
+    private long counter;
+    private long writtenCounter;
+    private long highestID = -1;
+
+    GridStorageFile(@Nonnull final File file) {
+        Preconditions.checkNotNull(file);
+
+        this.file = file;
+    }
+
+    File getFile() {
+        return this.file;
+    }
+
+    boolean exists() {
+        return this.file.isFile();
+    }
+
+    boolean isOpen() {
+        return this.data != null;
+    }
+
+    /**
+     * Reads the header and the position of every record, creating the file if there is none.
+     */
+    void open() throws IOException {
+        if (!this.exists()) {
+            writeHeader(this.file, 0);
+        }
+
+        long validLength = HEADER_SIZE;
+        final long length = this.file.length();
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(this.file)))) {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+                throw new IOException("Unknown grid storage file format: " + this.file.getAbsolutePath());
+            }
+            this.counter = in.readLong();
+
+            while (validLength + RECORD_HEADER_SIZE <= length) {
+                final byte type = in.readByte();
+                final long id = in.readLong();
+                final int size = in.readInt();
+                final long offset = validLength + RECORD_HEADER_SIZE;
+                if (size < 0 || offset + size > length || (type != PUT && type != REMOVE)) {
+                    break;
+                }
+                in.skipBytes(size);
+
+                final Record old = type == PUT ? this.index.put(id, new Record(offset, size))
+                        : this.index.remove(id);
+                if (old != null) {
+                    this.staleBytes += RECORD_HEADER_SIZE + old.size;
+                }
+                if (type == REMOVE) {
+                    this.staleBytes += RECORD_HEADER_SIZE;
+                }
+                this.highestID = Math.max(this.highestID, id);
+                validLength = offset + size;
+            }
+        } catch (final EOFException e) {
+            // the last record was not completely written
+        }
+
+        this.writtenCounter = this.counter;
+        this.data = new RandomAccessFile(this.file, "rw");
+        if (validLength < length) {
+            AELog.warn("Dropping %d bytes of incomplete grid storage records", length - validLength);
+            this.data.setLength(validLength);
+        }
+    }
+
+    /**
+     * @return the next free grid storage id, never below an id that has a record
+     */
+    long getCounter() {
+        return Math.max(this.counter, this.highestID + 1);
+    }
+
+    void setCounter(final long counter) {
+        this.counter = counter;
+    }
+
+    @Nullable
+    byte[] read(final long id) throws IOException {
+        final Record record = this.index.get(id);
+        if (record == null) {
+            return null;
+        }
+        if (this.data == null) {
+            throw new IOException("Grid storage file is closed: " + this.file.getAbsolutePath());
+        }
+
+        final byte[] bytes = new byte[record.size];
+        this.data.seek(record.offset);
+        this.data.readFully(bytes);
+        record.hash = hash(bytes);
+        return bytes;
+    }
+
+    /**
+     * Appends a grid storage unless it is unchanged since it was last read or written.
+     *
+     * @return true if a record was written
+     */
+    boolean write(final long id, @Nonnull final byte[] bytes) throws IOException {
+        this.pendingRemovals.remove(id);
+
+        final long hash = hash(bytes);
+        final Record old = this.index.get(id);
+        if (old != null && old.size == bytes.length && old.hash == hash) {
+            return false;
+        }
+
+        final long offset = this.append(PUT, id, bytes);
+        final Record record = new Record(offset, bytes.length);
+        record.hash = hash;
+        this.index.put(id, record);
+        this.highestID = Math.max(this.highestID, id);
+        if (old != null) {
+            this.staleBytes += RECORD_HEADER_SIZE + old.size;
+        }
+        return true;
+    }
+
+    /**
+     * Forgets a grid storage, the removal is written with the next {@link #flush()}.
+     */
+    void remove(final long id) {
+        final Record old = this.index.remove(id);
+        if (old != null) {
+            this.staleBytes += 2 * RECORD_HEADER_SIZE + old.size;
+            this.pendingRemovals.add(id);
+        }
+    }
+
+    /**
+     * Migrates a grid storage, without any of the checks of {@link #write(long, byte[])}.
+     */
+    void put(final long id, @Nonnull final byte[] bytes) throws IOException {
+        this.index.put(id, new Record(this.append(PUT, id, bytes), bytes.length));
+        this.highestID = Math.max(this.highestID, id);
+    }
+
+    /**
+     * Writes pending removals and the counter, compacting the file if most of it is outdated. Does nothing once the
+     * file is closed.
+     */
+    void flush() throws IOException {
+        if (this.data == null) {
+            return;
+        }
+
+        for (final long id : this.pendingRemovals) {
+            this.append(REMOVE, id, new byte[0]);
+        }
+        this.pendingRemovals.clear();
+
+        if (this.counter != this.writtenCounter) {
+            this.data.seek(COUNTER_OFFSET);
+            this.data.writeLong(this.counter);
+            this.writtenCounter = this.counter;
+        }
+
+        final long length = this.data.length();
+        if (length > MIN_COMPACT_SIZE && this.staleBytes * 2 > length) {
+            this.compact();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (this.data != null) {
+            this.flush();
+            this.data.close();
+            this.data = null;
+        }
+    }
+
+    private long append(final byte type, final long id, final byte[] bytes) throws IOException {
+        final long start = this.data.length();
+        final ByteBuffer record = ByteBuffer.allocate(RECORD_HEADER_SIZE + bytes.length);
+        record.put(type).putLong(id).putInt(bytes.length).put(bytes);
+
+        this.data.seek(start);
+        this.data.write(record.array());
+        return start + RECORD_HEADER_SIZE;
+    }
+
+    /**
+     * Rewrites the file with a single record for each grid storage, replacing the old file once it is complete.
+     */
+    private void compact() throws IOException {
+        final File compacted = new File(this.file.getPath() + ".tmp");
+        final Map<Long, Record> compactedIndex = new HashMap<>();
+
+        try (DataOutputStream out = new DataOutputStream(
+                new BufferedOutputStream(new FileOutputStream(compacted)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeLong(this.counter);
+
+            long offset = HEADER_SIZE;
+            for (final Map.Entry<Long, Record> entry : this.index.entrySet()) {
+                final Record record = entry.getValue();
+                final byte[] bytes = new byte[record.size];
+                this.data.seek(record.offset);
+                this.data.readFully(bytes);
+
+                out.writeByte(PUT);
+                out.writeLong(entry.getKey());
+                out.writeInt(bytes.length);
+                out.write(bytes);
+
+                final Record moved = new Record(offset + RECORD_HEADER_SIZE, record.size);
+                moved.hash = record.hash;
+                compactedIndex.put(entry.getKey(), moved);
+                offset += RECORD_HEADER_SIZE + record.size;
+            }
+        }
+
+        this.data.close();
+        try {
+            Files.move(
+                    compacted.toPath(),
+                    this.file.toPath(),
+                    StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+        } catch (final AtomicMoveNotSupportedException e) {
+            Files.move(compacted.toPath(), this.file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            this.data = new RandomAccessFile(this.file, "rw");
+        }
+
+        this.index.clear();
+        this.index.putAll(compactedIndex);
+        this.staleBytes = 0;
+        this.writtenCounter = this.counter;
+    }
+
+    private static void writeHeader(final File file, final long counter) throws IOException {
+        try (DataOutputStream out = new DataOutputStream(new FileOutputStream(file))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeLong(counter);
+        }
+    }
+
+    /**
+     * 64 bit FNV-1a, wide enough that a changed grid storage is not mistaken for an unchanged one.
+     */
+    private static long hash(final byte[] bytes) {
+        long hash = 0xcbf29ce484222325L;
+        for (final byte b : bytes) {
+            hash ^= b & 0xff;
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    private static final class Record {
+
+        private final long offset;
+        private final int size;
+        /**
+         * Hash of the NBT last read or written, 0 while it was not read yet.
+         */
+        private long hash;
+
+        private Record(final long offset, final int size) {
+            this.offset = offset;
+            this.size = size;
+        }
+    }
+}
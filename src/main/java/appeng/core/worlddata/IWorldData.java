@@ -19,6 +19,8 @@ import javax.annotation.Nonnull;
  */
 public interface IWorldData {
 
+    void onWorldSave();
+
     void onServerStopping();
 
     void onServerStoppped();
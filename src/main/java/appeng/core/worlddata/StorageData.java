@@ -10,13 +10,18 @@
 
 package appeng.core.worlddata;
 
+import java.io.File;
+import java.io.IOException;
 import java.lang.ref.WeakReference;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
 import java.util.Map;
 import java.util.WeakHashMap;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
+import net.minecraftforge.common.config.ConfigCategory;
 import net.minecraftforge.common.config.Configuration;
 import net.minecraftforge.common.config.Property;
 
@@ -27,27 +32,37 @@ import appeng.me.GridStorage;
 import appeng.me.GridStorageSearch;
 
 /**
+ * Grid storages live in their own binary file, see {@link GridStorageFile}. Worlds that kept them in the settings
+ * file are migrated once.
+ *
  * @author thatsIch
  * @version rv3 - 30.05.2015
  * @since rv3 30.05.2015
  */
-final class StorageData implements IWorldGridStorageData, IOnWorldStartable, IOnWorldStoppable {
+final class StorageData implements IWorldGridStorageData, IOnWorldStartable, IOnWorldSaveable, IOnWorldStoppable {
 
     private static final String LAST_GRID_STORAGE_CATEGORY = "Counters";
     private static final String LAST_GRID_STORAGE_KEY = "lastGridStorage";
     private static final int LAST_GRID_STORAGE_DEFAULT = 0;
 
     private static final String GRID_STORAGE_CATEGORY = "gridstorage";
+    private static final String GRID_STORAGE_FILE_NAME = "gridstorage.dat";
+    private static final String MIGRATION_FILE_NAME = "gridstorage.dat.migrating";
 
     private final Map<GridStorageSearch, WeakReference<GridStorageSearch>> loadedStorage = new WeakHashMap<>(10);
     private final Configuration config;
+    private final File ae2directory;
+    private final GridStorageFile storageFile;
 
     private long lastGridStorage;
 
-    public StorageData(@Nonnull final Configuration settingsFile) {
+    public StorageData(@Nonnull final Configuration settingsFile, @Nonnull final File ae2directory) {
         Preconditions.checkNotNull(settingsFile);
+        Preconditions.checkNotNull(ae2directory);
 
         this.config = settingsFile;
+        this.ae2directory = ae2directory;
+        this.storageFile = new GridStorageFile(new File(ae2directory, GRID_STORAGE_FILE_NAME));
     }
 
     /**
@@ -63,9 +78,15 @@ final class StorageData implements IWorldGridStorageData, IOnWorldStartable, IOn
         final WeakReference<GridStorageSearch> result = this.loadedStorage.get(gss);
 
         if (result == null || result.get() == null) {
-            final String id = String.valueOf(storageID);
-            final String data = this.config.get("gridstorage", id, "").getString();
-            final GridStorage thisStorage = new GridStorage(data, storageID, gss);
+            byte[] data = null;
+            try {
+                data = this.storageFile.read(storageID);
+            } catch (final IOException e) {
+                AELog.warn(e, "Failed to read grid storage " + storageID);
+            }
+
+            final GridStorage thisStorage = data == null ? new GridStorage(storageID, gss)
+                    : new GridStorage(data, storageID, gss);
             gss.setGridStorage(new WeakReference<>(thisStorage));
             this.loadedStorage.put(gss, new WeakReference<>(gss));
             return thisStorage;
@@ -91,16 +112,13 @@ final class StorageData implements IWorldGridStorageData, IOnWorldStartable, IOn
 
     @Override
     public long nextGridStorage() {
-        final long r = this.lastGridStorage;
-        this.lastGridStorage++;
-        this.config.get("Counters", "lastGridStorage", this.lastGridStorage).set(Long.toString(this.lastGridStorage));
-        return r;
+        // written with the next save, the file never hands out an id it already has a record for
+        return this.lastGridStorage++;
     }
 
     @Override
     public void destroyGridStorage(final long id) {
-        final String stringID = String.valueOf(id);
-        this.config.getCategory("gridstorage").remove(stringID);
+        this.storageFile.remove(id);
     }
 
     @Override
@@ -113,29 +131,97 @@ final class StorageData implements IWorldGridStorageData, IOnWorldStartable, IOn
 
     @Override
     public void onWorldStart() {
-        final String lastString = this.config
-                .get(LAST_GRID_STORAGE_CATEGORY, LAST_GRID_STORAGE_KEY, LAST_GRID_STORAGE_DEFAULT).getString();
+        try {
+            if (!this.storageFile.exists() && this.config.hasCategory(GRID_STORAGE_CATEGORY)) {
+                this.migrate();
+            }
+
+            this.storageFile.open();
+        } catch (final IOException e) {
+            throw new IllegalStateException("Failed to load grid storages of " + this.ae2directory, e);
+        }
 
+        this.lastGridStorage = this.storageFile.getCounter();
+    }
+
+    @Override
+    public void onWorldSave() {
+        // the server saves its worlds once more after the world stopped, everything was written when it did
+        if (!this.storageFile.isOpen()) {
+            return;
+        }
+
+        int written = 0;
         try {
-            this.lastGridStorage = Long.parseLong(lastString);
-        } catch (final NumberFormatException err) {
-            AELog.warn("The config contained a value which was not represented as a Long: %s", lastString);
+            for (final GridStorageSearch gs : this.loadedStorage.keySet()) {
+                final GridStorage thisStorage = gs.getGridStorage().get();
+                if (thisStorage != null && thisStorage.getGrid() != null && !thisStorage.getGrid().isEmpty()) {
+                    if (this.storageFile.write(thisStorage.getID(), thisStorage.getBytes())) {
+                        written++;
+                    }
+                }
+            }
 
-            this.lastGridStorage = 0;
+            this.storageFile.setCounter(this.lastGridStorage);
+            this.storageFile.flush();
+        } catch (final IOException e) {
+            AELog.error(e, "Failed to save grid storages");
         }
+
+        AELog.debug("Saved %d changed grid storages", written);
     }
 
     @Override
     public void onWorldStop() {
-        // populate new data
-        for (final GridStorageSearch gs : this.loadedStorage.keySet()) {
-            final GridStorage thisStorage = gs.getGridStorage().get();
-            if (thisStorage != null && thisStorage.getGrid() != null && !thisStorage.getGrid().isEmpty()) {
-                final String value = thisStorage.getValue();
-                this.config.get(GRID_STORAGE_CATEGORY, String.valueOf(thisStorage.getID()), value).set(value);
+        this.onWorldSave();
+
+        try {
+            this.storageFile.close();
+        } catch (final IOException e) {
+            AELog.error(e, "Failed to close grid storages");
+        }
+
+        this.config.save();
+    }
+
+    /**
+     * Moves the grid storages and their counter out of the settings file. The new file only replaces the settings
+     * once it is complete.
+     */
+    private void migrate() throws IOException {
+        final File migrationFile = new File(this.ae2directory, MIGRATION_FILE_NAME);
+        Files.deleteIfExists(migrationFile.toPath());
+
+        final ConfigCategory category = this.config.getCategory(GRID_STORAGE_CATEGORY);
+        final GridStorageFile migrated = new GridStorageFile(migrationFile);
+        migrated.open();
+        for (final Map.Entry<String, Property> entry : category.entrySet()) {
+            final long id;
+            try {
+                id = Long.parseLong(entry.getKey());
+            } catch (final NumberFormatException err) {
+                AELog.warn("Skipping grid storage with an id that is not a Long: %s", entry.getKey());
+                continue;
             }
+            migrated.put(id, new GridStorage(entry.getValue().getString(), id, null).getBytes());
         }
 
+        final String lastString = this.config
+                .get(LAST_GRID_STORAGE_CATEGORY, LAST_GRID_STORAGE_KEY, LAST_GRID_STORAGE_DEFAULT).getString();
+        long counter = 0;
+        try {
+            counter = Long.parseLong(lastString);
+        } catch (final NumberFormatException err) {
+            AELog.warn("The config contained a value which was not represented as a Long: %s", lastString);
+        }
+        migrated.setCounter(Math.max(counter, migrated.getCounter()));
+        migrated.close();
+
+        Files.move(migrationFile.toPath(), this.storageFile.getFile().toPath(), StandardCopyOption.REPLACE_EXISTING);
+
+        AELog.info("Migrated %d grid storages out of the settings file", category.size());
+        this.config.removeCategory(category);
+        this.config.getCategory(LAST_GRID_STORAGE_CATEGORY).remove(LAST_GRID_STORAGE_KEY);
         this.config.save();
     }
 }
@@ -54,6 +54,7 @@ public final class WorldData implements IWorldData {
     private final IWorldSpawnData spawnData;
 
     private final List<IOnWorldStartable> startables;
+    private final List<IOnWorldSaveable> saveables;
     private final List<IOnWorldStoppable> stoppables;
 
     private final File ae2directory;
@@ -75,7 +76,7 @@ public final class WorldData implements IWorldData {
 
         final PlayerData playerData = new PlayerData(this.sharedConfig);
         final DimensionData dimensionData = new DimensionData(this.sharedConfig);
-        final StorageData storageData = new StorageData(this.sharedConfig);
+        final StorageData storageData = new StorageData(this.sharedConfig, this.ae2directory);
 
         final ThreadFactory compassThreadFactory = new CompassThreadFactory();
         final CompassService compassService = new CompassService(this.compassDirectory, compassThreadFactory);
@@ -90,6 +91,7 @@ public final class WorldData implements IWorldData {
         this.spawnData = spawnData;
 
         this.startables = Lists.newArrayList(playerData, dimensionData, storageData);
+        this.saveables = Lists.newArrayList(storageData);
         this.stoppables = Lists.newArrayList(playerData, dimensionData, storageData, compassData);
     }
 
@@ -139,6 +141,13 @@ public final class WorldData implements IWorldData {
         this.startables.clear();
     }
 
+    @Override
+    public void onWorldSave() {
+        for (final IOnWorldSaveable saveable : this.saveables) {
+            saveable.onWorldSave();
+        }
+    }
+
     @Override
     public void onServerStopping() {
         for (final IOnWorldStoppable stoppable : this.stoppables) {
@@ -150,6 +159,7 @@ public final class WorldData implements IWorldData {
     public void onServerStoppped() {
         Preconditions.checkNotNull(instance);
 
+        this.saveables.clear();
         this.stoppables.clear();
         instance = null;
     }
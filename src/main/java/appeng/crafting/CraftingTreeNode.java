@@ -107,14 +107,13 @@ public class CraftingTreeNode {
         this.what.setStackSize(l);
         if (this.getSlot() >= 0 && this.parent != null && this.parent.details.isCraftable()) {
             final Collection<IAEItemStack> itemList;
-            final IItemList<IAEItemStack> inventoryList = inv.getItemList();
 
             if (this.parent.details.canSubstitute()) {
-                itemList = inventoryList.findFuzzy(this.what, FuzzyMode.IGNORE_ALL);
+                itemList = inv.findFuzzy(this.what, FuzzyMode.IGNORE_ALL);
             } else {
                 itemList = Lists.newArrayList();
 
-                final IAEItemStack item = inventoryList.findPrecise(this.what);
+                final IAEItemStack item = inv.findPrecise(this.what);
 
                 if (item != null) {
                     itemList.add(item);
@@ -150,11 +149,11 @@ public class CraftingTreeNode {
         } else {
             final Collection<IAEItemStack> itemList;
             if (this.parent != null && this.parent.details.canSubstitute()) {
-                itemList = inv.getItemList().findFuzzy(this.what, FuzzyMode.IGNORE_ALL);
+                itemList = inv.findFuzzy(this.what, FuzzyMode.IGNORE_ALL);
             } else {
                 itemList = Lists.newArrayList();
 
-                final IAEItemStack item = inv.getItemList().findPrecise(this.what);
+                final IAEItemStack item = inv.findPrecise(this.what);
 
                 if (item != null) {
                     itemList.add(item);
@@ -10,10 +10,19 @@
 
 package appeng.crafting;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+
 import javax.annotation.Nonnull;
 
 import appeng.api.AEApi;
 import appeng.api.config.Actionable;
+import appeng.api.config.FuzzyMode;
 import appeng.api.networking.security.BaseActionSource;
 import appeng.api.storage.IMEInventory;
 import appeng.api.storage.IMEMonitor;
@@ -21,13 +30,40 @@ import appeng.api.storage.StorageChannel;
 import appeng.api.storage.data.IAEItemStack;
 import appeng.api.storage.data.IItemList;
 
+/**
+ * An overlay over a parent inventory or the network. Item types are read through to the parent the first time they are
+ * looked up and only changes are kept locally, so an overlay costs as much as the types a calculation touches.
+ * {@link #commit} applies the logged changes to the parent, dropping the overlay discards them.
+ */
 public class MECraftingInventory implements IMEInventory<IAEItemStack> {
 
+    /**
+     * Runs reads of the network, a calculation running off the server thread hands them to the server thread.
+     */
+    public interface INetworkReader {
+
+        <T> T read(Callable<T> read) throws Exception;
+    }
+
+    private static final INetworkReader DIRECT_READER = Callable::call;
+
     private final MECraftingInventory par;
 
     private final IMEInventory<IAEItemStack> target;
     private final IItemList<IAEItemStack> localCache;
 
+    /**
+     * Types already read through from {@link #target}, as zero sized stacks.
+     */
+    private final IItemList<IAEItemStack> readTypes = AEApi.instance().storage().createItemList();
+    /**
+     * Filters already read through from {@link #target} by {@link #findFuzzy}, as zero sized stacks.
+     */
+    private final Map<FuzzyMode, IItemList<IAEItemStack>> readFilters = new EnumMap<>(FuzzyMode.class);
+    private boolean readEverything;
+    private final BaseActionSource readSource;
+    private INetworkReader networkReader = DIRECT_READER;
+
     private final boolean logExtracted;
     private final IItemList<IAEItemStack> extractedCache;
 
@@ -46,6 +82,8 @@ public class MECraftingInventory implements IMEInventory<IAEItemStack> {
         this.logInjections = false;
         this.logMissing = false;
         this.target = null;
+        this.readSource = null;
+        this.readEverything = true;
         this.par = null;
     }
 
@@ -73,8 +111,8 @@ public class MECraftingInventory implements IMEInventory<IAEItemStack> {
             this.injectedCache = null;
         }
 
-        this.localCache = this.target.getAvailableItems(AEApi.instance().storage().createItemList());
-
+        this.localCache = AEApi.instance().storage().createItemList();
+        this.readSource = null;
         this.par = parent;
     }
 
@@ -104,10 +142,7 @@ public class MECraftingInventory implements IMEInventory<IAEItemStack> {
         }
 
         this.localCache = AEApi.instance().storage().createItemList();
-        for (final IAEItemStack is : target.getStorageList()) {
-            this.localCache.add(target.extractItems(is, Actionable.SIMULATE, src));
-        }
-
+        this.readSource = src;
         this.par = null;
     }
 
@@ -136,7 +171,8 @@ public class MECraftingInventory implements IMEInventory<IAEItemStack> {
             this.injectedCache = null;
         }
 
-        this.localCache = target.getAvailableItems(AEApi.instance().storage().createItemList());
+        this.localCache = AEApi.instance().storage().createItemList();
+        this.readSource = null;
         this.par = null;
     }
 
@@ -162,7 +198,7 @@ public class MECraftingInventory implements IMEInventory<IAEItemStack> {
             return null;
         }
 
-        final IAEItemStack list = this.localCache.findPrecise(request);
+        final IAEItemStack list = this.findPrecise(request);
         if (list == null || list.getStackSize() == 0) {
             return null;
         }
@@ -193,6 +229,7 @@ public class MECraftingInventory implements IMEInventory<IAEItemStack> {
 
     @Override
     public IItemList<IAEItemStack> getAvailableItems(final IItemList<IAEItemStack> out) {
+        this.readEverything();
         for (final IAEItemStack is : this.localCache) {
             out.add(is);
         }
@@ -202,18 +239,154 @@ public class MECraftingInventory implements IMEInventory<IAEItemStack> {
 
     @Override
     public IAEItemStack getAvailableItem(@Nonnull IAEItemStack request) {
-        long count = 0;
-        for (final IAEItemStack is : this.localCache) {
-            if (is != null && is.getStackSize() > 0 && is.isSameType(request)) {
-                count += is.getStackSize();
-                if (count < 0) {
-                    // overflow
-                    count = Long.MAX_VALUE;
-                    break;
+        final IAEItemStack is = this.findPrecise(request);
+        if (is == null || is.getStackSize() <= 0) {
+            return null;
+        }
+        return request.copy().setStackSize(is.getStackSize());
+    }
+
+    /**
+     * @return The local record of the exact type, reading it through from the parent on first access.
+     */
+    public IAEItemStack findPrecise(final IAEItemStack request) {
+        if (request == null) {
+            return null;
+        }
+
+        if (!this.readEverything && this.readTypes.findPrecise(request) == null) {
+            final IAEItemStack upstream = this.readUpstream(request);
+            this.markRead(request);
+            this.localCache.add(upstream);
+        }
+        return this.localCache.findPrecise(request);
+    }
+
+    /**
+     * @return The local records matching the filter, reading the matching types through from the parent first.
+     */
+    public Collection<IAEItemStack> findFuzzy(final IAEItemStack filter, final FuzzyMode fuzzy) {
+        if (filter == null) {
+            return Collections.emptyList();
+        }
+
+        if (!this.readEverything) {
+            final IItemList<IAEItemStack> filters = this.readFilters
+                    .computeIfAbsent(fuzzy, f -> AEApi.instance().storage().createItemList());
+            if (filters.findPrecise(filter) == null) {
+                for (final IAEItemStack upstream : this.readUpstreamFuzzy(filter, fuzzy)) {
+                    if (this.readTypes.findPrecise(upstream) == null) {
+                        this.markRead(upstream);
+                        this.localCache.add(upstream);
+                    }
+                }
+                filters.add(filter.copy().setStackSize(0));
+            }
+        }
+        return this.localCache.findFuzzy(filter, fuzzy);
+    }
+
+    /**
+     * Lets the reads of the network go through the given reader, for calculations running off the server thread.
+     */
+    public void setNetworkReader(@Nonnull final INetworkReader networkReader) {
+        this.networkReader = networkReader;
+    }
+
+    private void markRead(final IAEItemStack type) {
+        this.readTypes.add(type.copy().setStackSize(0));
+    }
+
+    private IAEItemStack readUpstream(final IAEItemStack request) {
+        if (this.par != null) {
+            final IAEItemStack is = this.par.findPrecise(request);
+            return is == null ? null : is.copy();
+        }
+
+        return this.readNetwork(() -> {
+            if (this.target instanceof IMEMonitor<IAEItemStack> monitor) {
+                final IAEItemStack stored = monitor.getStorageList().findPrecise(request);
+                return stored == null ? null : this.readStored(monitor, stored);
+            }
+            return this.target.getAvailableItem(request);
+        });
+    }
+
+    private List<IAEItemStack> readUpstreamFuzzy(final IAEItemStack filter, final FuzzyMode fuzzy) {
+        final List<IAEItemStack> out = new ArrayList<>();
+        if (this.par != null) {
+            for (final IAEItemStack is : this.par.findFuzzy(filter, fuzzy)) {
+                out.add(is.copy());
+            }
+            return out;
+        }
+
+        if (!(this.target instanceof IMEMonitor<IAEItemStack> monitor)) {
+            // a plain inventory can only list everything
+            this.readEverything();
+            return out;
+        }
+
+        return this.readNetwork(() -> {
+            for (final IAEItemStack stored : monitor.getStorageList().findFuzzy(filter, fuzzy)) {
+                final IAEItemStack is = this.readStored(monitor, stored);
+                out.add(is == null ? stored.copy().setStackSize(0) : is);
+            }
+            return out;
+        });
+    }
+
+    /**
+     * Reads what can be taken of a stored stack, the amount stored when there is no source to simulate extracts with.
+     */
+    private IAEItemStack readStored(final IMEMonitor<IAEItemStack> monitor, final IAEItemStack stored) {
+        if (this.readSource == null) {
+            return stored.copy();
+        }
+        return monitor.extractItems(stored.copy(), Actionable.SIMULATE, this.readSource);
+    }
+
+    /**
+     * Reads all types not read yet, the full copy the overlay otherwise avoids. Only listing the whole inventory needs
+     * it.
+     */
+    private void readEverything() {
+        if (this.readEverything) {
+            return;
+        }
+
+        final IItemList<IAEItemStack> upstream;
+        if (this.par != null) {
+            upstream = this.par.getAvailableItems(AEApi.instance().storage().createItemList());
+        } else {
+            upstream = this.readNetwork(() -> {
+                if (this.target instanceof IMEMonitor<IAEItemStack> monitor && this.readSource != null) {
+                    final IItemList<IAEItemStack> out = AEApi.instance().storage().createItemList();
+                    for (final IAEItemStack stored : monitor.getStorageList()) {
+                        out.add(this.readStored(monitor, stored));
+                    }
+                    return out;
                 }
+                return this.target.getAvailableItems(AEApi.instance().storage().createItemList());
+            });
+        }
+
+        for (final IAEItemStack is : upstream) {
+            if (this.readTypes.findPrecise(is) == null) {
+                this.localCache.add(is);
             }
         }
-        return count == 0 ? null : request.copy().setStackSize(count);
+        this.readEverything = true;
+    }
+
+    private <T> T readNetwork(final Callable<T> read) {
+        try {
+            return this.networkReader.read(read);
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
     }
 
     @Override
@@ -221,6 +394,9 @@ public class MECraftingInventory implements IMEInventory<IAEItemStack> {
         return StorageChannel.ITEMS;
     }
 
+    /**
+     * @return The local records, only holding the types read or injected so far unless the whole inventory was listed.
+     */
     public IItemList<IAEItemStack> getItemList() {
         return this.localCache;
     }
@@ -288,7 +464,7 @@ public class MECraftingInventory implements IMEInventory<IAEItemStack> {
     }
 
     public void ignore(final IAEItemStack what) {
-        final IAEItemStack list = this.localCache.findPrecise(what);
+        final IAEItemStack list = this.findPrecise(what);
         if (list != null) {
             list.setStackSize(0);
         }
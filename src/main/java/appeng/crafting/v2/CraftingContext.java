@@ -10,6 +10,14 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
@@ -24,6 +32,7 @@ import net.minecraft.world.WorldServer;
 import com.google.common.collect.ClassToInstanceMap;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.MutableClassToInstanceMap;
 
 import appeng.api.AEApi;
@@ -39,6 +48,7 @@ import appeng.api.storage.data.IItemList;
 import appeng.container.ContainerNull;
 import appeng.core.AEConfig;
 import appeng.crafting.MECraftingInventory;
+import appeng.crafting.v2.resolvers.CraftableItemResolver.CraftFromPatternTask;
 import appeng.crafting.v2.resolvers.CraftingTask;
 import appeng.crafting.v2.resolvers.CraftingTask.State;
 import appeng.me.cache.CraftingGridCache;
@@ -60,8 +70,8 @@ public final class CraftingContext {
     public BaseActionSource actionSource;
 
     /**
-     * A working copy of the AE system's item list used for modelling what happens as crafting requests get resolved.
-     * Only extract, inject into {@link CraftingContext#byproductsInventory}.
+     * A working overlay of the AE system's item list used for modelling what happens as crafting requests get resolved,
+     * item types are read from the system when first looked up. Only extract, inject into {@link CraftingContext#byproductsInventory}.
      */
     public final MECraftingInventory itemModel;
     /**
@@ -79,7 +89,7 @@ public final class CraftingContext {
      */
     public final MECraftingInventory byproductsInventory;
     /**
-     * A cache of how many items were present at the beginning of the crafting request, do not modify
+     * A cache of how many items were present when first looked up during the crafting request, do not modify
      */
     public final MECraftingInventory availableCache;
 
@@ -110,6 +120,20 @@ public final class CraftingContext {
     private final OreListMultiMap<ICraftingPatternDetails> fuzzyPatternCache = new OreListMultiMap<>();
     private final IdentityHashMap<ICraftingPatternDetails, Boolean> isPatternComplexCache = new IdentityHashMap<>();
     private final ClassToInstanceMap<Object> userCaches = MutableClassToInstanceMap.create();
+    private final ImmutableSet<IAEItemStack> emitableItems;
+
+    /**
+     * The worker thread while the calculation runs asynchronously, calls into the world or grid from it have to go
+     * through {@link #callOnServerThread(Callable)}.
+     */
+    volatile Thread asyncWorker = null;
+    private volatile boolean asyncAborted = false;
+    /**
+     * Set while the worker waits for the server thread to run one of its calls.
+     */
+    private volatile boolean awaitingReply = false;
+    private final BlockingQueue<FutureTask<?>> serverCalls = new LinkedBlockingQueue<>();
+    private static final long SERVER_CALL_TIMEOUT_MS = 60_000;
 
     public CraftingContext(@Nonnull World world, @Nonnull IGrid meGrid, @Nonnull BaseActionSource actionSource) {
         this.world = world;
@@ -120,7 +144,122 @@ public final class CraftingContext {
         this.itemModel = new MECraftingInventory(sg.getItemInventory(), this.actionSource, true, false, true);
         this.byproductsInventory = new MECraftingInventory();
         this.availableCache = new MECraftingInventory(sg.getItemInventory(), this.actionSource, false, false, false);
+        // both read the network lazily, possibly from the async worker
+        this.itemModel.setNetworkReader(this::callOnServerThread);
+        this.availableCache.setNetworkReader(this::callOnServerThread);
         this.availablePatterns = craftingGrid.getCraftingPatterns();
+        this.emitableItems = craftingGrid instanceof CraftingGridCache
+                ? ((CraftingGridCache) craftingGrid).getEmitableItems()
+                : null;
+    }
+
+    /**
+     * @return Whether a level emitter on the grid can emit a crafting request for the stack, as of the start of the
+     *         calculation.
+     */
+    public boolean canEmitFor(@Nonnull IAEItemStack stack) {
+        if (this.emitableItems == null) {
+            return this.craftingGrid.canEmitFor(stack);
+        }
+        return this.emitableItems.contains(stack);
+    }
+
+    /**
+     * Runs a call that touches the world or live grid state. When the calculation runs on an asynchronous worker the
+     * call is handed to the server thread and the worker waits for the result, otherwise it runs directly.
+     */
+    public <T> T callOnServerThread(@Nonnull Callable<T> call) {
+        if (Thread.currentThread() != this.asyncWorker) {
+            try {
+                return call.call();
+            } catch (RuntimeException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+        }
+
+        final FutureTask<T> task = new FutureTask<>(call);
+        this.awaitingReply = true;
+        this.serverCalls.add(task);
+        final long giveUp = System.currentTimeMillis() + SERVER_CALL_TIMEOUT_MS;
+        try {
+            while (true) {
+                if (this.asyncAborted || System.currentTimeMillis() > giveUp) {
+                    task.cancel(false);
+                    throw new CancellationException("Crafting calculation was aborted");
+                }
+                try {
+                    return task.get(1, TimeUnit.SECONDS);
+                } catch (TimeoutException ignored) {
+                    // check for an abort and keep waiting
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CancellationException("Crafting calculation was interrupted");
+        } catch (ExecutionException e) {
+            final Throwable cause = e.getCause();
+            throw cause instanceof RuntimeException ? (RuntimeException) cause : new RuntimeException(cause);
+        } finally {
+            this.awaitingReply = false;
+        }
+    }
+
+    /**
+     * Runs the calls queued by the asynchronous worker on the current (server) thread. Keeps serving them while the
+     * worker waits for a reply and the time budget allows it, returns as soon as nothing is queued and the worker is
+     * busy with its own work.
+     */
+    void runServerCalls(final long budgetNanos) {
+        final long deadline = System.nanoTime() + budgetNanos;
+        while (true) {
+            FutureTask<?> task = this.serverCalls.poll();
+            if (task == null) {
+                if (!this.awaitingReply) {
+                    return;
+                }
+
+                // the worker is about to queue its call or to pick up the reply of the last one
+                final long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    return;
+                }
+                try {
+                    final long slice = Math.min(remaining, TimeUnit.MILLISECONDS.toNanos(1));
+                    task = this.serverCalls.poll(slice, TimeUnit.NANOSECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+
+            if (task != null) {
+                task.run();
+            }
+        }
+    }
+
+    /**
+     * Stops serving calls of the asynchronous worker, any call it is waiting for fails.
+     */
+    void abortAsync() {
+        this.asyncAborted = true;
+        FutureTask<?> task;
+        while ((task = this.serverCalls.poll()) != null) {
+            task.cancel(false);
+        }
+    }
+
+    /**
+     * Completes what the asynchronous worker had to leave out, must be called on the server thread once it is done.
+     */
+    void finishAsync() {
+        for (CraftingTask task : this.resolvedTasks) {
+            if (task instanceof CraftFromPatternTask patternTask && patternTask.craftingMachine == null) {
+                patternTask.craftingMachine = this.getCrafterIconForPattern(patternTask.pattern);
+            }
+        }
     }
 
     /**
@@ -151,7 +290,14 @@ public final class CraftingContext {
         queueNextTaskOf(processing, true);
     }
 
+    /**
+     * @return The icon of a machine crafting the pattern. On an asynchronous worker this is null until the calculation
+     *         is finished, the icons are then filled in on the server thread.
+     */
     public IAEItemStack getCrafterIconForPattern(@Nonnull ICraftingPatternDetails pattern) {
+        if (Thread.currentThread() == this.asyncWorker) {
+            return null;
+        }
         return crafterIconCache.computeIfAbsent(pattern, ignored -> {
             if (craftingGrid instanceof CraftingGridCache) {
                 final List<ICraftingMedium> mediums = ((CraftingGridCache) craftingGrid).getMediums(pattern);
@@ -220,6 +366,10 @@ public final class CraftingContext {
      * @return What remains in the 3x3 crafting matrix
      */
     public IAEItemStack[] simulateComplexCrafting(IAEItemStack[] inputSlots, ICraftingPatternDetails pattern) {
+        return this.callOnServerThread(() -> this.simulateComplexCraftingNow(inputSlots, pattern));
+    }
+
+    private IAEItemStack[] simulateComplexCraftingNow(IAEItemStack[] inputSlots, ICraftingPatternDetails pattern) {
         if (inputSlots.length > 9) {
             throw new IllegalArgumentException(inputSlots.length + " slots supplied to a simulated crafting task");
         }
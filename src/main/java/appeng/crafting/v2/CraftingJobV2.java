@@ -3,9 +3,13 @@ package appeng.crafting.v2;
 import java.io.IOException;
 import java.util.List;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import net.minecraft.world.World;
 
@@ -19,12 +23,16 @@ import appeng.api.networking.crafting.ICraftingJob;
 import appeng.api.networking.security.BaseActionSource;
 import appeng.api.storage.data.IAEItemStack;
 import appeng.api.storage.data.IItemList;
+import appeng.core.AEConfig;
 import appeng.core.AELog;
+import appeng.crafting.CraftBranchFailure;
 import appeng.crafting.MECraftingInventory;
 import appeng.crafting.v2.CraftingContext.RequestInProcessing;
 import appeng.crafting.v2.CraftingRequest.SubstitutionMode;
+import appeng.crafting.v2.resolvers.CraftableItemResolver.CraftFromPatternTask;
 import appeng.crafting.v2.resolvers.CraftingTask;
 import appeng.hooks.TickHandler;
+import appeng.me.cache.CraftingGridCache;
 import appeng.me.cluster.implementations.CraftingCPUCluster;
 import cpw.mods.fml.common.network.ByteBufUtils;
 import io.netty.buffer.ByteBuf;
@@ -49,7 +57,19 @@ public class CraftingJobV2 implements ICraftingJob, Future<ICraftingJob>, ITreeS
         CANCELLED
     }
 
-    protected State state = State.RUNNING;
+    protected volatile State state = State.RUNNING;
+
+    /**
+     * Fixed pool for asynchronous calculations, sized by {@link AEConfig#craftingCalculationThreads}.
+     */
+    private static ExecutorService asyncPool;
+
+    /**
+     * Set when the calculation runs on {@link #asyncPool} instead of the world tick.
+     */
+    protected Future<?> asyncTask = null;
+    private volatile boolean asyncDone = false;
+    private volatile Exception asyncError = null;
 
     public CraftingJobV2(final World world, final IGrid meGrid, final BaseActionSource actionSource,
             final IAEItemStack what, final ICraftingCallback callback) {
@@ -186,8 +206,91 @@ public class CraftingJobV2 implements ICraftingJob, Future<ICraftingJob>, ITreeS
         return originalRequest.stack;
     }
 
+    private static synchronized ExecutorService getAsyncPool() {
+        if (asyncPool == null) {
+            final AtomicInteger threadId = new AtomicInteger();
+            final ThreadFactory factory = ar -> {
+                final Thread thread = new Thread(ar, "AE Crafting Calculator V2 #" + threadId.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            };
+            asyncPool = Executors.newFixedThreadPool(AEConfig.instance.craftingCalculationThreads, factory);
+        }
+        return asyncPool;
+    }
+
+    /**
+     * Runs the whole calculation on a worker of the asynchronous pool. The context works on the snapshot of items and
+     * patterns taken when the job was created, anything that needs the world is passed to the server thread.
+     */
+    private void calculateAsync() {
+        context.asyncWorker = Thread.currentThread();
+        try {
+            CraftingTask.State taskState;
+            do {
+                taskState = context.doWork();
+                totalByteCost = -1;
+            } while (taskState.needsMoreWork && state == State.RUNNING);
+        } catch (Exception e) {
+            asyncError = e;
+        } finally {
+            context.asyncWorker = null;
+            asyncDone = true;
+        }
+    }
+
+    /**
+     * The world tick side of an asynchronous calculation: serves the calls the worker needs on the server thread and
+     * completes the job once the worker is done.
+     */
+    private boolean simulateAsync(int milli) {
+        if (this.state != State.RUNNING) {
+            context.abortAsync();
+            return false;
+        }
+
+        context.runServerCalls(TimeUnit.MILLISECONDS.toNanos(milli));
+
+        if (!asyncDone) {
+            return true;
+        }
+
+        if (asyncError != null) {
+            this.fail(asyncError);
+            return false;
+        }
+
+        context.finishAsync();
+        this.finish();
+        return false;
+    }
+
+    private void fail(Exception e) {
+        AELog.error(e, "Error while simulating crafting for " + originalRequest);
+        errorMessage = e.toString();
+        this.state = State.CANCELLED;
+        if (callback != null) {
+            callback.calculationComplete(this);
+        }
+    }
+
+    private void finish() {
+        getByteTotal();
+        this.state = State.FINISHED;
+        if (AELog.isCraftingDebugLogEnabled()) {
+            AELog.log(Level.INFO, "Crafting job for %s finished with resolved steps:", originalRequest.toString());
+            AELog.logSimple(Level.INFO, context.toString());
+        }
+        if (callback != null) {
+            callback.calculationComplete(this);
+        }
+    }
+
     @Override
     public boolean simulateFor(int milli) {
+        if (this.asyncTask != null) {
+            return this.simulateAsync(milli);
+        }
         if (this.state != State.RUNNING) {
             return false;
         }
@@ -200,25 +303,12 @@ public class CraftingJobV2 implements ICraftingJob, Future<ICraftingJob>, ITreeS
                 totalByteCost = -1;
             } while (taskState.needsMoreWork && System.currentTimeMillis() < finishTime && (state == State.RUNNING));
         } catch (Exception e) {
-            AELog.error(e, "Error while simulating crafting for " + originalRequest);
-            errorMessage = e.toString();
-            this.state = State.CANCELLED;
-            if (callback != null) {
-                callback.calculationComplete(this);
-            }
+            this.fail(e);
             return false;
         }
 
         if (!taskState.needsMoreWork) {
-            getByteTotal();
-            this.state = State.FINISHED;
-            if (AELog.isCraftingDebugLogEnabled()) {
-                AELog.log(Level.INFO, "Crafting job for %s finished with resolved steps:", originalRequest.toString());
-                AELog.logSimple(Level.INFO, context.toString());
-            }
-            if (callback != null) {
-                callback.calculationComplete(this);
-            }
+            this.finish();
         }
 
         return taskState.needsMoreWork;
@@ -226,6 +316,9 @@ public class CraftingJobV2 implements ICraftingJob, Future<ICraftingJob>, ITreeS
 
     @Override
     public Future<ICraftingJob> schedule() {
+        if (AEConfig.instance.craftingCalculationThreads > 0) {
+            this.asyncTask = getAsyncPool().submit(this::calculateAsync);
+        }
         TickHandler.INSTANCE.registerCraftingSimulation(this.context.world, this);
         return this;
     }
@@ -244,6 +337,15 @@ public class CraftingJobV2 implements ICraftingJob, Future<ICraftingJob>, ITreeS
         CraftingCPUCluster cluster = (CraftingCPUCluster) rawCluster;
         context.actionSource = src;
         List<CraftingTask> resolvedTasks = context.getResolvedTasks();
+        if (this.asyncTask != null && context.craftingGrid instanceof CraftingGridCache cache) {
+            // The grid may have lost patterns while the worker was calculating, the items are checked by the commit.
+            for (CraftingTask task : resolvedTasks) {
+                if (task instanceof CraftFromPatternTask patternTask
+                        && cache.getMediums(patternTask.pattern).isEmpty()) {
+                    throw new CraftBranchFailure(patternTask.request.stack, patternTask.request.stack.getStackSize());
+                }
+            }
+        }
         for (CraftingTask task : resolvedTasks) {
             task.startOnCpu(context, cluster, storage);
         }
@@ -255,6 +357,9 @@ public class CraftingJobV2 implements ICraftingJob, Future<ICraftingJob>, ITreeS
             return false;
         } else {
             this.state = State.CANCELLED;
+            if (this.asyncTask != null) {
+                context.abortAsync();
+            }
             return true;
         }
     }
@@ -271,6 +376,12 @@ public class CraftingJobV2 implements ICraftingJob, Future<ICraftingJob>, ITreeS
 
     @Override
     public CraftingJobV2 get() throws InterruptedException, ExecutionException {
+        if (this.asyncTask != null) {
+            while (this.simulateFor(1)) {
+                Thread.sleep(1);
+            }
+            return this;
+        }
         this.simulateFor(Integer.MAX_VALUE);
         return this;
     }
@@ -279,7 +390,16 @@ public class CraftingJobV2 implements ICraftingJob, Future<ICraftingJob>, ITreeS
     public CraftingJobV2 get(long timeout, TimeUnit unit)
             throws InterruptedException, ExecutionException, TimeoutException {
         try {
-            this.simulateFor((int) unit.convert(timeout, TimeUnit.MILLISECONDS));
+            if (this.asyncTask != null) {
+                final long deadline = System.currentTimeMillis() + unit.toMillis(timeout);
+                while (this.simulateFor(1) && System.currentTimeMillis() < deadline) {
+                    Thread.sleep(1);
+                }
+            } else {
+                this.simulateFor((int) unit.convert(timeout, TimeUnit.MILLISECONDS));
+            }
+        } catch (InterruptedException e) {
+            throw e;
         } catch (Exception e) {
             throw new ExecutionException(e);
         }
@@ -370,7 +370,8 @@ public class CraftableItemResolver implements CraftingRequestResolver<IAEItemSta
                                 IAEItemStack.class,
                                 allowSimulation,
                                 request.craftingMode,
-                                stack -> this.isValidSubstitute(input, stack, context.world, finalSlot));
+                                stack -> context.callOnServerThread(
+                                        () -> this.isValidSubstitute(input, stack, context.world, finalSlot)));
                         complexRequestPerSlot.add(req);
                         newChildren.add(req);
                         childRequests.add(new RequestAndPerCraftAmount(req, input.getStackSize()));
@@ -393,7 +394,8 @@ public class CraftableItemResolver implements CraftingRequestResolver<IAEItemSta
                                     IAEItemStack.class,
                                     allowSimulation,
                                     request.craftingMode,
-                                    stack -> this.isValidSubstitute(recInput, stack, context.world));
+                                    stack -> context.callOnServerThread(
+                                            () -> this.isValidSubstitute(recInput, stack, context.world)));
                             newChildren.add(req);
                             childRecursionRequests.put(recInput, req);
                         }
@@ -407,7 +409,8 @@ public class CraftableItemResolver implements CraftingRequestResolver<IAEItemSta
                                 IAEItemStack.class,
                                 allowSimulation,
                                 request.craftingMode,
-                                stack -> this.isValidSubstitute(input, stack, context.world));
+                                stack -> context.callOnServerThread(
+                                        () -> this.isValidSubstitute(input, stack, context.world)));
                         newChildren.add(req);
                         childRequests.add(new RequestAndPerCraftAmount(req, input.getStackSize()));
                     }
@@ -106,7 +106,7 @@ public class EmitableItemResolver implements CraftingRequestResolver<IAEItemStac
     @Override
     public List<CraftingTask> provideCraftingRequestResolvers(@Nonnull CraftingRequest<IAEItemStack> request,
             @Nonnull CraftingContext context) {
-        if (context.craftingGrid.canEmitFor(request.stack)) {
+        if (context.canEmitFor(request.stack)) {
             return Collections.singletonList(new EmitItemTask(request));
         } else {
             return Collections.emptyList();
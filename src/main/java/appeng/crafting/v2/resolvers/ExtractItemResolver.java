@@ -75,7 +75,7 @@ public class ExtractItemResolver implements CraftingRequestResolver<IAEItemStack
         }
 
         private void extractExact(CraftingContext context, MECraftingInventory source, List<IAEItemStack> removedList) {
-            IAEItemStack exactMatching = source.getItemList().findPrecise(request.stack);
+            IAEItemStack exactMatching = source.findPrecise(request.stack);
             if (exactMatching != null) {
                 final long requestSize = Math.min(request.remainingToProcess, exactMatching.getStackSize());
                 final IAEItemStack extracted = source.extractItems(
@@ -90,8 +90,7 @@ public class ExtractItemResolver implements CraftingRequestResolver<IAEItemStack
         }
 
         private void extractFuzzy(CraftingContext context, MECraftingInventory source, List<IAEItemStack> removedList) {
-            Collection<IAEItemStack> fuzzyMatching = source.getItemList()
-                    .findFuzzy(request.stack, FuzzyMode.IGNORE_ALL);
+            Collection<IAEItemStack> fuzzyMatching = source.findFuzzy(request.stack, FuzzyMode.IGNORE_ALL);
             for (final IAEItemStack candidate : fuzzyMatching) {
                 if (candidate == null) {
                     continue;
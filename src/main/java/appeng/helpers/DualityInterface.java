@@ -17,6 +17,7 @@ import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.function.Consumer;
 
 import net.minecraft.block.Block;
 import net.minecraft.inventory.IInventory;
@@ -71,6 +72,7 @@ import appeng.api.storage.data.IAEItemStack;
 import appeng.api.util.AECableType;
 import appeng.api.util.DimensionalCoord;
 import appeng.api.util.IConfigManager;
+import appeng.container.ContainerNull;
 import appeng.core.AEConfig;
 import appeng.core.AELog;
 import appeng.core.settings.TickRates;
@@ -869,12 +871,33 @@ public class DualityInterface implements IGridTickable, IStorageMonitorable, IIn
 
     @Override
     public boolean pushPattern(final ICraftingPatternDetails patternDetails, final InventoryCrafting table) {
+        return this.pushPatterns(patternDetails, table, 1) > 0;
+    }
+
+    @Override
+    public int getMaxPatternCopies(final ICraftingPatternDetails patternDetails) {
+        // crafting machines and blocking mode take one pattern at a time, locks only remember one copy
+        if (patternDetails.isCraftable() || this.isBlocking()
+                || this.cm.getSetting(Settings.LOCK_CRAFTING_MODE) != LockCraftingMode.NONE) {
+            return 1;
+        }
+
+        return Integer.MAX_VALUE;
+    }
+
+    @Override
+    public int pushPatterns(final ICraftingPatternDetails patternDetails, final InventoryCrafting table,
+            final int copies) {
+        if (copies > this.getMaxPatternCopies(patternDetails)) {
+            return 0;
+        }
+
         if (this.hasItemsToSend() || !this.gridProxy.isActive() || !this.craftingList.contains(patternDetails)) {
-            return false;
+            return 0;
         }
 
         if (getCraftingLockedReason() != LockCraftingMode.NONE) {
-            return false;
+            return 0;
         }
 
         final TileEntity tile = this.iHost.getTileEntity();
@@ -895,10 +918,13 @@ public class DualityInterface implements IGridTickable, IStorageMonitorable, IIn
             }
 
             if (te instanceof ICraftingMachine cm) {
+                if (copies > 1) {
+                    continue;
+                }
                 if (cm.acceptsPlans()) {
                     if (cm.pushPattern(patternDetails, table, s.getOpposite())) {
                         onPushPatternSuccess(patternDetails);
-                        return true;
+                        return 1;
                     }
                     continue;
                 }
@@ -910,18 +936,18 @@ public class DualityInterface implements IGridTickable, IStorageMonitorable, IIn
                 if (this.isBlocking() && ad.containsItems() && !inventoryCountsAsEmpty(te, ad, s.getOpposite()))
                     continue;
 
-                if (acceptsItems(ad, table, getInsertionMode())) {
-                    for (int x = 0; x < table.getSizeInventory(); x++) {
-                        final ItemStack is = table.getStackInSlot(x);
-                        if (is != null) {
-                            this.addToSendList(ad.addItems(is, getInsertionMode()));
-                        }
-                    }
+                final int pushed = addPatternCopies(
+                        ad,
+                        copies == 1 ? table : singleCopy(table, copies),
+                        copies,
+                        getInsertionMode(),
+                        this::addToSendList);
+                if (pushed > 0) {
                     this.pushItemsOut(possibleDirections);
                     onPushPatternSuccess(patternDetails);
-                    return true;
+                    return pushed;
                 }
-            } else if (EIO && te instanceof IItemDuct) {
+            } else if (EIO && copies == 1 && te instanceof IItemDuct) {
                 boolean hadAcceptedSome = false;
                 for (int x = 0; x < table.getSizeInventory(); x++) {
                     final ItemStack is = table.getStackInSlot(x);
@@ -938,12 +964,77 @@ public class DualityInterface implements IGridTickable, IStorageMonitorable, IIn
                 if (hadAcceptedSome) {
                     this.pushItemsOut(possibleDirections);
                     onPushPatternSuccess(patternDetails);
-                    return true;
+                    return 1;
                 }
             }
         }
 
-        return false;
+        return 0;
+    }
+
+    /**
+     * Adds copies of a pattern to an inventory one at a time. A copy after the first is only added while all of its
+     * items fit, so a batch never leaves more items behind than pushing a single copy would.
+     *
+     * @param ad            target inventory
+     * @param single        the items of one copy
+     * @param copies        how many copies to add at most
+     * @param insertionMode insertion mode of the interface
+     * @param leftovers     receives the items the inventory didn't take
+     * @return how many copies were added
+     */
+    public static int addPatternCopies(final InventoryAdaptor ad, final InventoryCrafting single, final int copies,
+            final InsertionMode insertionMode, final Consumer<ItemStack> leftovers) {
+        int pushed = 0;
+        while (pushed < copies && (pushed == 0 ? acceptsItems(ad, single, insertionMode)
+                : fitsItems(ad, single, insertionMode))) {
+            boolean overflow = false;
+            for (int x = 0; x < single.getSizeInventory(); x++) {
+                final ItemStack is = single.getStackInSlot(x);
+                if (is != null) {
+                    final ItemStack rest = ad.addItems(is.copy(), insertionMode);
+                    if (rest != null) {
+                        leftovers.accept(rest);
+                        overflow = true;
+                    }
+                }
+            }
+            pushed++;
+            if (overflow) {
+                break;
+            }
+        }
+        return pushed;
+    }
+
+    /**
+     * @return a table with the items of one of the copies on {@code table}.
+     */
+    private static InventoryCrafting singleCopy(final InventoryCrafting table, final int copies) {
+        final InventoryCrafting single = new InventoryCrafting(new ContainerNull(), table.getSizeInventory(), 1);
+        for (int x = 0; x < table.getSizeInventory(); x++) {
+            final ItemStack is = table.getStackInSlot(x);
+            if (is != null) {
+                final ItemStack one = is.copy();
+                one.stackSize /= copies;
+                single.setInventorySlotContents(x, one);
+            }
+        }
+        return single;
+    }
+
+    /**
+     * Unlike {@link #acceptsItems}, only passes if every stack fits completely.
+     */
+    private static boolean fitsItems(final InventoryAdaptor ad, final InventoryCrafting table,
+            final InsertionMode insertionMode) {
+        for (int x = 0; x < table.getSizeInventory(); x++) {
+            final ItemStack is = table.getStackInSlot(x);
+            if (is != null && ad.simulateAdd(is.copy(), insertionMode) != null) {
+                return false;
+            }
+        }
+        return true;
     }
 
     @Override
@@ -20,12 +20,14 @@ import java.util.Set;
 import net.minecraft.inventory.InventoryCrafting;
 import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
-import net.minecraft.item.crafting.CraftingManager;
 import net.minecraft.item.crafting.IRecipe;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.nbt.NBTTagList;
 import net.minecraft.world.World;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
 import appeng.api.AEApi;
 import appeng.api.networking.crafting.ICraftingPatternDetails;
 import appeng.api.storage.data.IAEItemStack;
@@ -36,114 +38,67 @@ import appeng.util.item.AEItemStack;
 
 public class PatternHelper implements ICraftingPatternDetails, Comparable<PatternHelper> {
 
+    /**
+     * Decoded patterns shared by all helpers of the same pattern and world, dropped once no helper uses them.
+     */
+    private static final Cache<DecodedKey, DecodedPattern> DECODED = CacheBuilder.newBuilder().weakValues().build();
+
     private final ItemStack patternItem;
-    private final InventoryCrafting crafting = new InventoryCrafting(new ContainerNull(), 3, 3);
-    private final InventoryCrafting testFrame = new InventoryCrafting(new ContainerNull(), 3, 3);
-    private final ItemStack correctOutput;
-    private final IRecipe standardRecipe;
-    private final IAEItemStack[] condensedInputs;
-    private final IAEItemStack[] condensedOutputs;
-    private final IAEItemStack[] inputs;
-    private final IAEItemStack[] outputs;
-    private final boolean isCrafting;
-    private final boolean canSubstitute;
-    private final boolean canBeSubstitute;
-    private final Set<TestLookup> failCache = new HashSet<>();
-    private final Set<TestLookup> passCache = new HashSet<>();
     private final IAEItemStack pattern;
+    private final DecodedPattern decoded;
     private int priority = 0;
 
     public PatternHelper(final ItemStack is, final World w) {
-        final NBTTagCompound encodedValue = is.getTagCompound();
-
-        if (encodedValue == null) {
-            throw new IllegalArgumentException("No pattern here!");
-        }
+        this(is, getComparablePattern(is), w);
+    }
 
-        final NBTTagList inTag = encodedValue.getTagList("in", 10);
-        final NBTTagList outTag = encodedValue.getTagList("out", 10);
-        this.isCrafting = encodedValue.getBoolean("crafting");
+    private PatternHelper(final ItemStack is, final IAEItemStack pattern, final World w) {
+        this(is, pattern, new DecodedPattern(is, w));
+    }
 
-        this.canSubstitute = encodedValue.getBoolean("substitute");
-        this.canBeSubstitute = encodedValue.getBoolean("beSubstitute");
+    private PatternHelper(final ItemStack is, final IAEItemStack pattern, final DecodedPattern decoded) {
         this.patternItem = is;
-        if (encodedValue.hasKey("author")) {
-            final ItemStack forComparison = this.patternItem.copy();
-            forComparison.stackTagCompound.removeTag("author");
-            this.pattern = AEItemStack.create(forComparison);
-        } else {
-            this.pattern = AEItemStack.create(is);
-        }
-
-        final List<IAEItemStack> in = new ArrayList<>();
-        final List<IAEItemStack> out = new ArrayList<>();
-
-        for (int x = 0; x < inTag.tagCount(); x++) {
-            final NBTTagCompound tag = inTag.getCompoundTagAt(x);
-            final ItemStack gs = Platform.loadItemStackFromNBT(tag);
-
-            if (gs == null && !tag.hasNoTags()) {
-                throw new IllegalStateException("No pattern here!");
-            }
-
-            if (this.isCrafting) // processing recipes are not looked up
-            {
-                this.crafting.setInventorySlotContents(x, gs);
-            }
-
-            if (gs != null && (!this.isCrafting || !gs.hasTagCompound())) {
-                this.markItemAs(x, gs, TestStatus.ACCEPT);
-            }
-
-            in.add(AEApi.instance().storage().createItemStack(gs));
-            if (this.isCrafting) // processing recipes are not tested anyway
-            {
-                this.testFrame.setInventorySlotContents(x, gs);
-            }
-        }
-
-        if (this.isCrafting) {
-            this.standardRecipe = Platform.findMatchingRecipe(this.crafting, w);
-
-            if (this.standardRecipe != null) {
-                this.correctOutput = this.standardRecipe.getCraftingResult(this.crafting);
-                out.add(AEApi.instance().storage().createItemStack(this.correctOutput));
-            } else {
-                throw new IllegalStateException("No pattern here!");
-            }
-        } else {
-            this.standardRecipe = null;
-            this.correctOutput = null;
-
-            for (int x = 0; x < outTag.tagCount(); x++) {
-                final NBTTagCompound tag = outTag.getCompoundTagAt(x);
-                final ItemStack gs = Platform.loadItemStackFromNBT(tag);
+        this.pattern = pattern;
+        this.decoded = decoded;
+    }
 
-                if (gs != null) {
-                    out.add(AEApi.instance().storage().createItemStack(gs));
-                } else if (!tag.hasNoTags()) {
-                    throw new IllegalStateException("No pattern here!");
-                }
+    /**
+     * Same as the constructor, but reuses the decoded pattern of an identical pattern in the same world.
+     *
+     * @throws IllegalArgumentException if the stack has no pattern
+     * @throws IllegalStateException    if the pattern is invalid
+     */
+    public static PatternHelper getCached(final ItemStack is, final World w) {
+        final IAEItemStack pattern = getComparablePattern(is);
+        final DecodedKey key = new DecodedKey(pattern, w);
+        DecodedPattern decoded = DECODED.getIfPresent(key);
+
+        if (decoded == null) {
+            // decode outside the cache, an invalid pattern is not remembered
+            decoded = new DecodedPattern(is, w);
+            final DecodedPattern raced = DECODED.asMap().putIfAbsent(key, decoded);
+            if (raced != null) {
+                decoded = raced;
             }
         }
 
-        this.outputs = out.toArray(new IAEItemStack[0]);
-        this.inputs = in.toArray(new IAEItemStack[0]);
+        return new PatternHelper(is, pattern, decoded);
+    }
 
-        this.condensedInputs = convertToCondensedList(this.inputs);
-        this.condensedOutputs = convertToCondensedList(this.outputs);
+    private static IAEItemStack getComparablePattern(final ItemStack is) {
+        final NBTTagCompound encodedValue = is.getTagCompound();
 
-        if (condensedInputs.length == 0 || condensedOutputs.length == 0) {
-            throw new IllegalStateException("No pattern here!");
+        if (encodedValue == null) {
+            throw new IllegalArgumentException("No pattern here!");
         }
-    }
 
-    private void markItemAs(final int slotIndex, final ItemStack i, final TestStatus b) {
-        if (b == TestStatus.TEST || i.hasTagCompound()) {
-            return;
+        if (encodedValue.hasKey("author")) {
+            final ItemStack forComparison = is.copy();
+            forComparison.stackTagCompound.removeTag("author");
+            return AEItemStack.create(forComparison);
         }
 
-        (b == TestStatus.ACCEPT ? this.passCache : this.failCache).add(new TestLookup(slotIndex, i));
+        return AEItemStack.create(is);
     }
 
     @Override
@@ -152,89 +107,48 @@ public class PatternHelper implements ICraftingPatternDetails, Comparable<Patter
     }
 
     @Override
-    public synchronized boolean isValidItemForSlot(final int slotIndex, final ItemStack i, final World w) {
-        if (!this.isCrafting) {
-            throw new IllegalStateException("Only crafting recipes supported.");
-        }
-
-        final TestStatus result = this.getStatus(slotIndex, i);
-
-        switch (result) {
-            case ACCEPT -> {
-                return true;
-            }
-            case DECLINE -> {
-                return false;
-            }
-            default -> {}
-        }
-
-        for (int x = 0; x < this.crafting.getSizeInventory(); x++) {
-            this.testFrame.setInventorySlotContents(x, this.crafting.getStackInSlot(x));
-        }
-
-        this.testFrame.setInventorySlotContents(slotIndex, i);
-
-        if (this.standardRecipe.matches(this.testFrame, w)) {
-            final ItemStack testOutput = this.standardRecipe.getCraftingResult(this.testFrame);
-
-            if (Platform.isSameItemPrecise(this.correctOutput, testOutput)) {
-                this.testFrame.setInventorySlotContents(slotIndex, this.crafting.getStackInSlot(slotIndex));
-                this.markItemAs(slotIndex, i, TestStatus.ACCEPT);
-                return true;
-            }
-        } else {
-            final ItemStack testOutput = CraftingManager.getInstance().findMatchingRecipe(this.testFrame, w);
-
-            if (Platform.isSameItemPrecise(this.correctOutput, testOutput)) {
-                this.testFrame.setInventorySlotContents(slotIndex, this.crafting.getStackInSlot(slotIndex));
-                this.markItemAs(slotIndex, i, TestStatus.ACCEPT);
-                return true;
-            }
-        }
-
-        this.markItemAs(slotIndex, i, TestStatus.DECLINE);
-        return false;
+    public boolean isValidItemForSlot(final int slotIndex, final ItemStack i, final World w) {
+        return this.decoded.isValidItemForSlot(slotIndex, i, w);
     }
 
     @Override
     public boolean isCraftable() {
-        return this.isCrafting;
+        return this.decoded.isCrafting;
     }
 
     @Override
     public IAEItemStack[] getInputs() {
-        return this.inputs;
+        return this.decoded.inputs;
     }
 
     @Override
     public IAEItemStack[] getCondensedInputs() {
-        return this.condensedInputs;
+        return this.decoded.condensedInputs;
     }
 
     @Override
     public IAEItemStack[] getCondensedOutputs() {
-        return this.condensedOutputs;
+        return this.decoded.condensedOutputs;
     }
 
     @Override
     public IAEItemStack[] getOutputs() {
-        return this.outputs;
+        return this.decoded.outputs;
     }
 
     @Override
     public boolean canSubstitute() {
-        return this.canSubstitute;
+        return this.decoded.canSubstitute;
     }
 
     @Override
     public boolean canBeSubstitute() {
-        return this.canBeSubstitute;
+        return this.decoded.canBeSubstitute;
     }
 
     @Override
     public ItemStack getOutput(final InventoryCrafting craftingInv, final World w) {
-        if (!this.isCrafting) {
+        if (!this.decoded.isCrafting) {
             throw new IllegalStateException("Only crafting recipes supported.");
         }
 
@@ -244,37 +158,13 @@ public class PatternHelper implements ICraftingPatternDetails, Comparable<Patter
             }
         }
 
-        if (this.outputs != null && this.outputs.length > 0) {
-            return this.outputs[0].getItemStack();
+        if (this.decoded.outputs != null && this.decoded.outputs.length > 0) {
+            return this.decoded.outputs[0].getItemStack();
         }
 
         return null;
     }
 
-    private TestStatus getStatus(final int slotIndex, final ItemStack i) {
-        if (this.crafting.getStackInSlot(slotIndex) == null) {
-            return i == null ? TestStatus.ACCEPT : TestStatus.DECLINE;
-        }
-
-        if (i == null) {
-            return TestStatus.DECLINE;
-        }
-
-        if (i.hasTagCompound()) {
-            return TestStatus.TEST;
-        }
-
-        if (this.passCache.contains(new TestLookup(slotIndex, i))) {
-            return TestStatus.ACCEPT;
-        }
-
-        if (this.failCache.contains(new TestLookup(slotIndex, i))) {
-            return TestStatus.DECLINE;
-        }
-
-        return TestStatus.TEST;
-    }
-
     @Override
     public int getPriority() {
         return this.priority;
@@ -312,6 +202,196 @@ public class PatternHelper implements ICraftingPatternDetails, Comparable<Patter
         return false;
     }
 
+    /**
+     * Everything read from the pattern NBT, together with the substitution results found so far.
+     */
+    private static final class DecodedPattern {
+
+        private final InventoryCrafting crafting = new InventoryCrafting(new ContainerNull(), 3, 3);
+        private final InventoryCrafting testFrame = new InventoryCrafting(new ContainerNull(), 3, 3);
+        private final ItemStack correctOutput;
+        private final IRecipe standardRecipe;
+        private final IAEItemStack[] condensedInputs;
+        private final IAEItemStack[] condensedOutputs;
+        private final IAEItemStack[] inputs;
+        private final IAEItemStack[] outputs;
+        private final boolean isCrafting;
+        private final boolean canSubstitute;
+        private final boolean canBeSubstitute;
+        private final Set<TestLookup> failCache = new HashSet<>();
+        private final Set<TestLookup> passCache = new HashSet<>();
+
+        private DecodedPattern(final ItemStack is, final World w) {
+            final NBTTagCompound encodedValue = is.getTagCompound();
+            final NBTTagList inTag = encodedValue.getTagList("in", 10);
+            final NBTTagList outTag = encodedValue.getTagList("out", 10);
+            this.isCrafting = encodedValue.getBoolean("crafting");
+
+            this.canSubstitute = encodedValue.getBoolean("substitute");
+            this.canBeSubstitute = encodedValue.getBoolean("beSubstitute");
+
+            final List<IAEItemStack> in = new ArrayList<>();
+            final List<IAEItemStack> out = new ArrayList<>();
+
+            for (int x = 0; x < inTag.tagCount(); x++) {
+                final NBTTagCompound tag = inTag.getCompoundTagAt(x);
+                final ItemStack gs = Platform.loadItemStackFromNBT(tag);
+
+                if (gs == null && !tag.hasNoTags()) {
+                    throw new IllegalStateException("No pattern here!");
+                }
+
+                if (this.isCrafting) // processing recipes are not looked up
+                {
+                    this.crafting.setInventorySlotContents(x, gs);
+                }
+
+                if (gs != null && (!this.isCrafting || !gs.hasTagCompound())) {
+                    this.markItemAs(x, gs, TestStatus.ACCEPT);
+                }
+
+                in.add(AEApi.instance().storage().createItemStack(gs));
+                if (this.isCrafting) // processing recipes are not tested anyway
+                {
+                    this.testFrame.setInventorySlotContents(x, gs);
+                }
+            }
+
+            if (this.isCrafting) {
+                this.standardRecipe = Platform.findMatchingRecipe(this.crafting, w);
+
+                if (this.standardRecipe != null) {
+                    this.correctOutput = this.standardRecipe.getCraftingResult(this.crafting);
+                    out.add(AEApi.instance().storage().createItemStack(this.correctOutput));
+                } else {
+                    throw new IllegalStateException("No pattern here!");
+                }
+            } else {
+                this.standardRecipe = null;
+                this.correctOutput = null;
+
+                for (int x = 0; x < outTag.tagCount(); x++) {
+                    final NBTTagCompound tag = outTag.getCompoundTagAt(x);
+                    final ItemStack gs = Platform.loadItemStackFromNBT(tag);
+
+                    if (gs != null) {
+                        out.add(AEApi.instance().storage().createItemStack(gs));
+                    } else if (!tag.hasNoTags()) {
+                        throw new IllegalStateException("No pattern here!");
+                    }
+                }
+            }
+
+            this.outputs = out.toArray(new IAEItemStack[0]);
+            this.inputs = in.toArray(new IAEItemStack[0]);
+
+            this.condensedInputs = convertToCondensedList(this.inputs);
+            this.condensedOutputs = convertToCondensedList(this.outputs);
+
+            if (condensedInputs.length == 0 || condensedOutputs.length == 0) {
+                throw new IllegalStateException("No pattern here!");
+            }
+        }
+
+        private void markItemAs(final int slotIndex, final ItemStack i, final TestStatus b) {
+            if (b == TestStatus.TEST || i.hasTagCompound()) {
+                return;
+            }
+
+            (b == TestStatus.ACCEPT ? this.passCache : this.failCache).add(new TestLookup(slotIndex, i));
+        }
+
+        private synchronized boolean isValidItemForSlot(final int slotIndex, final ItemStack i, final World w) {
+            if (!this.isCrafting) {
+                throw new IllegalStateException("Only crafting recipes supported.");
+            }
+
+            final TestStatus result = this.getStatus(slotIndex, i);
+
+            switch (result) {
+                case ACCEPT -> {
+                    return true;
+                }
+                case DECLINE -> {
+                    return false;
+                }
+                default -> {}
+            }
+
+            for (int x = 0; x < this.crafting.getSizeInventory(); x++) {
+                this.testFrame.setInventorySlotContents(x, this.crafting.getStackInSlot(x));
+            }
+
+            this.testFrame.setInventorySlotContents(slotIndex, i);
+
+            if (this.standardRecipe.matches(this.testFrame, w)) {
+                final ItemStack testOutput = this.standardRecipe.getCraftingResult(this.testFrame);
+
+                if (Platform.isSameItemPrecise(this.correctOutput, testOutput)) {
+                    this.testFrame.setInventorySlotContents(slotIndex, this.crafting.getStackInSlot(slotIndex));
+                    this.markItemAs(slotIndex, i, TestStatus.ACCEPT);
+                    return true;
+                }
+            } else {
+                final ItemStack testOutput = Platform.findMatchingRecipeOutput(this.testFrame, w);
+
+                if (Platform.isSameItemPrecise(this.correctOutput, testOutput)) {
+                    this.testFrame.setInventorySlotContents(slotIndex, this.crafting.getStackInSlot(slotIndex));
+                    this.markItemAs(slotIndex, i, TestStatus.ACCEPT);
+                    return true;
+                }
+            }
+
+            this.markItemAs(slotIndex, i, TestStatus.DECLINE);
+            return false;
+        }
+
+        private TestStatus getStatus(final int slotIndex, final ItemStack i) {
+            if (this.crafting.getStackInSlot(slotIndex) == null) {
+                return i == null ? TestStatus.ACCEPT : TestStatus.DECLINE;
+            }
+
+            if (i == null) {
+                return TestStatus.DECLINE;
+            }
+
+            if (i.hasTagCompound()) {
+                return TestStatus.TEST;
+            }
+
+            if (this.passCache.contains(new TestLookup(slotIndex, i))) {
+                return TestStatus.ACCEPT;
+            }
+
+            if (this.failCache.contains(new TestLookup(slotIndex, i))) {
+                return TestStatus.DECLINE;
+            }
+
+            return TestStatus.TEST;
+        }
+    }
+
+    private static final class DecodedKey {
+
+        private final IAEItemStack pattern;
+        private final World world;
+
+        private DecodedKey(final IAEItemStack pattern, final World world) {
+            this.pattern = pattern;
+            this.world = world;
+        }
+
+        @Override
+        public int hashCode() {
+            return this.pattern.hashCode() ^ System.identityHashCode(this.world);
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            return obj instanceof DecodedKey other && other.world == this.world && other.pattern.equals(this.pattern);
+        }
+    }
+
     private enum TestStatus {
         ACCEPT,
         DECLINE,
@@ -38,6 +38,7 @@ import appeng.core.AEConfig;
 import appeng.core.AELog;
 import appeng.core.CommonHelper;
 import appeng.core.sync.packets.PacketPaintedEntity;
+import appeng.core.worlddata.WorldData;
 import appeng.entity.EntityFloatingItem;
 import appeng.me.Grid;
 import appeng.me.NetworkList;
@@ -141,6 +142,14 @@ public class TickHandler {
         }
     }
 
+    @SubscribeEvent
+    public void saveWorld(final WorldEvent.Save ev) {
+        // the overworld is saved with every autosave, write the grid storages that changed since the last one
+        if (Platform.isServer() && ev.world.provider.dimensionId == 0 && WorldData.instance() != null) {
+            WorldData.instance().onWorldSave();
+        }
+    }
+
     @SubscribeEvent
     public void onChunkLoad(final ChunkEvent.Load load) {
         for (final Object te : load.getChunk().chunkTileEntityMap.values()) {
@@ -155,7 +155,7 @@ public class ItemEncodedPattern extends AEBaseItem implements ICraftingPatternIt
     @Override
     public ICraftingPatternDetails getPatternForItem(final ItemStack is, final World w) {
         try {
-            return new PatternHelper(is, w);
+            return PatternHelper.getCached(is, w);
         } catch (final Throwable t) {
             return null;
         }
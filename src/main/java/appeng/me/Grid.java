@@ -11,6 +11,7 @@
 package appeng.me;
 
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Map;
@@ -43,6 +44,10 @@ public class Grid implements IGrid {
     private int[] timeStatistics = null;
     private static final int PROFILING_SAMPLE_COUNT = 200;
     private int timeStatisticsIndex = 0;
+    /**
+     * Per event type while profiling: the number of posted events and the nanoseconds spent dispatching them.
+     */
+    private Map<Class<? extends MENetworkEvent>, long[]> eventStatistics = null;
     private boolean profilingPassedFullCycle = false;
 
     public Grid(final GridNode center) {
@@ -184,15 +189,30 @@ public class Grid implements IGrid {
 
     @Override
     public MENetworkEvent postEvent(final MENetworkEvent ev) {
+        final long start = isProfiling() ? System.nanoTime() : 0;
         CraftingGridCache.pauseRebuilds();
         final MENetworkEvent ret = this.eventBus.postEvent(this, ev);
         CraftingGridCache.unpauseRebuilds();
+        if (start != 0 && isProfiling()) {
+            this.recordEvent(ev, System.nanoTime() - start);
+        }
         return ret;
     }
 
     @Override
     public MENetworkEvent postEventTo(final IGridNode node, final MENetworkEvent ev) {
-        return this.eventBus.postEventTo(this, (GridNode) node, ev);
+        final long start = isProfiling() ? System.nanoTime() : 0;
+        final MENetworkEvent ret = this.eventBus.postEventTo(this, (GridNode) node, ev);
+        if (start != 0 && isProfiling()) {
+            this.recordEvent(ev, System.nanoTime() - start);
+        }
+        return ret;
+    }
+
+    private void recordEvent(final MENetworkEvent ev, final long time) {
+        final long[] stats = this.eventStatistics.computeIfAbsent(ev.getClass(), k -> new long[2]);
+        stats[0]++;
+        stats[1] += time;
     }
 
     @Override
@@ -232,15 +252,26 @@ public class Grid implements IGrid {
 
     public void startProfiling() {
         timeStatistics = new int[PROFILING_SAMPLE_COUNT];
+        eventStatistics = new HashMap<>();
         profilingPassedFullCycle = false;
     }
 
+    /**
+     * @return for every event type posted since profiling started, the number of events and the total nanoseconds
+     *         spent dispatching them; nested events are also counted in the time of the event that posted them
+     */
+    public Map<Class<? extends MENetworkEvent>, long[]> getEventStatistics() {
+        if (eventStatistics == null) return Collections.emptyMap();
+        return Collections.unmodifiableMap(eventStatistics);
+    }
+
     public int stopProfiling() {
         if (timeStatistics == null) return 0;
         long sum = 0;
         int N = profilingPassedFullCycle ? PROFILING_SAMPLE_COUNT : timeStatisticsIndex;
         for (int i = 0; i < N; ++i) sum += timeStatistics[i];
         timeStatistics = null;
+        eventStatistics = null;
         return (int) (sum / N);
     }
 
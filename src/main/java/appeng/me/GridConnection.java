@@ -31,6 +31,7 @@ import appeng.api.util.IReadOnlyCollection;
 import appeng.core.AEConfig;
 import appeng.core.AELog;
 import appeng.core.features.AEFeature;
+import appeng.me.cache.PathGridCache;
 import appeng.me.pathfinding.IPathItem;
 import appeng.util.Platform;
 import appeng.util.ReadOnlyCollection;
@@ -120,10 +121,18 @@ public class GridConnection implements IGridConnection, IPathItem {
             AELog.info("Repath is triggered by adding connection from [%s] to [%s]", aCoordinates, bCoordinates);
             AELog.printStackTrace(Level.INFO);
         }
-        p.repath();
+
+        final IPathItem routeA = this.sideA.getControllerRoute();
+        final IPathItem routeB = this.sideB.getControllerRoute();
 
         this.sideA.addConnection(this);
         this.sideB.addConnection(this);
+
+        if (p instanceof PathGridCache pgc) {
+            pgc.onConnectionAdded(this, routeA, routeB);
+        } else {
+            p.repath();
+        }
     }
 
     private boolean isNetworkABetter(final GridNode a, final GridNode b) {
@@ -166,13 +175,16 @@ public class GridConnection implements IGridConnection, IPathItem {
 
         // a connection was destroyed RE-PATH!!
         final IPathingGrid p = this.sideA.getInternalGrid().getCache(IPathingGrid.class);
-        p.repath();
+        if (p instanceof PathGridCache pgc) {
+            pgc.onConnectionRemoved(this);
+        } else {
+            p.repath();
+        }
 
         this.sideA.removeConnection(this);
         this.sideB.removeConnection(this);
 
-        this.sideA.validateGrid();
-        this.sideB.validateGrid();
+        GridNode.validateSplit(this.sideA, this.sideB);
     }
 
     @Override
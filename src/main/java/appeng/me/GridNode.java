@@ -10,8 +10,8 @@
 
 package appeng.me;
 
+import java.util.ArrayList;
 import java.util.Comparator;
-import java.util.Deque;
 import java.util.EnumSet;
 import java.util.LinkedList;
 import java.util.List;
@@ -122,6 +122,84 @@ public class GridNode implements IGridNode, IPathItem {
         }
     }
 
+    /**
+     * Checks whether removing the connection between two nodes of the same grid split that grid. Both sides are
+     * searched in lockstep: when they are still connected the searches stop as soon as they meet, otherwise the side
+     * whose search runs out first is the smaller part and only it is moved to a new grid.
+     */
+    static void validateSplit(final GridNode a, final GridNode b) {
+        final Grid grid = a.getMyGrid();
+        final GridNode pivot = grid == null ? null : (GridNode) grid.getPivot();
+        if (pivot == null || b.getMyGrid() != grid || pivot.getMyGrid() != grid) {
+            a.validateGrid();
+            b.validateGrid();
+            return;
+        }
+
+        final Object trackerA = new Object();
+        final Object trackerB = new Object();
+        final List<GridNode> foundA = new ArrayList<>();
+        final List<GridNode> foundB = new ArrayList<>();
+        a.visitorIterationNumber = trackerA;
+        foundA.add(a);
+        b.visitorIterationNumber = trackerB;
+        foundB.add(b);
+
+        int nextA = 0;
+        int nextB = 0;
+        while (true) {
+            if (nextA == foundA.size()) {
+                splitOff(grid, foundA, trackerA, b);
+                return;
+            }
+            if (nextB == foundB.size()) {
+                splitOff(grid, foundB, trackerB, a);
+                return;
+            }
+            if (!foundA.get(nextA++).expandSearch(trackerA, trackerB, foundA)
+                    || !foundB.get(nextB++).expandSearch(trackerB, trackerA, foundB)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * @return false once this node is connected to a node already found by the other search
+     */
+    private boolean expandSearch(final Object tracker, final Object otherTracker, final List<GridNode> found) {
+        for (final IGridConnection gc : this.connections) {
+            final GridNode gn = (GridNode) gc.getOtherSide(this);
+            if (gn.visitorIterationNumber == otherTracker) {
+                return false;
+            }
+            if (gn.visitorIterationNumber != tracker) {
+                gn.visitorIterationNumber = tracker;
+                found.add(gn);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Moves a part that is no longer connected to the rest of its grid to a new grid. If the part holds the pivot, the
+     * pivot is handed to the rest first, so the larger side never has to be walked again.
+     */
+    private static void splitOff(final Grid grid, final List<GridNode> part, final Object tracker,
+            final GridNode rest) {
+        CraftingGridCache.pauseRebuilds();
+
+        if (((GridNode) grid.getPivot()).visitorIterationNumber == tracker) {
+            grid.setPivot(rest);
+        }
+
+        final Grid newGrid = new Grid(part.get(0));
+        for (final GridNode gn : part) {
+            gn.setGrid(newGrid);
+        }
+
+        CraftingGridCache.unpauseRebuilds();
+    }
+
     public Grid getInternalGrid() {
         if (this.myGrid == null) {
             this.myGrid = new Grid(this);
@@ -136,21 +214,26 @@ public class GridNode implements IGridNode, IPathItem {
 
         CraftingGridCache.pauseRebuilds();
 
-        LinkedList<GridNode> nextRun = new LinkedList<>();
+        // the frontiers are swapped and reused for every step instead of allocating a list per step
+        List<GridNode> thisRun = new ArrayList<>();
+        List<GridNode> nextRun = new ArrayList<>();
         nextRun.add(this);
 
         this.visitorIterationNumber = tracker;
 
         if (g instanceof IGridConnectionVisitor gcv) {
-            final LinkedList<IGridConnection> nextConn = new LinkedList<>();
+            final List<IGridConnection> nextConn = new ArrayList<>();
 
             while (!nextRun.isEmpty()) {
-                while (!nextConn.isEmpty()) {
-                    gcv.visitConnection(nextConn.poll());
+                for (final IGridConnection gc : nextConn) {
+                    gcv.visitConnection(gc);
                 }
+                nextConn.clear();
 
-                final Iterable<GridNode> thisRun = nextRun;
-                nextRun = new LinkedList<>();
+                final List<GridNode> swap = thisRun;
+                thisRun = nextRun;
+                nextRun = swap;
+                nextRun.clear();
 
                 for (final GridNode n : thisRun) {
                     n.visitorConnection(tracker, g, nextRun, nextConn);
@@ -158,8 +241,10 @@ public class GridNode implements IGridNode, IPathItem {
             }
         } else {
             while (!nextRun.isEmpty()) {
-                final Iterable<GridNode> thisRun = nextRun;
-                nextRun = new LinkedList<>();
+                final List<GridNode> swap = thisRun;
+                thisRun = nextRun;
+                nextRun = swap;
+                nextRun.clear();
 
                 for (final GridNode n : thisRun) {
                     n.visitorNode(tracker, g, nextRun);
@@ -445,8 +530,8 @@ public class GridNode implements IGridNode, IPathItem {
         return AEColor.values()[(this.compressedData >> 3) & 0x1F];
     }
 
-    private void visitorConnection(final Object tracker, final IGridVisitor g, final Deque<GridNode> nextRun,
-            final Deque<IGridConnection> nextConnections) {
+    private void visitorConnection(final Object tracker, final IGridVisitor g, final List<GridNode> nextRun,
+            final List<IGridConnection> nextConnections) {
         if (g.visitNode(this)) {
             for (final IGridConnection gc : this.getConnections()) {
                 final GridNode gn = (GridNode) gc.getOtherSide(this);
@@ -468,7 +553,7 @@ public class GridNode implements IGridNode, IPathItem {
         }
     }
 
-    private void visitorNode(final Object tracker, final IGridVisitor g, final Deque<GridNode> nextRun) {
+    private void visitorNode(final Object tracker, final IGridVisitor g, final List<GridNode> nextRun) {
         if (g.visitNode(this)) {
             for (final IGridConnection gc : this.getConnections()) {
                 final GridNode gn = (GridNode) gc.getOtherSide(this);
@@ -12,6 +12,8 @@ package appeng.me;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
 import java.io.IOException;
 import java.lang.ref.WeakReference;
 import java.util.WeakHashMap;
@@ -47,9 +49,9 @@ public class GridStorage implements IGridStorage {
     }
 
     /**
-     * for use with world settings
+     * for use with world settings written before grid storages had their own file
      *
-     * @param input array of bytes string
+     * @param input base64 string of the compressed NBT
      * @param id    ID of grid storage
      * @param gss   grid storage search
      */
@@ -68,6 +70,27 @@ public class GridStorage implements IGridStorage {
         this.data = myTag;
     }
 
+    /**
+     * for use with world settings
+     *
+     * @param input uncompressed NBT of the grid storage
+     * @param id    ID of grid storage
+     * @param gss   grid storage search
+     */
+    public GridStorage(final byte[] input, final long id, final GridStorageSearch gss) {
+        this.myID = id;
+        this.mySearchEntry = gss;
+        NBTTagCompound myTag = null;
+
+        try {
+            myTag = CompressedStreamTools.read(new DataInputStream(new ByteArrayInputStream(input)));
+        } catch (final Throwable t) {
+            myTag = new NBTTagCompound();
+        }
+
+        this.data = myTag;
+    }
+
     /**
      * fake storage.
      */
@@ -77,7 +100,10 @@ public class GridStorage implements IGridStorage {
         this.data = new NBTTagCompound();
     }
 
-    public String getValue() {
+    /**
+     * @return the uncompressed NBT of this storage, after the grid saved its state into it
+     */
+    public byte[] getBytes() {
         final Grid currentGrid = (Grid) this.getGrid();
         if (currentGrid != null) {
             currentGrid.saveState();
@@ -85,13 +111,13 @@ public class GridStorage implements IGridStorage {
 
         try {
             final ByteArrayOutputStream out = new ByteArrayOutputStream();
-            CompressedStreamTools.writeCompressed(this.data, out);
-            return javax.xml.bind.DatatypeConverter.printBase64Binary(out.toByteArray());
+            CompressedStreamTools.write(this.data, new DataOutputStream(out));
+            return out.toByteArray();
         } catch (final IOException e) {
             AELog.debug(e);
         }
 
-        return "";
+        return new byte[0];
     }
 
     public IGrid getGrid() {
@@ -10,14 +10,16 @@
 
 package appeng.me;
 
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
-import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
 
 import appeng.api.networking.IGridNode;
 import appeng.api.networking.events.MENetworkEvent;
@@ -28,6 +30,11 @@ public class NetworkEventBus {
 
     private static final Collection<Class> READ_CLASSES = new HashSet<>();
     private static final Map<Class<? extends MENetworkEvent>, Map<Class, MENetworkEventInfo>> EVENTS = new HashMap<>();
+    /**
+     * The values of {@link #EVENTS} as arrays, which is all that posting an event has to walk.
+     */
+    private static final Map<Class<? extends MENetworkEvent>, MENetworkEventInfo[]> DISPATCH = new HashMap<>();
+    private static final MENetworkEventInfo[] NO_SUBSCRIBERS = new MENetworkEventInfo[0];
 
     void readClass(final Class listAs, final Class c) {
         if (READ_CLASSES.contains(c)) {
@@ -48,12 +55,13 @@ public class NetworkEventBus {
 
                             MENetworkEventInfo thisEvent = classEvents.get(listAs);
                             if (thisEvent == null) {
-                                thisEvent = new MENetworkEventInfo();
+                                thisEvent = new MENetworkEventInfo(listAs);
                             }
 
                             thisEvent.Add(types[0], c, m);
 
                             classEvents.put(listAs, thisEvent);
+                            DISPATCH.put(types[0], classEvents.values().toArray(NO_SUBSCRIBERS));
                         } else {
                             throw new IllegalStateException(
                                     "Invalid ME Network Event Subscriber, " + m.getName()
@@ -72,23 +80,20 @@ public class NetworkEventBus {
     }
 
     MENetworkEvent postEvent(final Grid g, final MENetworkEvent e) {
-        final Map<Class, MENetworkEventInfo> subscribers = EVENTS.get(e.getClass());
+        final MENetworkEventInfo[] subscribers = DISPATCH.getOrDefault(e.getClass(), NO_SUBSCRIBERS);
         int x = 0;
 
         try {
-            if (subscribers != null) {
-                for (final Entry<Class, MENetworkEventInfo> subscriber : subscribers.entrySet()) {
-                    final MENetworkEventInfo target = subscriber.getValue();
-                    final GridCacheWrapper cache = g.getCaches().get(subscriber.getKey());
-                    if (cache != null) {
-                        x++;
-                        target.invoke(cache.getCache(), e);
-                    }
+            for (final MENetworkEventInfo target : subscribers) {
+                final GridCacheWrapper cache = g.getCaches().get(target.listAs);
+                if (cache != null) {
+                    x++;
+                    target.invoke(cache.getCache(), e);
+                }
 
-                    for (final IGridNode obj : g.getMachines(subscriber.getKey())) {
-                        x++;
-                        target.invoke(obj.getMachine(), e);
-                    }
+                for (final IGridNode obj : g.getMachines(target.listAs)) {
+                    x++;
+                    target.invoke(obj.getMachine(), e);
                 }
             }
         } catch (final NetworkEventDone done) {
@@ -124,21 +129,52 @@ public class NetworkEventBus {
         private static final long serialVersionUID = -3079021487019171205L;
     }
 
-    private class EventMethod {
+    /**
+     * Calls one subscriber method, generated for each method so events are not dispatched through reflection.
+     */
+    interface EventInvoker {
+
+        void invoke(Object obj, MENetworkEvent e) throws Throwable;
+    }
+
+    private static EventInvoker createInvoker(final Method objMethod) throws ReflectiveOperationException {
+        final MethodHandles.Lookup lookup = MethodHandles.lookup();
+        final MethodHandle handle = lookup.unreflect(objMethod);
+
+        try {
+            final CallSite site = LambdaMetafactory.metafactory(
+                    lookup,
+                    "invoke",
+                    MethodType.methodType(EventInvoker.class),
+                    MethodType.methodType(void.class, Object.class, MENetworkEvent.class),
+                    handle,
+                    MethodType.methodType(void.class, objMethod.getDeclaringClass(), objMethod.getParameterTypes()[0]));
+            return (EventInvoker) site.getTarget().invokeExact();
+        } catch (final Throwable t) {
+            // the generated class may not see the subscriber, a method handle still avoids reflection
+            AELog.debug(t);
+            final MethodHandle generic = handle
+                    .asType(MethodType.methodType(void.class, Object.class, MENetworkEvent.class));
+            return generic::invokeExact;
+        }
+    }
+
+    private static class EventMethod {
 
         private final Class objClass;
-        private final Method objMethod;
+        private final EventInvoker invoker;
         private final Class objEvent;
 
-        public EventMethod(final Class Event, final Class ObjClass, final Method ObjMethod) {
+        public EventMethod(final Class Event, final Class ObjClass, final Method ObjMethod)
+                throws ReflectiveOperationException {
             this.objClass = ObjClass;
-            this.objMethod = ObjMethod;
+            this.invoker = createInvoker(ObjMethod);
             this.objEvent = Event;
         }
 
         private void invoke(final Object obj, final MENetworkEvent e) throws NetworkEventDone {
             try {
-                this.objMethod.invoke(obj, e);
+                this.invoker.invoke(obj, e);
             } catch (final Throwable e1) {
                 AELog.error("[AppEng] Network Event caused exception:");
                 AELog.error("Offending Class: " + obj.getClass().getName());
@@ -153,12 +189,21 @@ public class NetworkEventBus {
         }
     }
 
-    private class MENetworkEventInfo {
+    private static class MENetworkEventInfo {
 
-        private final List<EventMethod> methods = new ArrayList<>();
+        private final Class listAs;
+        private EventMethod[] methods = new EventMethod[0];
+
+        private MENetworkEventInfo(final Class listAs) {
+            this.listAs = listAs;
+        }
 
-        private void Add(final Class Event, final Class ObjClass, final Method ObjMethod) {
-            this.methods.add(new EventMethod(Event, ObjClass, ObjMethod));
+        private void Add(final Class Event, final Class ObjClass, final Method ObjMethod)
+                throws ReflectiveOperationException {
+            final EventMethod[] grown = new EventMethod[this.methods.length + 1];
+            System.arraycopy(this.methods, 0, grown, 0, this.methods.length);
+            grown[this.methods.length] = new EventMethod(Event, ObjClass, ObjMethod);
+            this.methods = grown;
         }
 
         private void invoke(final Object obj, final MENetworkEvent e) throws NetworkEventDone {
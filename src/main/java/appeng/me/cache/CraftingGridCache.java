@@ -104,7 +104,12 @@ public class CraftingGridCache
     // Used for fuzzy lookups
     private final OreListMultiMap<ICraftingPatternDetails> craftableItemSubstitutes = new OreListMultiMap<>();
     private final Map<IAEItemStack, ImmutableList<ICraftingPatternDetails>> craftableItems = new HashMap<>();
-    private final Set<IAEItemStack> emitableItems = new HashSet<>();
+    private final Map<IAEItemStack, Set<ICraftingPatternDetails>> craftablePatterns = new HashMap<>();
+    // counted, as several providers can emit the same item
+    private final Map<IAEItemStack, Integer> emitableItems = new HashMap<>();
+    private final Map<ICraftingProvider, ProvidedPatterns> providedPatterns = new HashMap<>();
+    private final Set<ICraftingProvider> dirtyProviders = new HashSet<>();
+    private ProvidedPatterns providing = null;
     private final Map<String, CraftingLinkNexus> craftingLinks = new HashMap<>();
     private final Multimap<IAEStack, CraftingWatcher> interests = HashMultimap.create();
     private final GenericInterestManager<CraftingWatcher> interestManager = new GenericInterestManager<>(
@@ -165,7 +170,7 @@ public class CraftingGridCache
 
         if (machine instanceof ICraftingProvider) {
             this.craftingProviders.remove(machine);
-            this.updatePatterns();
+            this.updatePatterns((ICraftingProvider) machine);
         }
     }
 
@@ -191,7 +196,7 @@ public class CraftingGridCache
 
         if (machine instanceof ICraftingProvider) {
             this.craftingProviders.add((ICraftingProvider) machine);
-            this.updatePatterns();
+            this.updatePatterns((ICraftingProvider) machine);
         }
     }
 
@@ -224,70 +229,190 @@ public class CraftingGridCache
         }
     }
 
-    private void updatePatterns() {
-        // coalesce change events during a grid traversal to a single rebuild
+    private void updatePatterns(final ICraftingProvider provider) {
+        this.dirtyProviders.add(provider);
+        this.requestPatternUpdate();
+    }
+
+    private void requestPatternUpdate() {
+        // coalesce change events during a grid traversal to a single update
         if (pauseRebuilds != 0) {
             rebuildNeeded.add(this);
             return;
         }
 
-        final Map<IAEItemStack, ImmutableList<ICraftingPatternDetails>> oldItems = this.craftableItems;
+        this.updatePatterns();
+    }
 
-        // erase list.
-        this.craftingMethods.clear();
-        this.craftableItems.clear();
-        this.craftableItemSubstitutes.clear();
-        this.emitableItems.clear();
+    /**
+     * Asks every dirty provider for its patterns again and applies the difference to its previous contribution. Only
+     * items that became craftable or stopped being craftable are posted to the storage grid.
+     */
+    private void updatePatterns() {
+        if (this.dirtyProviders.isEmpty()) {
+            return;
+        }
+
+        final List<ICraftingProvider> providers = new ArrayList<>(this.dirtyProviders);
+        this.dirtyProviders.clear();
+
+        // whether each touched item was craftable before the update
+        final Map<IAEItemStack, Boolean> touched = new HashMap<>();
+
+        for (final ICraftingProvider provider : providers) {
+            final ProvidedPatterns previous = this.providedPatterns.remove(provider);
+            if (previous != null) {
+                for (int i = 0; i < previous.patterns.size(); i++) {
+                    this.removePattern(previous.mediums.get(i), previous.patterns.get(i), touched);
+                }
+                for (final IAEItemStack emitable : previous.emitables) {
+                    this.removeEmitable(emitable, touched);
+                }
+            }
+
+            if (this.craftingProviders.contains(provider)) {
+                final ProvidedPatterns current = new ProvidedPatterns();
+                this.providing = current;
+                try {
+                    provider.provideCrafting(this);
+                } finally {
+                    this.providing = null;
+                }
+                this.providedPatterns.put(provider, current);
 
-        // update the stuff that was in the list...
-        this.storageGrid.postAlterationOfStoredItems(StorageChannel.ITEMS, oldItems.keySet(), new BaseActionSource());
+                for (int i = 0; i < current.patterns.size(); i++) {
+                    this.addPattern(current.mediums.get(i), current.patterns.get(i), touched);
+                }
+                for (final IAEItemStack emitable : current.emitables) {
+                    this.addEmitable(emitable, touched);
+                }
+            }
+        }
 
-        // re-create list..
-        for (final ICraftingProvider provider : this.craftingProviders) {
-            provider.provideCrafting(this);
+        final List<IAEItemStack> changed = new ArrayList<>();
+        for (final Entry<IAEItemStack, Boolean> e : touched.entrySet()) {
+            this.updateCraftableItem(e.getKey());
+            if (this.isCraftable(e.getKey()) != e.getValue()) {
+                changed.add(e.getKey());
+            }
         }
 
-        setPatternsFromCraftingMethods();
+        if (!changed.isEmpty()) {
+            this.storageGrid.postAlterationOfStoredItems(StorageChannel.ITEMS, changed, new BaseActionSource());
+        }
+    }
+
+    private void addPattern(final ICraftingMedium medium, final ICraftingPatternDetails details,
+            final Map<IAEItemStack, Boolean> touched) {
+        List<ICraftingMedium> mediums = this.craftingMethods.get(details);
+        if (mediums == null) {
+            mediums = new ArrayList<>();
+            this.craftingMethods.put(details, mediums);
 
-        this.storageGrid.postAlterationOfStoredItems(
-                StorageChannel.ITEMS,
-                this.craftableItems.keySet(),
-                new BaseActionSource());
+            for (final IAEItemStack out : getCraftableOutputs(details)) {
+                this.touch(out, touched);
+                this.craftablePatterns.computeIfAbsent(out, k -> new HashSet<>()).add(details);
+                if (details.canBeSubstitute()) {
+                    this.craftableItemSubstitutes.put(out, details);
+                }
+            }
+        }
+        mediums.add(medium);
+    }
+
+    private void removePattern(final ICraftingMedium medium, final ICraftingPatternDetails details,
+            final Map<IAEItemStack, Boolean> touched) {
+        final List<ICraftingMedium> mediums = this.craftingMethods.get(details);
+        if (mediums == null || !mediums.remove(medium) || !mediums.isEmpty()) {
+            return;
+        }
+        this.craftingMethods.remove(details);
+
+        for (final IAEItemStack out : getCraftableOutputs(details)) {
+            this.touch(out, touched);
+            final Set<ICraftingPatternDetails> patterns = this.craftablePatterns.get(out);
+            if (patterns != null && patterns.remove(details) && patterns.isEmpty()) {
+                this.craftablePatterns.remove(out);
+            }
+            if (details.canBeSubstitute()) {
+                this.craftableItemSubstitutes.remove(out, details);
+            }
+        }
+    }
+
+    private void addEmitable(final IAEItemStack what, final Map<IAEItemStack, Boolean> touched) {
+        this.touch(asCraftable(what), touched);
+        this.emitableItems.merge(what, 1, Integer::sum);
+    }
+
+    private void removeEmitable(final IAEItemStack what, final Map<IAEItemStack, Boolean> touched) {
+        this.touch(asCraftable(what), touched);
+        final Integer count = this.emitableItems.get(what);
+        if (count != null) {
+            if (count > 1) {
+                this.emitableItems.put(what, count - 1);
+            } else {
+                this.emitableItems.remove(what);
+            }
+        }
+    }
+
+    private void touch(final IAEItemStack what, final Map<IAEItemStack, Boolean> touched) {
+        if (!touched.containsKey(what)) {
+            touched.put(what, this.isCraftable(what));
+        }
+    }
+
+    private boolean isCraftable(final IAEItemStack what) {
+        return this.craftableItems.containsKey(what) || this.emitableItems.containsKey(what);
+    }
+
+    private void updateCraftableItem(final IAEItemStack what) {
+        final Set<ICraftingPatternDetails> patterns = this.craftablePatterns.get(what);
+        if (patterns == null) {
+            this.craftableItems.remove(what);
+        } else {
+            final Set<ICraftingPatternDetails> methods = new TreeSet<>(COMPARATOR);
+            methods.addAll(patterns);
+            this.craftableItems.put(what, ImmutableList.copyOf(methods));
+        }
+    }
+
+    private static IAEItemStack asCraftable(final IAEItemStack what) {
+        final IAEItemStack out = what.copy();
+        out.reset();
+        out.setCraftable(true);
+        return out;
+    }
+
+    private static List<IAEItemStack> getCraftableOutputs(final ICraftingPatternDetails details) {
+        final List<IAEItemStack> outputs = new ArrayList<>();
+        for (final IAEItemStack out : details.getOutputs()) {
+            outputs.add(asCraftable(out));
+        }
+        return outputs;
     }
 
     /** Only for unit test usage */
     public void setMockPatternsFromMethods() {
         this.craftableItems.clear();
+        this.craftablePatterns.clear();
         this.craftableItemSubstitutes.clear();
         this.emitableItems.clear();
-        setPatternsFromCraftingMethods();
-    }
-
-    private void setPatternsFromCraftingMethods() {
-        final Map<IAEItemStack, Set<ICraftingPatternDetails>> tmpCraft = new HashMap<>();
 
-        // new craftables!
         for (final ICraftingPatternDetails details : this.craftingMethods.keySet()) {
-            for (IAEItemStack out : details.getOutputs()) {
-                out = out.copy();
-                out.reset();
-                out.setCraftable(true);
-
+            for (final IAEItemStack out : getCraftableOutputs(details)) {
                 if (details.canBeSubstitute()) {
-                    craftableItemSubstitutes.put(out, details);
+                    this.craftableItemSubstitutes.put(out, details);
                 }
-
-                Set<ICraftingPatternDetails> methods = tmpCraft.computeIfAbsent(out, k -> new TreeSet<>(COMPARATOR));
-
-                methods.add(details);
+                this.craftablePatterns.computeIfAbsent(out, k -> new HashSet<>()).add(details);
             }
         }
 
-        craftableItemSubstitutes.freeze();
+        this.craftableItemSubstitutes.freeze();
 
-        // make them immutable
-        for (final Entry<IAEItemStack, Set<ICraftingPatternDetails>> e : tmpCraft.entrySet()) {
-            this.craftableItems.put(e.getKey(), ImmutableList.copyOf(e.getValue()));
+        for (final IAEItemStack out : this.craftablePatterns.keySet()) {
+            this.updateCraftableItem(out);
         }
     }
 
@@ -330,11 +455,24 @@ public class CraftingGridCache
 
     @MENetworkEventSubscribe
     public void updateCPUClusters(final MENetworkCraftingPatternChange c) {
-        this.updatePatterns();
+        // the event is usually posted by a helper of the provider, the grid knows the provider by its node
+        final IGridHost machine = c.node == null ? null : c.node.getMachine();
+        if (machine instanceof ICraftingProvider && this.craftingProviders.contains(machine)) {
+            this.updatePatterns((ICraftingProvider) machine);
+        } else {
+            this.dirtyProviders.addAll(this.craftingProviders);
+            this.requestPatternUpdate();
+        }
     }
 
     @Override
     public void addCraftingOption(final ICraftingMedium medium, final ICraftingPatternDetails api) {
+        if (this.providing != null) {
+            this.providing.mediums.add(medium);
+            this.providing.patterns.add(api);
+            return;
+        }
+
         List<ICraftingMedium> details = this.craftingMethods.get(api);
         if (details == null) {
             details = new ArrayList<>();
@@ -347,7 +485,11 @@ public class CraftingGridCache
 
     @Override
     public void setEmitable(final IAEItemStack someItem) {
-        this.emitableItems.add(someItem.copy());
+        if (this.providing != null) {
+            this.providing.emitables.add(someItem.copy());
+        } else {
+            this.emitableItems.merge(someItem.copy(), 1, Integer::sum);
+        }
     }
 
     @Override
@@ -418,7 +560,7 @@ public class CraftingGridCache
             out.addCrafting(stack);
         }
 
-        for (final IAEItemStack st : this.emitableItems) {
+        for (final IAEItemStack st : this.emitableItems.keySet()) {
             out.addCrafting(st);
         }
 
@@ -549,7 +691,11 @@ public class CraftingGridCache
 
     @Override
     public boolean canEmitFor(final IAEItemStack someItem) {
-        return this.emitableItems.contains(someItem);
+        return this.emitableItems.containsKey(someItem);
+    }
+
+    public ImmutableSet<IAEItemStack> getEmitableItems() {
+        return ImmutableSet.copyOf(this.emitableItems.keySet());
     }
 
     @Override
@@ -581,6 +727,16 @@ public class CraftingGridCache
         return this.interestManager;
     }
 
+    /**
+     * What a single provider added during its last {@link ICraftingProvider#provideCrafting}.
+     */
+    private static class ProvidedPatterns {
+
+        private final List<ICraftingMedium> mediums = new ArrayList<>();
+        private final List<ICraftingPatternDetails> patterns = new ArrayList<>();
+        private final List<IAEItemStack> emitables = new ArrayList<>();
+    }
+
     private static class ActiveCpuIterator implements Iterator<ICraftingCPU> {
 
         private final Iterator<CraftingCPUCluster> iterator;
@@ -252,6 +252,22 @@ public class GridStorageCache implements IStorageGrid {
         }
     }
 
+    void invalidateHolders(final StorageChannel chan, final IAEStack<?> stack) {
+        switch (chan) {
+            case FLUIDS -> {
+                if (this.myFluidNetwork != null) {
+                    this.myFluidNetwork.invalidateHolders((IAEFluidStack) stack);
+                }
+            }
+            case ITEMS -> {
+                if (this.myItemNetwork != null) {
+                    this.myItemNetwork.invalidateHolders((IAEItemStack) stack);
+                }
+            }
+            default -> {}
+        }
+    }
+
     IMEInventoryHandler<IAEItemStack> getItemInventoryHandler() {
         if (this.myItemNetwork == null) {
             this.buildNetworkStorage(StorageChannel.ITEMS);
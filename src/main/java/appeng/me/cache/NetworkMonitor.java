@@ -10,12 +10,18 @@
 
 package appeng.me.cache;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Deque;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.function.Predicate;
 
 import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
@@ -26,6 +32,7 @@ import com.google.common.collect.Lists;
 
 import appeng.api.config.AccessRestriction;
 import appeng.api.config.Actionable;
+import appeng.api.config.FuzzyMode;
 import appeng.api.networking.events.MENetworkStorageEvent;
 import appeng.api.networking.security.BaseActionSource;
 import appeng.api.storage.IMEInventoryHandler;
@@ -42,6 +49,8 @@ public class NetworkMonitor<T extends IAEStack<T>> implements IMEMonitor<T> {
     @Nonnull
     private static final Deque<NetworkMonitor<?>> GLOBAL_DEPTH = Lists.newLinkedList();
 
+    private static final int MAX_FUZZY_COUNTS = 256;
+
     @Nonnull
     private final GridStorageCache myGridCache;
 
@@ -56,6 +65,20 @@ public class NetworkMonitor<T extends IAEStack<T>> implements IMEMonitor<T> {
 
     private boolean sendEvent = false;
     private boolean hasChanged = false;
+    private long changeGeneration = 0;
+
+    /**
+     * Running sums of the stored stacks, updated from the posted changes. They are recounted when the stored list is
+     * rebuilt and after a change that wasn't posted.
+     */
+    private boolean aggregatesValid = false;
+    private long storedCount = 0;
+    private final Map<FuzzyKey<T>, long[]> fuzzyCounts = new HashMap<>();
+
+    /**
+     * Stack types each filter accepted, gone types are dropped when the filter is asked again.
+     */
+    private final Map<Predicate<T>, Set<T>> matchIndex = new WeakHashMap<>();
 
     @Nonnegative
     private int localDepthSemaphore = 0;
@@ -94,6 +117,30 @@ public class NetworkMonitor<T extends IAEStack<T>> implements IMEMonitor<T> {
         return leftover;
     }
 
+    /**
+     * Extracts the requests one by one, then tells the listeners about all of them in one change.
+     */
+    @Override
+    public List<T> extractBatch(final List<T> requests, final Actionable mode, final BaseActionSource src) {
+        if (mode == Actionable.SIMULATE) {
+            return this.getHandler().extractBatch(requests, mode, src);
+        }
+
+        final IMEInventoryHandler<T> handler = this.getHandler();
+        final List<T> extracted = new ArrayList<>(requests.size());
+        localDepthSemaphore++;
+        for (final T request : requests) {
+            extracted.add(handler.extractItems(request, mode, src));
+        }
+        localDepthSemaphore--;
+
+        if (localDepthSemaphore == 0) {
+            this.monitorDifferences(requests, extracted, true, src);
+        }
+
+        return extracted;
+    }
+
     @Override
     public AccessRestriction getAccess() {
         return this.getHandler().getAccess();
@@ -124,6 +171,7 @@ public class NetworkMonitor<T extends IAEStack<T>> implements IMEMonitor<T> {
     public IItemList<T> getStorageList() {
         if (this.hasChanged) {
             this.hasChanged = false;
+            this.aggregatesValid = false;
             this.cachedList.resetStatus();
             return this.getAvailableItems(this.cachedList);
         }
@@ -148,6 +196,32 @@ public class NetworkMonitor<T extends IAEStack<T>> implements IMEMonitor<T> {
         return leftover;
     }
 
+    /**
+     * Injects the stacks one by one, then tells the listeners about all of them in one change.
+     */
+    @Override
+    public List<T> injectBatch(final List<T> input, final Actionable mode, final BaseActionSource src) {
+        if (mode == Actionable.SIMULATE) {
+            return this.getHandler().injectBatch(input, mode, src);
+        }
+
+        final IMEInventoryHandler<T> handler = this.getHandler();
+        final List<T> originals = new ArrayList<>(input.size());
+        final List<T> leftovers = new ArrayList<>(input.size());
+        localDepthSemaphore++;
+        for (final T stack : input) {
+            originals.add(stack.copy());
+            leftovers.add(handler.injectItems(stack, mode, src));
+        }
+        localDepthSemaphore--;
+
+        if (localDepthSemaphore == 0) {
+            this.monitorDifferences(originals, leftovers, false, src);
+        }
+
+        return leftovers;
+    }
+
     @Override
     public boolean isPrioritized(final T input) {
         return this.getHandler().isPrioritized(input);
@@ -184,6 +258,31 @@ public class NetworkMonitor<T extends IAEStack<T>> implements IMEMonitor<T> {
 
     private T monitorDifference(final IAEStack original, final T leftOvers, final boolean extraction,
             final BaseActionSource src) {
+        final T diff = this.difference(original, leftOvers, extraction);
+
+        if (diff.getStackSize() != 0) {
+            this.postChangesToListeners(ImmutableList.of(diff), src);
+        }
+
+        return leftOvers;
+    }
+
+    private void monitorDifferences(final List<T> originals, final List<T> leftOvers, final boolean extraction,
+            final BaseActionSource src) {
+        final List<T> diffs = new ArrayList<>(originals.size());
+        for (int i = 0; i < originals.size(); i++) {
+            final T diff = this.difference(originals.get(i), leftOvers.get(i), extraction);
+            if (diff.getStackSize() != 0) {
+                diffs.add(diff);
+            }
+        }
+
+        if (!diffs.isEmpty()) {
+            this.postChangesToListeners(diffs, src);
+        }
+    }
+
+    private T difference(final IAEStack original, final T leftOvers, final boolean extraction) {
         final T diff = (T) original.copy();
 
         if (extraction) {
@@ -192,15 +291,156 @@ public class NetworkMonitor<T extends IAEStack<T>> implements IMEMonitor<T> {
             diff.decStackSize(leftOvers.getStackSize());
         }
 
-        if (diff.getStackSize() != 0) {
-            this.postChangesToListeners(ImmutableList.of(diff), src);
+        return diff;
+    }
+
+    /**
+     * @return A number that changes whenever the listeners are told about a change, listeners that saw the same
+     *         generations saw the same changes.
+     */
+    public long getChangeGeneration() {
+        return this.changeGeneration;
+    }
+
+    /**
+     * @return the summed stack size of everything stored
+     */
+    public long getStoredCount() {
+        this.validateAggregates();
+        return this.storedCount;
+    }
+
+    /**
+     * @return the summed stack size of the stored stacks {@link IItemList#findFuzzy} finds for the filter, the sum is
+     *         kept up to date once it was asked for
+     */
+    public long getFuzzyStoredCount(final T filter, final FuzzyMode fuzzy) {
+        this.validateAggregates();
+
+        long[] count = this.fuzzyCounts.get(new FuzzyKey<>(filter, fuzzy));
+        if (count == null) {
+            final IItemList<T> stored = this.getStorageList();
+            // the list may just have been rebuilt
+            this.validateAggregates();
+            if (this.fuzzyCounts.size() >= MAX_FUZZY_COUNTS) {
+                this.fuzzyCounts.clear();
+            }
+
+            count = new long[] { sumStackSizes(stored.findFuzzy(filter, fuzzy)) };
+            this.fuzzyCounts.put(new FuzzyKey<>(filter.copy(), fuzzy), count);
         }
 
-        return leftOvers;
+        return count[0];
+    }
+
+    private void validateAggregates() {
+        if (!this.aggregatesValid) {
+            final IItemList<T> stored = this.getStorageList();
+            this.aggregatesValid = true;
+            this.fuzzyCounts.clear();
+            this.storedCount = sumStackSizes(stored);
+        }
+    }
+
+    private void updateAggregates(final boolean add, final Iterable<T> changes) {
+        if (!this.aggregatesValid) {
+            return;
+        }
+
+        final IItemList<T> fuzzyChanges = this.fuzzyCounts.isEmpty() ? null
+                : (IItemList<T>) this.myChannel.createList();
+        for (final T changedItem : changes) {
+            if (changedItem == null) {
+                continue;
+            }
+
+            this.storedCount += add ? changedItem.getStackSize() : -changedItem.getStackSize();
+
+            if (fuzzyChanges != null) {
+                final T difference = changedItem.copy();
+                if (!add) {
+                    difference.setStackSize(-changedItem.getStackSize());
+                }
+                fuzzyChanges.addStorage(difference);
+            }
+        }
+
+        if (fuzzyChanges != null) {
+            for (final Entry<FuzzyKey<T>, long[]> fuzzyCount : this.fuzzyCounts.entrySet()) {
+                final FuzzyKey<T> key = fuzzyCount.getKey();
+                fuzzyCount.getValue()[0] += sumStackSizes(fuzzyChanges.findFuzzy(key.filter, key.fuzzy));
+            }
+        }
+
+        if (this.storedCount < 0) {
+            // the changes missed something, count again
+            this.aggregatesValid = false;
+        }
+    }
+
+    /**
+     * @return the stored stacks the filter accepts, only the first call for a filter and the first one after a change
+     *         that wasn't posted test every stored stack. The filter is held weakly and has to keep its answers for a
+     *         type, share it between users to share the index.
+     */
+    public List<T> getMatchingStacks(final Predicate<T> filter) {
+        final IItemList<T> stored = this.getStorageList();
+        final List<T> matching = new ArrayList<>();
+        Set<T> types = this.matchIndex.get(filter);
+
+        if (types == null) {
+            types = new LinkedHashSet<>();
+            for (final T stack : stored) {
+                if (filter.test(stack)) {
+                    types.add(stack.copy());
+                    matching.add(stack);
+                }
+            }
+            this.matchIndex.put(filter, types);
+            return matching;
+        }
+
+        for (final Iterator<T> i = types.iterator(); i.hasNext();) {
+            final T stack = stored.findPrecise(i.next());
+            if (stack == null || !stack.isMeaningful()) {
+                i.remove();
+            } else {
+                matching.add(stack);
+            }
+        }
+
+        return matching;
+    }
+
+    private void updateMatchIndex(final boolean add, final Iterable<T> changes) {
+        if (this.matchIndex.isEmpty()) {
+            return;
+        }
+
+        for (final T changedItem : changes) {
+            if (changedItem == null || (add ? changedItem.getStackSize() : -changedItem.getStackSize()) <= 0) {
+                continue;
+            }
+
+            for (final Entry<Predicate<T>, Set<T>> entry : this.matchIndex.entrySet()) {
+                if (!entry.getValue().contains(changedItem) && entry.getKey().test(changedItem)) {
+                    entry.getValue().add(changedItem.copy());
+                }
+            }
+        }
+    }
+
+    private static long sumStackSizes(final Iterable<? extends IAEStack<?>> stacks) {
+        long sum = 0;
+        for (final IAEStack<?> stack : stacks) {
+            sum += stack.getStackSize();
+        }
+        return sum;
     }
 
     private void notifyListenersOfChange(final Iterable<T> diff, final BaseActionSource src) {
         this.hasChanged = true;
+        this.changeGeneration++;
         final Iterator<Entry<IMEMonitorHandlerReceiver<T>, Object>> i = this.getListeners();
 
         while (i.hasNext()) {
@@ -215,11 +455,24 @@ public class NetworkMonitor<T extends IAEStack<T>> implements IMEMonitor<T> {
     }
 
     private void postChangesToListeners(final Iterable<T> changes, final BaseActionSource src) {
-        this.postChange(true, changes, src);
+        this.postChange(true, changes, src, true);
     }
 
     protected void postChange(final boolean add, final Iterable<T> changes, final BaseActionSource src) {
+        this.postChange(add, changes, src, false);
+    }
+
+    /**
+     * @param fromNetwork true if the changes were made through {@link #getHandler()}, which already keeps its holder
+     *                    index up to date. Otherwise, newly stored items have to be looked up again.
+     */
+    private void postChange(final boolean add, final Iterable<T> changes, final BaseActionSource src,
+            final boolean fromNetwork) {
         if (localDepthSemaphore > 0 || GLOBAL_DEPTH.contains(this)) {
+            // listeners only hear of the outer change, the sums and the match index have to look at the list again
+            this.hasChanged = true;
+            this.aggregatesValid = false;
+            this.matchIndex.clear();
             return;
         }
 
@@ -228,6 +481,8 @@ public class NetworkMonitor<T extends IAEStack<T>> implements IMEMonitor<T> {
 
         this.sendEvent = true;
 
+        this.updateAggregates(add, changes);
+        this.updateMatchIndex(add, changes);
         this.notifyListenersOfChange(changes, src);
 
         for (final T changedItem : changes) {
@@ -242,6 +497,10 @@ public class NetworkMonitor<T extends IAEStack<T>> implements IMEMonitor<T> {
                 difference.setStackSize(-changedItem.getStackSize());
             }
 
+            if (!fromNetwork && difference.getStackSize() > 0) {
+                this.myGridCache.invalidateHolders(this.myChannel, difference);
+            }
+
             if (this.myGridCache.getInterestManager().containsKey(changedItem)) {
                 final Collection<ItemWatcher> list = this.myGridCache.getInterestManager().get(changedItem);
 
@@ -275,6 +534,9 @@ public class NetworkMonitor<T extends IAEStack<T>> implements IMEMonitor<T> {
 
     void forceUpdate() {
         this.hasChanged = true;
+        this.changeGeneration++;
+        this.aggregatesValid = false;
+        this.matchIndex.clear();
 
         final Iterator<Entry<IMEMonitorHandlerReceiver<T>, Object>> i = this.getListeners();
         while (i.hasNext()) {
@@ -295,4 +557,25 @@ public class NetworkMonitor<T extends IAEStack<T>> implements IMEMonitor<T> {
             this.myGridCache.getGrid().postEvent(new MENetworkStorageEvent(this, this.myChannel));
         }
     }
+
+    private static final class FuzzyKey<T extends IAEStack<T>> {
+
+        private final T filter;
+        private final FuzzyMode fuzzy;
+
+        private FuzzyKey(final T filter, final FuzzyMode fuzzy) {
+            this.filter = filter;
+            this.fuzzy = fuzzy;
+        }
+
+        @Override
+        public int hashCode() {
+            return this.filter.hashCode() * 31 + this.fuzzy.ordinal();
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            return obj instanceof FuzzyKey<?> other && other.fuzzy == this.fuzzy && other.filter.equals(this.filter);
+        }
+    }
 }
@@ -72,6 +72,11 @@ public class PathGridCache implements IPathingGrid {
     private int ticksUntilReady = 20;
     private int lastChannels = 0;
     private HashSet<IPathItem> semiOpen = new HashSet<>();
+    /**
+     * Leaf nodes whose addition or removal is handled by incremental pathing instead of a full {@link #repath()}.
+     */
+    private final Set<IGridNode> incrementalNodes = new HashSet<>();
+    private int nodesWithoutChannel = 0;
 
     public PathGridCache(final IGrid g) {
         this.myGrid = g;
@@ -79,6 +84,11 @@ public class PathGridCache implements IPathingGrid {
 
     @Override
     public void onUpdateTick() {
+        if (!this.incrementalNodes.isEmpty()) {
+            // a node was added without the connection that should have followed it
+            this.repath();
+        }
+
         if (this.recalculateControllerNextTick) {
             this.recalcController();
         }
@@ -184,6 +194,13 @@ public class PathGridCache implements IPathingGrid {
                 // check for achievements
                 this.achievementPost();
 
+                this.nodesWithoutChannel = 0;
+                for (final IGridNode node : this.requireChannels) {
+                    if (!node.meetsChannelRequirements()) {
+                        this.nodesWithoutChannel++;
+                    }
+                }
+
                 this.booting = false;
                 this.setChannelPowerUsage(this.getChannelsByBlocks() / 128.0);
                 this.myGrid.postEvent(new MENetworkBootingStatusChange(false));
@@ -214,7 +231,9 @@ public class PathGridCache implements IPathingGrid {
             this.blockDense.remove(gridNode);
         }
 
-        this.repath();
+        if (!this.incrementalNodes.remove(gridNode)) {
+            this.repath();
+        }
     }
 
     @Override
@@ -240,7 +259,139 @@ public class PathGridCache implements IPathingGrid {
             this.blockDense.add(gridNode);
         }
 
-        this.repath();
+        // a new leaf has no connections yet, it is pathed once its connection is added
+        if (this.canPathIncrementally() && this.isIncrementalLeaf(gridNode, machine)
+                && gridNode.getConnections().isEmpty()) {
+            this.incrementalNodes.add(gridNode);
+        } else {
+            this.repath();
+        }
+    }
+
+    /**
+     * Paths a connection that was just added. If it attaches a single new node to a booted network, only the route
+     * from that node to the controller is updated, otherwise the network is repathed.
+     *
+     * @param routeA the controller route of side A before the connection was added
+     * @param routeB the controller route of side B before the connection was added
+     */
+    public void onConnectionAdded(final GridConnection gc, final IPathItem routeA, final IPathItem routeB) {
+        final GridNode a = (GridNode) gc.a();
+        final GridNode b = (GridNode) gc.b();
+        final boolean leafIsA = this.incrementalNodes.contains(a);
+        final GridNode leaf = leafIsA ? a : b;
+        final GridNode parent = leafIsA ? b : a;
+
+        if (!this.incrementalNodes.remove(leaf) || !this.addLeaf(gc, leaf, parent, leafIsA ? routeB : routeA)) {
+            this.repath();
+        }
+    }
+
+    private boolean addLeaf(final GridConnection gc, final GridNode leaf, final GridNode parent,
+            final IPathItem parentRoute) {
+        if (!this.canPathIncrementally() || this.incrementalNodes.contains(parent)
+                || leaf.getConnections().size() != 1
+                || parentRoute == null) {
+            return false;
+        }
+
+        // adding the connection may have resorted the connections of the parent, keep its route
+        parent.setControllerRoute(parentRoute, false);
+        if (!this.routesToController(parent)) {
+            return false;
+        }
+
+        gc.setControllerRoute(parent, true);
+        leaf.setControllerRoute(gc, true);
+
+        if (leaf.hasFlag(GridFlags.REQUIRE_CHANNEL)) {
+            for (IPathItem pi = leaf; pi != null; pi = pi.getControllerRoute()) {
+                if (!pi.canSupportMoreChannels()) {
+                    return false;
+                }
+            }
+            this.changeChannels(leaf, 1);
+        }
+
+        leaf.finalizeChannels();
+        gc.finalizeChannels();
+        this.achievementPost();
+        return true;
+    }
+
+    /**
+     * Paths a connection that is about to be destroyed. If it holds a single node at the edge of a booted network,
+     * only the channel of that node is released along its route, otherwise the network is repathed.
+     */
+    public void onConnectionRemoved(final GridConnection gc) {
+        // side A of a pathed connection is the side closer to the controller
+        final GridNode leaf = (GridNode) gc.b();
+        final GridNode parent = (GridNode) gc.a();
+        final int used = gc.getUsedChannels();
+
+        if (!this.canPathIncrementally() || leaf.getGrid() != this.myGrid
+                || leaf.getConnections().size() != 1
+                || !this.isIncrementalLeaf(leaf, leaf.getMachine())
+                || parent.getControllerRoute() == gc
+                || !this.routesToController(parent)
+                || (used > 0 && this.nodesWithoutChannel > 0)) {
+            // a freed channel could go to a node that has none, only a full repath hands it out
+            this.repath();
+            return;
+        }
+
+        if (used > 0) {
+            this.changeChannels(gc, -used);
+            // the leaf itself was counted as well
+            this.setChannelsByBlocks(this.getChannelsByBlocks() - used);
+            this.setChannelPowerUsage(this.getChannelsByBlocks() / 128.0);
+        } else if (!leaf.meetsChannelRequirements() && this.nodesWithoutChannel > 0) {
+            this.nodesWithoutChannel--;
+        }
+
+        this.incrementalNodes.add(leaf);
+    }
+
+    private boolean canPathIncrementally() {
+        return AEConfig.instance.incrementalChannelPathing && this.controllerState == ControllerState.CONTROLLER_ONLINE
+                && !this.recalculateControllerNextTick
+                && !this.updateNetwork
+                && !this.booting
+                && this.active.isEmpty()
+                && this.backbone.isEmpty();
+    }
+
+    private boolean isIncrementalLeaf(final IGridNode gridNode, final IGridHost machine) {
+        final EnumSet<GridFlags> flags = gridNode.getGridBlock().getFlags();
+        return !(machine instanceof TileController) && !flags.contains(GridFlags.MULTIBLOCK)
+                && !flags.contains(GridFlags.COMPRESSED_CHANNEL)
+                && !flags.contains(GridFlags.ULTRA_DENSE_CAPACITY);
+    }
+
+    private boolean routesToController(final IPathItem start) {
+        int steps = this.myGrid.getNodes().size() * 2 + 2;
+        IPathItem last = null;
+        for (IPathItem pi = start; pi != null; pi = pi.getControllerRoute()) {
+            if (--steps < 0) {
+                return false;
+            }
+            last = pi;
+        }
+        return last instanceof IGridNode gn && gn.getMachine() instanceof TileController;
+    }
+
+    /**
+     * Adds or releases channels along the route from a path item to the controller, the same way
+     * {@link PathSegment} hands them out.
+     */
+    private void changeChannels(final IPathItem start, final int channels) {
+        for (IPathItem pi = start; pi != null; pi = pi.getControllerRoute()) {
+            this.setChannelsByBlocks(this.getChannelsByBlocks() + channels);
+            pi.incrementChannelCount(channels);
+            pi.finalizeChannels();
+        }
+        this.setChannelsInUse(this.getChannelsInUse() + channels);
+        this.setChannelPowerUsage(this.getChannelsByBlocks() / 128.0);
     }
 
     @Override
@@ -376,6 +527,7 @@ public class PathGridCache implements IPathingGrid {
     @Override
     public void repath() {
         // clean up...
+        this.incrementalNodes.clear();
         this.active.clear();
         this.backbone.clear();
         this.setChannelsByBlocks(0);
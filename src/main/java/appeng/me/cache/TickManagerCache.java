@@ -11,7 +11,6 @@
 package appeng.me.cache;
 
 import java.util.HashMap;
-import java.util.PriorityQueue;
 
 import net.minecraft.crash.CrashReport;
 import net.minecraft.crash.CrashReportCategory;
@@ -28,7 +27,10 @@ import appeng.api.networking.ticking.TickingRequest;
 import appeng.api.util.DimensionalCoord;
 import appeng.core.AEConfig;
 import appeng.core.AELog;
+import appeng.me.cache.helpers.ITickScheduler;
+import appeng.me.cache.helpers.PriorityTickScheduler;
 import appeng.me.cache.helpers.TickTracker;
+import appeng.me.cache.helpers.TimingWheelTickScheduler;
 
 public class TickManagerCache implements ITickManager {
 
@@ -36,11 +38,17 @@ public class TickManagerCache implements ITickManager {
     private final HashMap<IGridNode, TickTracker> alertable = new HashMap<>();
     private final HashMap<IGridNode, TickTracker> sleeping = new HashMap<>();
     private final HashMap<IGridNode, TickTracker> awake = new HashMap<>();
-    private final PriorityQueue<TickTracker> upcomingTicks = new PriorityQueue<>();
+    private final ITickScheduler upcomingTicks;
     private long currentTick = 0;
 
     public TickManagerCache(final IGrid g) {
+        this(g, AEConfig.instance.timingWheelTickScheduler);
+    }
+
+    public TickManagerCache(final IGrid g, final boolean timingWheel) {
         this.myGrid = g;
+        this.upcomingTicks = timingWheel ? new TimingWheelTickScheduler(this.currentTick)
+                : new PriorityTickScheduler();
     }
 
     public long getCurrentTick() {
@@ -66,52 +74,45 @@ public class TickManagerCache implements ITickManager {
         TickTracker tt = null;
         try {
             this.currentTick++;
-            while (!this.upcomingTicks.isEmpty()) {
-                tt = this.upcomingTicks.peek();
+            while ((tt = this.upcomingTicks.pollDue(this.currentTick)) != null) {
                 final int diff = (int) (this.currentTick - tt.getLastTick());
-                if (diff >= tt.getCurrentRate()) {
-                    // remove tt..
-                    this.upcomingTicks.poll();
-                    long tickStartTime = 0;
-                    if (AEConfig.instance.debugLogTiming) tickStartTime = System.nanoTime();
-                    final TickRateModulation mod = tt.getGridTickable().tickingRequest(tt.getNode(), diff);
-                    if (AEConfig.instance.debugLogTiming) {
-                        DimensionalCoord c = tt.getNode().getGridBlock().getLocation();
-                        AELog.debug(
-                                "Timing: machine tick at (%d %d %d) took %d ns, new state is %s",
-                                c.x,
-                                c.y,
-                                c.z,
-                                System.nanoTime() - tickStartTime,
-                                mod.toString());
-                    }
-                    switch (mod) {
-                        case FASTER:
-                            tt.setRate(tt.getCurrentRate() - 2);
-                            break;
-                        case IDLE:
-                            tt.setRate(tt.getRequest().maxTickRate);
-                            break;
-                        case SAME:
-                            break;
-                        case SLEEP:
-                            this.sleepDevice(tt.getNode());
-                            break;
-                        case SLOWER:
-                            tt.setRate(tt.getCurrentRate() + 1);
-                            break;
-                        case URGENT:
-                            tt.setRate(0);
-                            break;
-                        default:
-                            break;
-                    }
-
-                    if (this.awake.containsKey(tt.getNode())) {
-                        this.addToQueue(tt);
-                    }
-                } else {
-                    return; // done!
+                long tickStartTime = 0;
+                if (AEConfig.instance.debugLogTiming) tickStartTime = System.nanoTime();
+                final TickRateModulation mod = tt.getGridTickable().tickingRequest(tt.getNode(), diff);
+                if (AEConfig.instance.debugLogTiming) {
+                    DimensionalCoord c = tt.getNode().getGridBlock().getLocation();
+                    AELog.debug(
+                            "Timing: machine tick at (%d %d %d) took %d ns, new state is %s",
+                            c.x,
+                            c.y,
+                            c.z,
+                            System.nanoTime() - tickStartTime,
+                            mod.toString());
+                }
+                switch (mod) {
+                    case FASTER:
+                        tt.setRate(tt.getCurrentRate() - 2);
+                        break;
+                    case IDLE:
+                        tt.setRate(tt.getRequest().maxTickRate);
+                        break;
+                    case SAME:
+                        break;
+                    case SLEEP:
+                        this.sleepDevice(tt.getNode());
+                        break;
+                    case SLOWER:
+                        tt.setRate(tt.getCurrentRate() + 1);
+                        break;
+                    case URGENT:
+                        tt.setRate(0);
+                        break;
+                    default:
+                        break;
+                }
+
+                if (this.awake.containsKey(tt.getNode())) {
+                    this.addToQueue(tt);
                 }
             }
         } catch (final Throwable t) {
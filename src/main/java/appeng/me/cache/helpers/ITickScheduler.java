@@ -0,0 +1,34 @@
+/*
+ * This file is part of Applied Energistics 2. Copyright (c) 2013 - 2014, AlgorithmX2, All rights reserved. Applied
+ * Energistics 2 is free software: you can redistribute it and/or modify it under the terms of the GNU Lesser General
+ * Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any
+ * later version. Applied Energistics 2 is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General
+ * Public License for more details. You should have received a copy of the GNU Lesser General Public License along with
+ * Applied Energistics 2. If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+
+package appeng.me.cache.helpers;
+
+/**
+ * Keeps the awake {@link TickTracker}s of a grid in the order they are due. A tracker is due once the current tick is
+ * at least its last tick plus its current rate.
+ */
+public interface ITickScheduler {
+
+    /**
+     * Schedules the tracker by its current last tick and rate. It must not be scheduled already.
+     */
+    void add(TickTracker tt);
+
+    /**
+     * Removes the tracker if it is scheduled.
+     */
+    void remove(TickTracker tt);
+
+    /**
+     * Removes and returns a tracker due at currentTick, or null if none is. Ticks have to be passed in increasing
+     * order.
+     */
+    TickTracker pollDue(long currentTick);
+}
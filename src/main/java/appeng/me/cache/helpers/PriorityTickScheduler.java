@@ -0,0 +1,41 @@
+/*
+ * This file is part of Applied Energistics 2. Copyright (c) 2013 - 2014, AlgorithmX2, All rights reserved. Applied
+ * Energistics 2 is free software: you can redistribute it and/or modify it under the terms of the GNU Lesser General
+ * Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any
+ * later version. Applied Energistics 2 is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General
+ * Public License for more details. You should have received a copy of the GNU Lesser General Public License along with
+ * Applied Energistics 2. If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+
+package appeng.me.cache.helpers;
+
+import java.util.PriorityQueue;
+
+/**
+ * Binary heap of trackers, removing a tracker searches the whole heap.
+ */
+public class PriorityTickScheduler implements ITickScheduler {
+
+    private final PriorityQueue<TickTracker> upcomingTicks = new PriorityQueue<>();
+
+    @Override
+    public void add(final TickTracker tt) {
+        this.upcomingTicks.add(tt);
+    }
+
+    @Override
+    public void remove(final TickTracker tt) {
+        this.upcomingTicks.remove(tt);
+    }
+
+    @Override
+    public TickTracker pollDue(final long currentTick) {
+        final TickTracker tt = this.upcomingTicks.peek();
+        if (tt != null && currentTick - tt.getLastTick() >= tt.getCurrentRate()) {
+            return this.upcomingTicks.poll();
+        }
+
+        return null;
+    }
+}
@@ -33,6 +33,11 @@ public class TickTracker implements Comparable<TickTracker> {
     private long lastTick;
     private int currentRate;
 
+    // links of the timing wheel bucket this tracker is scheduled in
+    TimingWheelTickScheduler.Bucket bucket;
+    TickTracker prev;
+    TickTracker next;
+
     public TickTracker(final TickingRequest req, final IGridNode node, final IGridTickable gt, final long currentTick,
             final TickManagerCache tickManagerCache) {
         this.request = req;
@@ -0,0 +1,148 @@
+/*
+ * This file is part of Applied Energistics 2. Copyright (c) 2013 - 2014, AlgorithmX2, All rights reserved. Applied
+ * Energistics 2 is free software: you can redistribute it and/or modify it under the terms of the GNU Lesser General
+ * Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any
+ * later version. Applied Energistics 2 is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General
+ * Public License for more details. You should have received a copy of the GNU Lesser General Public License along with
+ * Applied Energistics 2. If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+
+package appeng.me.cache.helpers;
+
+/**
+ * Hierarchical timing wheel of trackers. The lower wheel has one bucket per tick, the upper wheel one bucket per turn
+ * of the lower wheel; trackers further away wait in an overflow bucket. Buckets are intrusive lists through the
+ * trackers, so adding and removing a tracker is constant time.
+ */
+public class TimingWheelTickScheduler implements ITickScheduler {
+
+    private static final int LOWER_BITS = 8;
+    private static final int LOWER_SIZE = 1 << LOWER_BITS;
+    private static final int LOWER_MASK = LOWER_SIZE - 1;
+    private static final int UPPER_BITS = 6;
+    private static final int UPPER_SIZE = 1 << UPPER_BITS;
+    private static final int UPPER_MASK = UPPER_SIZE - 1;
+
+    private final Bucket[] lower = new Bucket[LOWER_SIZE];
+    private final Bucket[] upper = new Bucket[UPPER_SIZE];
+    private final Bucket overflow = new Bucket();
+    // trackers due at or before the current tick
+    private final Bucket due = new Bucket();
+    private long now;
+
+    public TimingWheelTickScheduler(final long currentTick) {
+        this.now = currentTick;
+        for (int i = 0; i < LOWER_SIZE; i++) {
+            this.lower[i] = new Bucket();
+        }
+        for (int i = 0; i < UPPER_SIZE; i++) {
+            this.upper[i] = new Bucket();
+        }
+    }
+
+    @Override
+    public void add(final TickTracker tt) {
+        // a device alerted while it ticks is added again once its tick is done, the later add wins
+        if (tt.bucket != null) {
+            tt.bucket.remove(tt);
+        }
+
+        final long dueTick = tt.getLastTick() + tt.getCurrentRate();
+        if (dueTick <= this.now) {
+            this.due.add(tt);
+        } else if (dueTick - this.now < LOWER_SIZE) {
+            this.lower[(int) (dueTick & LOWER_MASK)].add(tt);
+        } else if ((dueTick >> LOWER_BITS) - (this.now >> LOWER_BITS) < UPPER_SIZE) {
+            this.upper[(int) ((dueTick >> LOWER_BITS) & UPPER_MASK)].add(tt);
+        } else {
+            this.overflow.add(tt);
+        }
+    }
+
+    @Override
+    public void remove(final TickTracker tt) {
+        if (tt != null && tt.bucket != null) {
+            tt.bucket.remove(tt);
+        }
+    }
+
+    @Override
+    public TickTracker pollDue(final long currentTick) {
+        while (this.now < currentTick) {
+            this.advance();
+        }
+
+        final TickTracker tt = this.due.head;
+        if (tt != null) {
+            this.due.remove(tt);
+        }
+        return tt;
+    }
+
+    private void advance() {
+        this.now++;
+
+        if ((this.now & LOWER_MASK) == 0) {
+            if (((this.now >> LOWER_BITS) & UPPER_MASK) == 0) {
+                this.reschedule(this.overflow);
+            }
+            this.reschedule(this.upper[(int) ((this.now >> LOWER_BITS) & UPPER_MASK)]);
+        }
+
+        final Bucket bucket = this.lower[(int) (this.now & LOWER_MASK)];
+        while (bucket.head != null) {
+            final TickTracker tt = bucket.head;
+            bucket.remove(tt);
+            this.due.add(tt);
+        }
+    }
+
+    private void reschedule(final Bucket bucket) {
+        TickTracker tt = bucket.head;
+        bucket.head = null;
+        bucket.tail = null;
+        while (tt != null) {
+            final TickTracker next = tt.next;
+            tt.bucket = null;
+            tt.prev = null;
+            tt.next = null;
+            this.add(tt);
+            tt = next;
+        }
+    }
+
+    static final class Bucket {
+
+        private TickTracker head;
+        private TickTracker tail;
+
+        private void add(final TickTracker tt) {
+            tt.bucket = this;
+            tt.prev = this.tail;
+            tt.next = null;
+            if (this.tail == null) {
+                this.head = tt;
+            } else {
+                this.tail.next = tt;
+            }
+            this.tail = tt;
+        }
+
+        private void remove(final TickTracker tt) {
+            if (tt.prev == null) {
+                this.head = tt.next;
+            } else {
+                tt.prev.next = tt.next;
+            }
+            if (tt.next == null) {
+                this.tail = tt.prev;
+            } else {
+                tt.next.prev = tt.prev;
+            }
+            tt.bucket = null;
+            tt.prev = null;
+            tt.next = null;
+        }
+    }
+}
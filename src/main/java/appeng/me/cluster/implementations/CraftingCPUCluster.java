@@ -93,8 +93,9 @@ public final class CraftingCPUCluster implements IAECluster, ICraftingCPU {
     private final WorldCoord max;
     private final int[] usedOps = new int[3];
     private final Map<ICraftingPatternDetails, TaskProgress> tasks = new HashMap<>();
-    private Map<ICraftingPatternDetails, TaskProgress> workableTasks = new HashMap<>();
-    private HashSet<ICraftingMedium> knownBusyMediums = new HashSet<>();
+    private final Map<ICraftingPatternDetails, TaskProgress> workableTasks = new HashMap<>();
+    private final HashSet<ICraftingMedium> knownBusyMediums = new HashSet<>();
+    private final HashSet<ICraftingMedium> refusedCopies = new HashSet<>();
     // INSTANCE sate
     private final LinkedList<TileCraftingTile> tiles = new LinkedList<>();
     private final LinkedList<TileCraftingTile> storage = new LinkedList<>();
@@ -554,8 +555,9 @@ public final class CraftingCPUCluster implements IAECluster, ICraftingCPU {
         final int started = this.remainingOperations;
 
         // Shallow copy tasks so we may remove them after visiting
-        this.workableTasks = new HashMap<>(this.tasks);
+        this.workableTasks.putAll(this.tasks);
         this.knownBusyMediums.clear();
+        this.refusedCopies.clear();
         if (this.remainingOperations > 0) {
             do {
                 this.somethingChanged = false;
@@ -568,6 +570,7 @@ public final class CraftingCPUCluster implements IAECluster, ICraftingCPU {
 
         this.workableTasks.clear();
         this.knownBusyMediums.clear();
+        this.refusedCopies.clear();
 
         if (this.remainingOperations > 0 && !this.somethingChanged) {
             this.waiting = true;
@@ -605,18 +608,28 @@ public final class CraftingCPUCluster implements IAECluster, ICraftingCPU {
                     continue;
                 }
 
-                double sum = 0;
-                if (ic == null) {
-                    final IAEItemStack[] input = details.getInputs();
+                final int copies = this.getPatternCopies(m, details, e.getValue().value);
+                if (ic == null && copies > 1) {
+                    final int pushed = this.pushPatternCopies(eg, m, details, copies);
+                    if (pushed < copies) {
+                        // the medium is full, fall back to single copies for the rest of this tick
+                        this.refusedCopies.add(m);
+                    }
+                    if (pushed > 0) {
+                        e.getValue().value -= pushed;
+                        pushedPattern = true;
 
-                    for (final IAEItemStack anInput : input) {
-                        if (anInput != null) {
-                            sum += anInput.getStackSize();
+                        if (this.remainingOperations == 0) {
+                            return;
                         }
+                        continue;
                     }
-                    // upgraded interface uses more power
-                    if (m instanceof DualityInterface)
-                        sum *= Math.pow(4.0, ((DualityInterface) m).getInstalledUpgrades(Upgrades.PATTERN_CAPACITY));
+                }
+
+                double sum = 0;
+                if (ic == null) {
+                    final IAEItemStack[] input = details.getInputs();
+                    sum = this.getPatternPower(m, details);
 
                     // check if there is enough power
                     if (eg.extractAEPower(sum, Actionable.SIMULATE, PowerMultiplier.CONFIG) < sum - 0.01) continue;
@@ -672,28 +685,7 @@ public final class CraftingCPUCluster implements IAECluster, ICraftingCPU {
                     this.remainingOperations--;
                     pushedPattern = true;
 
-                    for (final IAEItemStack out : details.getCondensedOutputs()) {
-                        this.postChange(out, this.machineSrc);
-                        this.waitingFor.add(out.copy());
-                        this.postCraftingStatusChange(out.copy());
-                        providers.computeIfAbsent(out, k -> new ArrayList<>());
-                        List<DimensionalCoord> list = providers.get(out);
-                        if (m instanceof ICraftingProvider) {
-                            TileEntity tile = this.getTile(m);
-                            if (tile == null) continue;
-                            DimensionalCoord tileDimensionalCoord = new DimensionalCoord(tile);
-                            boolean isAdded = false;
-                            for (DimensionalCoord dimensionalCoord : list) {
-                                if (dimensionalCoord.isEqual(tileDimensionalCoord)) {
-                                    isAdded = true;
-                                    break;
-                                }
-                            }
-                            if (!isAdded) {
-                                list.add(tileDimensionalCoord);
-                            }
-                        }
-                    }
+                    this.postPatternOutputs(m, details, 1);
 
                     if (details.isCraftable()) {
                         FMLCommonHandler.instance().firePlayerCraftingEvent(
@@ -743,6 +735,122 @@ public final class CraftingCPUCluster implements IAECluster, ICraftingCPU {
         }
     }
 
+    private double getPatternPower(final ICraftingMedium m, final ICraftingPatternDetails details) {
+        double sum = 0;
+        for (final IAEItemStack anInput : details.getInputs()) {
+            if (anInput != null) {
+                sum += anInput.getStackSize();
+            }
+        }
+        // upgraded interface uses more power
+        if (m instanceof DualityInterface)
+            sum *= Math.pow(4.0, ((DualityInterface) m).getInstalledUpgrades(Upgrades.PATTERN_CAPACITY));
+        return sum;
+    }
+
+    /**
+     * @return how many copies of the pattern to push into the medium at once, only simple processing patterns are
+     *         pushed in copies
+     */
+    private int getPatternCopies(final ICraftingMedium m, final ICraftingPatternDetails details, final long needed) {
+        if (details.isCraftable() || details.canSubstitute() || this.refusedCopies.contains(m)) {
+            return 1;
+        }
+
+        return (int) Math.max(1, Math.min(Math.min(needed, this.remainingOperations), m.getMaxPatternCopies(details)));
+    }
+
+    /**
+     * Extracts, bills and pushes several copies of a processing pattern at once, each copy uses one operation.
+     *
+     * @return how many copies were pushed, the items of the other copies are put back
+     */
+    private int pushPatternCopies(final IEnergyGrid eg, final ICraftingMedium m,
+            final ICraftingPatternDetails details, final int copies) {
+        final double power = this.getPatternPower(m, details) * copies;
+        if (eg.extractAEPower(power, Actionable.SIMULATE, PowerMultiplier.CONFIG) < power - 0.01) {
+            return 0;
+        }
+
+        for (final IAEItemStack input : details.getCondensedInputs()) {
+            final IAEItemStack request = input.copy();
+            request.setStackSize(input.getStackSize() * copies);
+            final IAEItemStack available = this.inventory.extractItems(request, Actionable.SIMULATE, this.machineSrc);
+            if (available == null || available.getStackSize() < request.getStackSize()) {
+                return 0;
+            }
+        }
+
+        final IAEItemStack[] inputs = details.getInputs();
+        final InventoryCrafting ic = new InventoryCrafting(new ContainerNull(), inputs.length, 1);
+        for (int x = 0; x < inputs.length; x++) {
+            if (inputs[x] != null) {
+                final IAEItemStack request = inputs[x].copy();
+                request.setStackSize(inputs[x].getStackSize() * copies);
+                final IAEItemStack extracted = this.inventory
+                        .extractItems(request, Actionable.MODULATE, this.machineSrc);
+                if (extracted != null) {
+                    ic.setInventorySlotContents(x, extracted.getItemStack());
+                    this.postChange(request, this.machineSrc);
+                }
+            }
+        }
+
+        final int pushed = Math.max(0, Math.min(copies, m.pushPatterns(details, ic, copies)));
+        if (pushed < copies) {
+            // put stuff back..
+            for (int x = 0; x < ic.getSizeInventory(); x++) {
+                final ItemStack is = ic.getStackInSlot(x);
+                if (is != null) {
+                    final IAEItemStack rest = AEItemStack.create(is);
+                    rest.setStackSize(Math.min(is.stackSize, inputs[x].getStackSize() * (copies - pushed)));
+                    this.inventory.injectItems(rest, Actionable.MODULATE, this.machineSrc);
+                }
+            }
+            if (pushed == 0) {
+                return 0;
+            }
+        }
+
+        eg.extractAEPower(
+                this.getPatternPower(m, details) * pushed,
+                Actionable.MODULATE,
+                PowerMultiplier.CONFIG);
+        this.somethingChanged = true;
+        this.remainingOperations -= pushed;
+        this.postPatternOutputs(m, details, pushed);
+        this.markDirty();
+        return pushed;
+    }
+
+    private void postPatternOutputs(final ICraftingMedium m, final ICraftingPatternDetails details,
+            final long copies) {
+        for (final IAEItemStack condensedOut : details.getCondensedOutputs()) {
+            final IAEItemStack out = condensedOut.copy();
+            out.setStackSize(condensedOut.getStackSize() * copies);
+            this.postChange(out, this.machineSrc);
+            this.waitingFor.add(out.copy());
+            this.postCraftingStatusChange(out.copy());
+            providers.computeIfAbsent(out, k -> new ArrayList<>());
+            List<DimensionalCoord> list = providers.get(out);
+            if (m instanceof ICraftingProvider) {
+                TileEntity tile = this.getTile(m);
+                if (tile == null) continue;
+                DimensionalCoord tileDimensionalCoord = new DimensionalCoord(tile);
+                boolean isAdded = false;
+                for (DimensionalCoord dimensionalCoord : list) {
+                    if (dimensionalCoord.isEqual(tileDimensionalCoord)) {
+                        isAdded = true;
+                        break;
+                    }
+                }
+                if (!isAdded) {
+                    list.add(tileDimensionalCoord);
+                }
+            }
+        }
+    }
+
     private void storeItems() {
         final IGrid g = this.getGrid();
 
@@ -10,7 +10,11 @@
 
 package appeng.me.storage;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import javax.annotation.Nonnull;
@@ -35,6 +39,7 @@ import appeng.api.storage.ISaveProvider;
 import appeng.api.storage.StorageChannel;
 import appeng.api.storage.data.IAEItemStack;
 import appeng.api.storage.data.IItemList;
+import appeng.hooks.TickHandler;
 import appeng.util.Platform;
 import appeng.util.item.AEItemStack;
 
@@ -53,6 +58,16 @@ public class CellInventory implements ICellInventory {
     private short storedItemTypes = 0;
     private long storedItemCount = 0;
     private IItemList<IAEItemStack> cellItems;
+    /**
+     * The stored types in the order of their NBT slots, used to update only the slots touched by a change.
+     */
+    private final List<IAEItemStack> slotItems = new ArrayList<>();
+    private final Map<IAEItemStack, Integer> slotIndex = new HashMap<>();
+    /**
+     * Set when the loaded NBT did not map 1:1 onto the stored types, the next save rewrites all slots.
+     */
+    private boolean needsFullSave = false;
+    private boolean saveNotified = false;
     private final ItemStack cellItem;
     private IStorageCell cellType;
 
@@ -187,7 +202,8 @@ public class CellInventory implements ICellInventory {
 
         final IAEItemStack l = this.getCellItems().findPrecise(input);
 
-        if (l != null) {
+        // a type that ran out keeps its entry until the next full save, but no longer takes a slot
+        if (l != null && l.getStackSize() > 0) {
             final long remainingItemSlots = this.getRemainingItemCount();
 
             if (remainingItemSlots < 0) {
@@ -201,7 +217,7 @@ public class CellInventory implements ICellInventory {
                 if (mode == Actionable.MODULATE) {
                     l.setStackSize(l.getStackSize() + remainingItemSlots);
                     this.updateItemCount(remainingItemSlots);
-                    this.saveChanges();
+                    this.saveChanges(l);
                 }
 
                 return r;
@@ -209,7 +225,7 @@ public class CellInventory implements ICellInventory {
                 if (mode == Actionable.MODULATE) {
                     l.setStackSize(l.getStackSize() + input.getStackSize());
                     this.updateItemCount(input.getStackSize());
-                    this.saveChanges();
+                    this.saveChanges(l);
                 }
 
                 return null;
@@ -231,7 +247,7 @@ public class CellInventory implements ICellInventory {
 
                         this.cellItems.add(toWrite);
                         this.updateItemCount(toWrite.getStackSize());
-                        this.saveChanges();
+                        this.saveChanges(this.cellItems.findPrecise(toWrite));
                     }
                     return toReturn;
                 }
@@ -239,7 +255,7 @@ public class CellInventory implements ICellInventory {
                 if (mode == Actionable.MODULATE) {
                     this.updateItemCount(input.getStackSize());
                     this.cellItems.add(input);
-                    this.saveChanges();
+                    this.saveChanges(this.cellItems.findPrecise(input));
                 }
 
                 return null;
@@ -261,7 +277,7 @@ public class CellInventory implements ICellInventory {
 
         final IAEItemStack l = this.getCellItems().findPrecise(request);
 
-        if (l != null) {
+        if (l != null && l.getStackSize() > 0) {
             results = l.copy();
 
             if (l.getStackSize() <= size) {
@@ -270,7 +286,7 @@ public class CellInventory implements ICellInventory {
                 if (mode == Actionable.MODULATE) {
                     this.updateItemCount(-l.getStackSize());
                     l.setStackSize(0);
-                    this.saveChanges();
+                    this.saveChanges(l);
                 }
             } else {
                 results.setStackSize(size);
@@ -278,7 +294,7 @@ public class CellInventory implements ICellInventory {
                 if (mode == Actionable.MODULATE) {
                     l.setStackSize(l.getStackSize() - size);
                     this.updateItemCount(-size);
-                    this.saveChanges();
+                    this.saveChanges(l);
                 }
             }
         }
@@ -306,8 +322,13 @@ public class CellInventory implements ICellInventory {
         // add new pretty stuff...
         int x = 0;
 
+        this.slotItems.clear();
+        this.slotIndex.clear();
+
         for (final IAEItemStack v : this.cellItems) {
             itemCount += v.getStackSize();
+            this.slotItems.add(v);
+            this.slotIndex.put(v, x);
 
             final NBTBase c = this.tagCompound.getTag(itemSlots[x]);
 
@@ -361,8 +382,100 @@ public class CellInventory implements ICellInventory {
             this.tagCompound.removeTag(itemSlotCount[x]);
         }
 
-        if (this.container != null) {
-            this.container.saveChanges(this);
+        this.needsFullSave = false;
+        this.notifyContainer();
+    }
+
+    /**
+     * Persists a change to a single stored type, only the NBT slots affected by it are rewritten. A type that ran out
+     * is replaced by the type in the last slot, so the slots stay contiguous as {@link #loadCellItems()} expects.
+     */
+    private void saveChanges(final IAEItemStack changed) {
+        if (this.needsFullSave || changed == null) {
+            this.saveChanges();
+            return;
+        }
+
+        final Integer slot = this.slotIndex.get(changed);
+
+        if (changed.getStackSize() > 0) {
+            if (slot == null) {
+                final int x = this.slotItems.size();
+
+                if (x >= itemSlots.length) {
+                    this.saveChanges();
+                    return;
+                }
+
+                this.slotItems.add(changed);
+                this.slotIndex.put(changed, x);
+                this.writeSlot(x, changed);
+            } else {
+                this.writeSlotCount(slot, changed);
+            }
+        } else if (slot != null) {
+            final int last = this.slotItems.size() - 1;
+            final IAEItemStack moved = this.slotItems.remove(last);
+            this.slotIndex.remove(changed);
+
+            if (moved != changed) {
+                this.slotItems.set(slot, moved);
+                this.slotIndex.put(moved, slot);
+                this.writeSlot(slot, moved);
+            }
+
+            this.tagCompound.removeTag(itemSlots[last]);
+            this.tagCompound.removeTag(itemSlotCount[last]);
+        }
+
+        this.storedItemTypes = (short) this.slotItems.size();
+
+        if (this.storedItemTypes == 0) {
+            this.tagCompound.removeTag(ITEM_TYPE_TAG);
+        } else {
+            this.tagCompound.setShort(ITEM_TYPE_TAG, this.storedItemTypes);
+        }
+
+        if (this.storedItemCount == 0) {
+            this.tagCompound.removeTag(ITEM_COUNT_TAG);
+        }
+
+        this.notifyContainer();
+    }
+
+    private void writeSlot(final int x, final IAEItemStack v) {
+        final NBTTagCompound g = new NBTTagCompound();
+        v.writeToNBT(g);
+        this.tagCompound.setTag(itemSlots[x], g);
+        this.tagCompound.setLong(itemSlotCount[x], v.getStackSize());
+    }
+
+    private void writeSlotCount(final int x, final IAEItemStack v) {
+        final NBTBase c = this.tagCompound.getTag(itemSlots[x]);
+
+        if (c instanceof NBTTagCompound) {
+            ((NBTTagCompound) c).setLong("Cnt", v.getStackSize());
+        }
+
+        this.tagCompound.setLong(itemSlotCount[x], v.getStackSize());
+    }
+
+    /**
+     * Tells the container about changes at most once per server tick, it only needs to know that it has to be saved.
+     */
+    private void notifyContainer() {
+        if (this.container == null || this.saveNotified) {
+            return;
+        }
+
+        this.container.saveChanges(this);
+
+        if (Platform.isServer()) {
+            this.saveNotified = true;
+            TickHandler.INSTANCE.addCallable(null, world -> {
+                this.saveNotified = false;
+                return null;
+            });
         }
     }
 
@@ -372,6 +485,9 @@ public class CellInventory implements ICellInventory {
         }
 
         this.cellItems.resetStatus(); // clears totals and stuff.
+        this.slotItems.clear();
+        this.slotIndex.clear();
+        this.needsFullSave = false;
 
         final int types = (int) this.getStoredItemTypes();
 
@@ -382,17 +498,35 @@ public class CellInventory implements ICellInventory {
                 ias.setStackSize(this.tagCompound.getLong(itemSlotCount[x]));
                 if (ias.getStackSize() > 0) {
                     this.cellItems.add(ias);
+                    this.loadSlot(x, ias);
                 } else {
                     // Dirty Compact for EC2
                     ias.setStackSize(this.tagCompound.getCompoundTag(itemSlots[x]).getLong("Cnt"));
                     if (ias.getStackSize() > 0) {
                         this.cellItems.add(ias);
+                        this.loadSlot(x, ias);
                     }
+                    this.needsFullSave = true;
                 }
+            } else {
+                this.needsFullSave = true;
             }
         }
     }
 
+    private void loadSlot(final int x, final IAEItemStack ias) {
+        final IAEItemStack stored = this.cellItems.findPrecise(ias);
+
+        if (this.slotIndex.containsKey(stored) || this.slotItems.size() != x) {
+            // merged or shifted slots, leave it to a full rewrite.
+            this.needsFullSave = true;
+            return;
+        }
+
+        this.slotItems.add(stored);
+        this.slotIndex.put(stored, x);
+    }
+
     @Override
     public IItemList<IAEItemStack> getAvailableItems(final IItemList<IAEItemStack> out) {
         for (final IAEItemStack i : this.getCellItems()) {
@@ -404,18 +538,28 @@ public class CellInventory implements ICellInventory {
 
     @Override
     public IAEItemStack getAvailableItem(@Nonnull IAEItemStack request) {
-        long count = 0;
-        for (final IAEItemStack is : this.getCellItems()) {
-            if (is != null && is.getStackSize() > 0 && is.isSameType(request)) {
-                count += is.getStackSize();
-                if (count < 0) {
-                    // overflow
-                    count = Long.MAX_VALUE;
-                    break;
-                }
-            }
+        final IAEItemStack stored = this.findStored(request);
+
+        if (stored == null || stored.getStackSize() <= 0) {
+            return null;
         }
-        return count == 0 ? null : request.copy().setStackSize(count);
+
+        return request.copy().setStackSize(stored.getStackSize());
+    }
+
+    /**
+     * Looks up the stored stack of a type through the slot index, falling back to the sorted list while the slots
+     * await a full rewrite.
+     */
+    private IAEItemStack findStored(final IAEItemStack request) {
+        final IItemList<IAEItemStack> items = this.getCellItems();
+
+        if (this.needsFullSave) {
+            return items.findPrecise(request);
+        }
+
+        final Integer slot = this.slotIndex.get(request);
+        return slot == null ? null : this.slotItems.get(slot);
     }
 
     @Override
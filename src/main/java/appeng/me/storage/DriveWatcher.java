@@ -19,7 +19,7 @@ import appeng.api.storage.ICellHandler;
 import appeng.api.storage.IMEInventory;
 import appeng.api.storage.data.IAEStack;
 
-public class DriveWatcher<T extends IAEStack<T>> extends MEInventoryHandler<T> {
+public class DriveWatcher<T extends IAEStack<T>> extends MEInventoryHandler<T> implements ITrackedInventoryHandler {
 
     private final int oldStatus = 0;
     private final ItemStack is;
@@ -10,9 +10,11 @@
 
 package appeng.me.storage;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.LinkedList;
+import java.util.List;
 import java.util.Map.Entry;
 import java.util.NavigableMap;
 import java.util.concurrent.ConcurrentSkipListMap;
@@ -34,16 +36,32 @@ import appeng.api.storage.data.IAEItemStack;
 import appeng.api.storage.data.IItemList;
 import appeng.util.InventoryAdaptor;
 import appeng.util.Platform;
+import appeng.util.inv.ISlotRangeAdaptor;
 import appeng.util.inv.ItemSlot;
 
 public class MEMonitorIInventory implements IMEMonitor<IAEItemStack> {
 
+    /**
+     * Slots scanned per tick while tracking changes of an adaptor with slot ranges.
+     */
+    private static final int SCAN_SLICE = 256;
+    /**
+     * Complete sliced passes between two full rescans while tracking changes.
+     */
+    private static final int RECONCILE_PASSES = 16;
+
     private final InventoryAdaptor adaptor;
     private final IItemList<IAEItemStack> list = AEApi.instance().storage().createItemList();
     private final HashMap<IMEMonitorHandlerReceiver<IAEItemStack>, Object> listeners = new HashMap<>();
     private final NavigableMap<Integer, CachedItemStack> memory;
     private BaseActionSource mySource;
     private StorageFilter mode = StorageFilter.EXTRACTABLE_ONLY;
+    private boolean trackChanges = false;
+    // own changes that were already posted, but not seen by a scan yet; split by the pass they happened in
+    private IItemList<IAEItemStack> pendingChanges = AEApi.instance().storage().createItemList();
+    private IItemList<IAEItemStack> olderPendingChanges = AEApi.instance().storage().createItemList();
+    private int nextSlot = 0;
+    private int passes = 0;
 
     public MEMonitorIInventory(final InventoryAdaptor adaptor) {
         this.adaptor = adaptor;
@@ -71,7 +89,14 @@ public class MEMonitorIInventory implements IMEMonitor<IAEItemStack> {
         }
 
         if (type == Actionable.MODULATE) {
-            this.onTick();
+            if (this.trackChanges) {
+                final long added = input.getStackSize() - (out == null ? 0 : out.stackSize);
+                if (added > 0) {
+                    this.postOwnChange(input.copy().setStackSize(added));
+                }
+            } else {
+                this.onTick();
+            }
         }
 
         if (out == null) {
@@ -104,7 +129,11 @@ public class MEMonitorIInventory implements IMEMonitor<IAEItemStack> {
         o.setStackSize(out.stackSize);
 
         if (type == Actionable.MODULATE) {
-            this.onTick();
+            if (this.trackChanges) {
+                this.postOwnChange(o.copy().setStackSize(-o.getStackSize()));
+            } else {
+                this.onTick();
+            }
         }
 
         return o;
@@ -116,60 +145,182 @@ public class MEMonitorIInventory implements IMEMonitor<IAEItemStack> {
     }
 
     public TickRateModulation onTick() {
+        if (this.trackChanges && this.adaptor instanceof ISlotRangeAdaptor ranged
+                && (this.nextSlot > 0 || this.passes < RECONCILE_PASSES)) {
+            return this.scanSlice(ranged);
+        }
+
+        return this.scanAll() ? TickRateModulation.URGENT : TickRateModulation.SLOWER;
+    }
+
+    /**
+     * Scans every slot at once, and brings the posted contents back in line with the inventory.
+     */
+    public void rescan() {
+        this.scanAll();
+    }
 
+    private boolean scanAll() {
         final LinkedList<IAEItemStack> changes = new LinkedList<>();
 
-        this.list.resetStatus();
         int high = 0;
         boolean changed = false;
         for (final ItemSlot is : this.adaptor) {
-            final CachedItemStack old = this.memory.get(is.getSlot());
             high = Math.max(high, is.getSlot());
+            changed |= this.scanSlot(is, changes);
+        }
 
-            final ItemStack newIS = !is.isExtractable() && this.getMode() == StorageFilter.EXTRACTABLE_ONLY ? null
-                    : is.getItemStack();
-            final ItemStack oldIS = old == null ? null : old.itemStack;
+        // detect dropped items; should fix non IISided Inventory Changes.
+        changed |= this.dropSlotsAfter(high, changes);
 
-            if (this.isDifferent(newIS, oldIS)) {
-                final CachedItemStack cis = new CachedItemStack(is.getItemStack());
-                this.memory.put(is.getSlot(), cis);
+        this.list.resetStatus();
+        for (final CachedItemStack cis : this.memory.values()) {
+            if (cis.aeStack != null) {
+                this.list.add(cis.aeStack);
+            }
+        }
 
-                if (old != null && old.aeStack != null) {
-                    old.aeStack.setStackSize(-old.aeStack.getStackSize());
-                    changes.add(old.aeStack);
-                }
+        if (this.trackChanges) {
+            // the inventory is known now, own changes posted ahead of the scan are part of it or got lost
+            for (final IAEItemStack pending : this.olderPendingChanges) {
+                changes.add(pending.copy().setStackSize(-pending.getStackSize()));
+            }
+            for (final IAEItemStack pending : this.pendingChanges) {
+                changes.add(pending.copy().setStackSize(-pending.getStackSize()));
+            }
+            this.olderPendingChanges = AEApi.instance().storage().createItemList();
+            this.pendingChanges = AEApi.instance().storage().createItemList();
+            this.nextSlot = 0;
+            this.passes = 0;
+        }
 
-                if (cis.aeStack != null) {
-                    changes.add(cis.aeStack);
-                    this.list.add(cis.aeStack);
-                }
+        if (!changes.isEmpty()) {
+            this.postDifference(changes);
+        }
 
-                changed = true;
-            } else {
-                final int newSize = (newIS == null ? 0 : newIS.stackSize);
-                final int diff = newSize - (oldIS == null ? 0 : oldIS.stackSize);
-
-                final IAEItemStack stack = (old == null || old.aeStack == null
-                        ? AEApi.instance().storage().createItemStack(newIS)
-                        : old.aeStack.copy());
-                if (stack != null) {
-                    stack.setStackSize(newSize);
-                    this.list.add(stack);
-                }
+        return changed;
+    }
 
-                if (diff != 0 && stack != null) {
-                    final CachedItemStack cis = new CachedItemStack(is.getItemStack());
-                    this.memory.put(is.getSlot(), cis);
+    /**
+     * Scans the next {@link #SCAN_SLICE} slots. Changes that were already posted by our own inject or extract are
+     * netted out; what is still pending two passes later did not happen that way and is taken back.
+     */
+    private TickRateModulation scanSlice(final ISlotRangeAdaptor ranged) {
+        final LinkedList<IAEItemStack> changes = new LinkedList<>();
 
-                    final IAEItemStack a = stack.copy();
-                    a.setStackSize(diff);
-                    changes.add(a);
-                    changed = true;
-                }
+        final int slots = ranged.getSlotCount();
+        final int end = Math.min(slots, this.nextSlot + SCAN_SLICE);
+        final Iterator<ItemSlot> i = ranged.iterator(this.nextSlot, end);
+        while (i.hasNext()) {
+            this.scanSlot(i.next(), changes);
+        }
+
+        final boolean passDone = end >= slots;
+        if (passDone) {
+            this.dropSlotsAfter(slots - 1, changes);
+        }
+
+        final LinkedList<IAEItemStack> posted = new LinkedList<>();
+        for (final IAEItemStack change : changes) {
+            final long remaining = absorbPending(
+                    this.pendingChanges,
+                    change,
+                    absorbPending(this.olderPendingChanges, change, change.getStackSize()));
+            if (remaining != 0) {
+                final IAEItemStack a = change.copy().setStackSize(remaining);
+                this.list.add(a);
+                posted.add(a);
             }
         }
 
-        // detect dropped items; should fix non IISided Inventory Changes.
+        if (passDone) {
+            for (final IAEItemStack stale : this.olderPendingChanges) {
+                final IAEItemStack a = stale.copy().setStackSize(-stale.getStackSize());
+                this.list.add(a);
+                posted.add(a);
+            }
+            this.olderPendingChanges = this.pendingChanges;
+            this.pendingChanges = AEApi.instance().storage().createItemList();
+            this.nextSlot = 0;
+            this.passes++;
+        } else {
+            this.nextSlot = end;
+        }
+
+        if (!posted.isEmpty()) {
+            this.postDifference(posted);
+            return TickRateModulation.URGENT;
+        }
+
+        return passDone ? TickRateModulation.SLOWER : TickRateModulation.SAME;
+    }
+
+    private static long absorbPending(final IItemList<IAEItemStack> pending, final IAEItemStack change,
+            final long amount) {
+        final IAEItemStack p = pending.findPrecise(change);
+        if (p == null || amount == 0 || Long.signum(p.getStackSize()) != Long.signum(amount)) {
+            return amount;
+        }
+
+        final long absorbed = amount > 0 ? Math.min(amount, p.getStackSize()) : Math.max(amount, p.getStackSize());
+        p.decStackSize(absorbed);
+        return amount - absorbed;
+    }
+
+    private void postOwnChange(final IAEItemStack change) {
+        this.pendingChanges.add(change);
+        this.list.add(change);
+        this.postDifference(Collections.singletonList(change));
+    }
+
+    /**
+     * Compares a slot with its memory, and records the difference in changes.
+     */
+    private boolean scanSlot(final ItemSlot is, final List<IAEItemStack> changes) {
+        final CachedItemStack old = this.memory.get(is.getSlot());
+
+        final ItemStack newIS = !is.isExtractable() && this.getMode() == StorageFilter.EXTRACTABLE_ONLY ? null
+                : is.getItemStack();
+        final ItemStack oldIS = old == null ? null : old.itemStack;
+
+        if (this.isDifferent(newIS, oldIS)) {
+            final CachedItemStack cis = new CachedItemStack(is.getItemStack());
+            this.memory.put(is.getSlot(), cis);
+
+            if (old != null && old.aeStack != null) {
+                old.aeStack.setStackSize(-old.aeStack.getStackSize());
+                changes.add(old.aeStack);
+            }
+
+            if (cis.aeStack != null) {
+                changes.add(cis.aeStack);
+            }
+
+            return true;
+        }
+
+        final int newSize = (newIS == null ? 0 : newIS.stackSize);
+        final int diff = newSize - (oldIS == null ? 0 : oldIS.stackSize);
+
+        if (diff != 0) {
+            final IAEItemStack stack = (old == null || old.aeStack == null
+                    ? AEApi.instance().storage().createItemStack(newIS)
+                    : old.aeStack.copy());
+            if (stack != null) {
+                final CachedItemStack cis = new CachedItemStack(is.getItemStack());
+                this.memory.put(is.getSlot(), cis);
+
+                stack.setStackSize(diff);
+                changes.add(stack);
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private boolean dropSlotsAfter(final int high, final List<IAEItemStack> changes) {
+        boolean changed = false;
         final NavigableMap<Integer, CachedItemStack> end = this.memory.tailMap(high, false);
         if (!end.isEmpty()) {
             for (final CachedItemStack cis : end.values()) {
@@ -182,12 +333,7 @@ public class MEMonitorIInventory implements IMEMonitor<IAEItemStack> {
             }
             end.clear();
         }
-
-        if (!changes.isEmpty()) {
-            this.postDifference(changes);
-        }
-
-        return changed ? TickRateModulation.URGENT : TickRateModulation.SLOWER;
+        return changed;
     }
 
     private boolean isDifferent(final ItemStack a, final ItemStack b) {
@@ -251,6 +397,16 @@ public class MEMonitorIInventory implements IMEMonitor<IAEItemStack> {
 
     @Override
     public IItemList<IAEItemStack> getAvailableItems(final IItemList out) {
+        if (this.trackChanges) {
+            // the list includes own changes not scanned yet
+            for (final IAEItemStack is : this.list) {
+                if (is.getStackSize() > 0) {
+                    out.addStorage(is);
+                }
+            }
+            return out;
+        }
+
         for (final CachedItemStack is : this.memory.values()) {
             out.addStorage(is.aeStack);
         }
@@ -260,6 +416,11 @@ public class MEMonitorIInventory implements IMEMonitor<IAEItemStack> {
 
     @Override
     public IAEItemStack getAvailableItem(@Nonnull IAEItemStack request) {
+        if (this.trackChanges) {
+            final IAEItemStack is = this.list.findPrecise(request);
+            return is == null || is.getStackSize() <= 0 ? null : request.copy().setStackSize(is.getStackSize());
+        }
+
         long count = 0;
         for (final CachedItemStack is : this.memory.values()) {
             if (is != null && is.aeStack != null && is.aeStack.getStackSize() > 0 && is.aeStack.isSameType(request)) {
@@ -287,6 +448,14 @@ public class MEMonitorIInventory implements IMEMonitor<IAEItemStack> {
         this.mode = mode;
     }
 
+    /**
+     * With change tracking, own inject and extract post their change right away instead of rescanning the inventory.
+     * Only use it when {@link #onTick()} is called regularly, as changes from the outside are found by it alone.
+     */
+    public void setTrackChanges(final boolean trackChanges) {
+        this.trackChanges = trackChanges;
+    }
+
     private BaseActionSource getActionSource() {
         return this.mySource;
     }
@@ -10,9 +10,12 @@
 
 package appeng.me.storage;
 
+import java.util.BitSet;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 
 import javax.annotation.Nonnull;
 
@@ -29,6 +32,7 @@ import appeng.api.storage.IMEInventoryHandler;
 import appeng.api.storage.StorageChannel;
 import appeng.api.storage.data.IAEStack;
 import appeng.api.storage.data.IItemList;
+import appeng.core.AEConfig;
 import appeng.me.cache.SecurityCache;
 import appeng.util.SortedArrayList;
 
@@ -64,12 +68,38 @@ public class NetworkInventoryHandler<T extends IAEStack<T>> implements IMEInvent
         boolean o1ValidFor2 = o1.validForPass(2);
         return Boolean.compare(o2ValidFor2, o1ValidFor2);
     };
+    private static final int MAX_HOLDERS = 4096;
+    private static final int MAX_ROUTES = 4096;
     private static int currentPass = 0;
     private final StorageChannel myChannel;
     private final SecurityCache security;
     private final List<IMEInventoryHandler<T>> priorityInventory;
+    /**
+     * Index of the {@link ITrackedInventoryHandler}s holding an item, by position in {@link #priorityInventory}. An
+     * item without an entry has not been looked up yet, or was dropped once the index grew too large, and is resolved
+     * by a full scan of the tracked handlers.
+     */
+    private final Map<T, BitSet> holderIndex = new HashMap<>();
+    private final BitSet trackedHandlers = new BitSet();
+    private final BitSet untrackedHandlers = new BitSet();
+    private boolean indexValid = false;
+    /**
+     * Routing answers of the tracked handlers for each item injected so far. Partition, priority and access changes
+     * replace this handler through a cell array update, so the answers hold for as long as it lives.
+     */
+    private final Map<T, Route> routes = new HashMap<>();
     private int myPass = 0;
 
+    /**
+     * What the tracked handlers answered to {@link IMEInventoryHandler#canAccept} and
+     * {@link IMEInventoryHandler#isPrioritized} for one item, by position in {@link #priorityInventory}.
+     */
+    private static final class Route {
+
+        private final BitSet accepting = new BitSet();
+        private final BitSet prioritized = new BitSet();
+    }
+
     public NetworkInventoryHandler(final StorageChannel chan, final SecurityCache security) {
         this.myChannel = chan;
         this.security = security;
@@ -78,6 +108,149 @@ public class NetworkInventoryHandler<T extends IAEStack<T>> implements IMEInvent
 
     public void addNewStorage(final IMEInventoryHandler<T> h) {
         this.priorityInventory.add(h);
+        this.indexValid = false;
+    }
+
+    /**
+     * Forgets which handlers hold the given item, the next lookup will scan all tracked handlers again. Used for
+     * changes that did not pass through this handler.
+     */
+    public void invalidateHolders(final T stack) {
+        this.holderIndex.remove(stack);
+    }
+
+    private void updateIndex() {
+        if (this.indexValid) {
+            return;
+        }
+
+        this.holderIndex.clear();
+        this.routes.clear();
+        this.trackedHandlers.clear();
+        this.untrackedHandlers.clear();
+
+        final List<IMEInventoryHandler<T>> priorityInventory = this.priorityInventory;
+        final int size = priorityInventory.size();
+        for (int i = 0; i < size; i++) {
+            if (priorityInventory.get(i) instanceof ITrackedInventoryHandler) {
+                this.trackedHandlers.set(i);
+            } else {
+                this.untrackedHandlers.set(i);
+            }
+        }
+
+        this.indexValid = true;
+    }
+
+    private BitSet getHolders(final T request) {
+        this.updateIndex();
+
+        BitSet holders = this.holderIndex.get(request);
+        if (holders == null) {
+            if (this.holderIndex.size() >= MAX_HOLDERS) {
+                this.holderIndex.clear();
+            }
+
+            holders = new BitSet();
+
+            final List<IMEInventoryHandler<T>> priorityInventory = this.priorityInventory;
+            final BitSet tracked = this.trackedHandlers;
+            for (int i = tracked.nextSetBit(0); i >= 0; i = tracked.nextSetBit(i + 1)) {
+                final T stack = priorityInventory.get(i).getAvailableItem(request);
+                if (stack != null && stack.getStackSize() > 0) {
+                    holders.set(i);
+                }
+            }
+
+            this.holderIndex.put(request.copy(), holders);
+        }
+
+        return holders;
+    }
+
+    /**
+     * @return the cached routing answers for the item, or null when the cache is disabled.
+     */
+    private Route getRoute(final T input) {
+        if (!AEConfig.instance.injectionRoutingCache) {
+            return null;
+        }
+
+        this.updateIndex();
+
+        Route route = this.routes.get(input);
+        if (route == null) {
+            if (this.routes.size() >= MAX_ROUTES) {
+                this.routes.clear();
+            }
+
+            route = new Route();
+
+            final List<IMEInventoryHandler<T>> priorityInventory = this.priorityInventory;
+            final BitSet tracked = this.trackedHandlers;
+            for (int i = tracked.nextSetBit(0); i >= 0; i = tracked.nextSetBit(i + 1)) {
+                final IMEInventoryHandler<T> inv = priorityInventory.get(i);
+                if (inv.canAccept(input)) {
+                    route.accepting.set(i);
+                    if (inv.isPrioritized(input)) {
+                        route.prioritized.set(i);
+                    }
+                }
+            }
+
+            this.routes.put(input.copy(), route);
+        }
+
+        return route;
+    }
+
+    private boolean canAccept(final Route route, final int i, final IMEInventoryHandler<T> inv, final T input) {
+        if (route == null || !this.trackedHandlers.get(i)) {
+            return inv.canAccept(input);
+        }
+        return route.accepting.get(i);
+    }
+
+    private boolean isPrioritized(final Route route, final int i, final IMEInventoryHandler<T> inv, final T input) {
+        if (route == null || !this.trackedHandlers.get(i)) {
+            return inv.isPrioritized(input);
+        }
+        return route.prioritized.get(i);
+    }
+
+    /**
+     * @return the next handler at or after the given position which either holds the item or is not tracked, or -1.
+     */
+    private int nextCandidate(final BitSet holders, final int from) {
+        final int held = holders.nextSetBit(from);
+        final int untracked = this.untrackedHandlers.nextSetBit(from);
+
+        if (held < 0) {
+            return untracked;
+        }
+
+        if (untracked < 0) {
+            return held;
+        }
+
+        return Math.min(held, untracked);
+    }
+
+    private T injectInto(final int i, final IMEInventoryHandler<T> inv, final T input, final Actionable type,
+            final BaseActionSource src) {
+        final long size = input.getStackSize();
+        final T leftover = inv.injectItems(input, type, src);
+
+        if (type == Actionable.MODULATE && (leftover == null || leftover.getStackSize() < size)
+                && this.indexValid
+                && this.trackedHandlers.get(i)) {
+            final BitSet holders = this.holderIndex.get(input);
+            if (holders != null) {
+                holders.set(i);
+            }
+        }
+
+        return leftover;
     }
 
     @Override
@@ -93,6 +266,7 @@ public class NetworkInventoryHandler<T extends IAEStack<T>> implements IMEInvent
 
         final List<IMEInventoryHandler<T>> priorityInventory = this.priorityInventory;
         final int size = priorityInventory.size();
+        final Route route = input == null ? null : this.getRoute(input);
 
         int i = 0;
         boolean stickyInventoryFound = false;
@@ -101,9 +275,9 @@ public class NetworkInventoryHandler<T extends IAEStack<T>> implements IMEInvent
             final IMEInventoryHandler<T> inv = priorityInventory.get(i);
             if (!inv.getSticky()) break;
 
-            if (inv.canAccept(input)
-                    && (inv.isPrioritized(input) || inv.extractItems(input, Actionable.SIMULATE, src) != null)) {
-                input = inv.injectItems(input, type, src);
+            if (this.canAccept(route, i, inv, input) && (this.isPrioritized(route, i, inv, input)
+                    || inv.extractItems(input, Actionable.SIMULATE, src) != null)) {
+                input = this.injectInto(i, inv, input, type, src);
                 stickyInventoryFound = true;
             }
         }
@@ -124,9 +298,10 @@ public class NetworkInventoryHandler<T extends IAEStack<T>> implements IMEInvent
                 boolean canAcceptInput = true;
 
                 final boolean validForPass1 = inv.validForPass(1);
-                if (validForPass1 && (canAcceptInput = inv.canAccept(input))
-                        && (inv.isPrioritized(input) || inv.extractItems(input, Actionable.SIMULATE, src) != null)) {
-                    input = inv.injectItems(input, type, src);
+                if (validForPass1 && (canAcceptInput = this.canAccept(route, i, inv, input))
+                        && (this.isPrioritized(route, i, inv, input)
+                                || inv.extractItems(input, Actionable.SIMULATE, src) != null)) {
+                    input = this.injectInto(i, inv, input, type, src);
                     if (input == null) break outer;
                 }
 
@@ -162,8 +337,8 @@ public class NetworkInventoryHandler<T extends IAEStack<T>> implements IMEInvent
                 inv = priorityInventory.get(i);
                 lastPriority = inv.getPriority();
                 while (true) {
-                    if (inv.canAccept(input) && !inv.isPrioritized(input)) {
-                        input = inv.injectItems(input, type, src);
+                    if (this.canAccept(route, i, inv, input) && !this.isPrioritized(route, i, inv, input)) {
+                        input = this.injectInto(i, inv, input, type, src);
                         if (input == null) break outer;
                     }
 
@@ -263,12 +438,19 @@ public class NetworkInventoryHandler<T extends IAEStack<T>> implements IMEInvent
         final long req = request.getStackSize();
 
         final List<IMEInventoryHandler<T>> priorityInventory = this.priorityInventory;
-        final int size = priorityInventory.size();
-        for (int i = 0; i < size && output.getStackSize() < req; i++) {
+        final BitSet holders = this.getHolders(request);
+        int i = this.nextCandidate(holders, 0);
+        while (i >= 0 && output.getStackSize() < req) {
             final IMEInventoryHandler<T> inv = priorityInventory.get(i);
 
             request.setStackSize(req - output.getStackSize());
-            output.add(inv.extractItems(request, mode, src));
+            final T extracted = inv.extractItems(request, mode, src);
+            if (extracted == null) {
+                holders.clear(i);
+            }
+
+            output.add(extracted);
+            i = this.nextCandidate(holders, i + 1);
         }
 
         this.surface(this, mode);
@@ -306,11 +488,13 @@ public class NetworkInventoryHandler<T extends IAEStack<T>> implements IMEInvent
         }
 
         final List<IMEInventoryHandler<T>> priorityInventory = this.priorityInventory;
-        final int size = priorityInventory.size();
-        for (int i = 0; i < size; i++) {
+        final BitSet holders = this.getHolders(request);
+        for (int i = this.nextCandidate(holders, 0); i >= 0; i = this.nextCandidate(holders, i + 1)) {
             IMEInventoryHandler<T> j = priorityInventory.get(i);
             final T stack = j.getAvailableItem(request);
-            if (stack != null && stack.getStackSize() > 0) {
+            if (stack == null || stack.getStackSize() <= 0) {
+                holders.clear(i);
+            } else {
                 count += stack.getStackSize();
                 if (count < 0) {
                     // overflow
@@ -42,6 +42,7 @@ import appeng.api.parts.IPartCollisionHelper;
 import appeng.api.parts.IPartDeprecated;
 import appeng.api.parts.IPartHost;
 import appeng.api.parts.IPartItem;
+import appeng.api.parts.ISimplifiedBundle;
 import appeng.api.parts.LayerFlags;
 import appeng.api.parts.PartItemStack;
 import appeng.api.parts.SelectedPart;
@@ -69,6 +70,8 @@ public class CableBusContainer extends CableBusStorage implements AEMultiTile, I
     private IPartHost tcb;
     private boolean requiresDynamicRender = false;
     private boolean inWorld = false;
+    private int renderRevision = 0;
+    private ISimplifiedBundle renderCache = null;
 
     public CableBusContainer(final IPartHost host) {
         this.tcb = host;
@@ -763,6 +766,7 @@ public class CableBusContainer extends CableBusStorage implements AEMultiTile, I
     }
 
     public boolean readFromStream(final ByteBuf data) throws IOException {
+        this.renderRevision++;
         final byte sides = data.readByte();
 
         boolean updateBlock = false;
@@ -840,6 +844,7 @@ public class CableBusContainer extends CableBusStorage implements AEMultiTile, I
     }
 
     public void readFromNBT(final NBTTagCompound data) {
+        this.renderRevision++;
         if (data.hasKey("hasRedstone")) {
             this.hasRedstone = YesNo.values()[data.getInteger("hasRedstone")];
         }
@@ -937,4 +942,19 @@ public class CableBusContainer extends CableBusStorage implements AEMultiTile, I
     private void setRequiresDynamicRender(final boolean requiresDynamicRender) {
         this.requiresDynamicRender = requiresDynamicRender;
     }
+
+    /**
+     * Changes whenever the parts or facades of this bus may have been changed by the server.
+     */
+    public int getRenderRevision() {
+        return this.renderRevision;
+    }
+
+    public ISimplifiedBundle getRenderCache() {
+        return this.renderCache;
+    }
+
+    public void setRenderCache(final ISimplifiedBundle renderCache) {
+        this.renderCache = renderCache;
+    }
 }
@@ -18,6 +18,7 @@ import net.minecraft.util.Vec3;
 
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Iterables;
 
 import appeng.api.config.Actionable;
 import appeng.api.config.FuzzyMode;
@@ -48,6 +49,7 @@ import appeng.core.sync.GuiBridge;
 import appeng.helpers.MultiCraftingTracker;
 import appeng.helpers.Reflected;
 import appeng.me.GridAccessException;
+import appeng.me.cache.NetworkMonitor;
 import appeng.util.InventoryAdaptor;
 import appeng.util.Platform;
 import appeng.util.item.AEItemStack;
@@ -159,12 +161,19 @@ public class PartExportBus extends PartSharedItemBus implements ICraftingRequest
 
                     this.updateSchedulingMode(schedulingMode, x);
                 } else if (!oreFilterString.isEmpty()) {
-                    if (filterPredicate == null) filterPredicate = OreFilteredList.makeFilter(oreFilterString);
-
-                    for (IAEItemStack stack : inv.getStorageList()) {
-                        if (stack == null || filterPredicate == null || !this.filterPredicate.test(stack)) continue;
-                        this.pushItemIntoTarget(destination, energy, inv, stack);
-                        if (this.itemToSend <= 0) break;
+                    // shared by every bus with this filter, and so is its index of matching stacks in the network;
+                    // looked up each tick so ore dictionary changes reach the bus, invalid expressions are remembered
+                    filterPredicate = OreFilteredList.makeFilter(oreFilterString);
+
+                    if (filterPredicate != null) {
+                        final Iterable<IAEItemStack> matching = inv instanceof NetworkMonitor<IAEItemStack> monitor
+                                ? monitor.getMatchingStacks(filterPredicate)
+                                : Iterables.filter(inv.getStorageList(), filterPredicate::test);
+                        for (IAEItemStack stack : matching) {
+                            if (stack == null) continue;
+                            this.pushItemIntoTarget(destination, energy, inv, stack);
+                            if (this.itemToSend <= 0) break;
+                        }
                     }
                 }
             } else {
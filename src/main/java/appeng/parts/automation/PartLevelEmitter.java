@@ -70,6 +70,7 @@ import appeng.core.AELog;
 import appeng.core.sync.GuiBridge;
 import appeng.helpers.Reflected;
 import appeng.me.GridAccessException;
+import appeng.me.cache.NetworkMonitor;
 import appeng.tile.inventory.AppEngInternalAEInventory;
 import appeng.tile.inventory.InvOperation;
 import appeng.util.Platform;
@@ -268,16 +269,24 @@ public class PartLevelEmitter extends PartUpgradeable implements IEnergyWatcherH
         final IAEItemStack myStack = this.config.getAEStackInSlot(0);
 
         if (myStack == null) {
-            this.lastReportedValue = 0;
-            for (final IAEItemStack st : monitor.getStorageList()) {
-                this.lastReportedValue += st.getStackSize();
+            if (monitor instanceof NetworkMonitor<IAEItemStack> networkMonitor) {
+                this.lastReportedValue = networkMonitor.getStoredCount();
+            } else {
+                this.lastReportedValue = 0;
+                for (final IAEItemStack st : monitor.getStorageList()) {
+                    this.lastReportedValue += st.getStackSize();
+                }
             }
         } else if (this.getInstalledUpgrades(Upgrades.FUZZY) > 0) {
-            this.lastReportedValue = 0;
             final FuzzyMode fzMode = (FuzzyMode) this.getConfigManager().getSetting(Settings.FUZZY_MODE);
-            final Collection<IAEItemStack> fuzzyList = monitor.getStorageList().findFuzzy(myStack, fzMode);
-            for (final IAEItemStack st : fuzzyList) {
-                this.lastReportedValue += st.getStackSize();
+            if (monitor instanceof NetworkMonitor<IAEItemStack> networkMonitor) {
+                this.lastReportedValue = networkMonitor.getFuzzyStoredCount(myStack, fzMode);
+            } else {
+                this.lastReportedValue = 0;
+                final Collection<IAEItemStack> fuzzyList = monitor.getStorageList().findFuzzy(myStack, fzMode);
+                for (final IAEItemStack st : fuzzyList) {
+                    this.lastReportedValue += st.getStackSize();
+                }
             }
         } else {
             final IAEItemStack r = monitor.getStorageList().findPrecise(myStack);
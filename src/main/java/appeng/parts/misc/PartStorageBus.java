@@ -362,7 +362,7 @@ public class PartStorageBus extends PartUpgradeable implements IGridTickable, IC
         final IMEInventory<IAEItemStack> out = this.getInternalHandler();
 
         if (this.monitor != null) {
-            this.monitor.onTick();
+            this.monitor.rescan();
         }
 
         IItemList<IAEItemStack> after = AEApi.instance().storage().createItemList();
@@ -406,6 +406,7 @@ public class PartStorageBus extends PartUpgradeable implements IGridTickable, IC
                 if (inv instanceof MEMonitorIInventory h) {
                     h.setMode((StorageFilter) this.getConfigManager().getSetting(Settings.STORAGE_FILTER));
                     h.setActionSource(new MachineSource(this));
+                    h.setTrackChanges(true);
                 }
 
                 if (inv instanceof MEMonitorIInventory) {
@@ -19,6 +19,8 @@ import net.minecraftforge.oredict.OreDictionary;
 
 import appeng.core.AELog;
 import appeng.recipes.game.IRecipeBakeable;
+import appeng.util.RecipeIndex;
+import appeng.util.prioitylist.OreFilteredList;
 import cpw.mods.fml.common.eventhandler.SubscribeEvent;
 
 public class OreDictionaryHandler {
@@ -35,6 +37,10 @@ public class OreDictionaryHandler {
             return;
         }
 
+        // ore recipes and ore filters accept the new ore now
+        RecipeIndex.invalidate();
+        OreFilteredList.onOreDictionaryChange();
+
         if (this.shouldCare(event.Name)) {
             for (final IOreListener v : this.oreListeners) {
                 v.oreRegistered(event.Name, event.Ore);
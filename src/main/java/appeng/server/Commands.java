@@ -12,6 +12,7 @@ package appeng.server;
 
 import appeng.server.subcommands.ChunkLogger;
 import appeng.server.subcommands.Profile;
+import appeng.server.subcommands.SharedNBTStats;
 import appeng.server.subcommands.Supporters;
 import appeng.server.subcommands.ToggleDebugPathfinding;
 import appeng.server.subcommands.ToggleDebugTiming;
@@ -22,6 +23,7 @@ public enum Commands {
     Chunklogger(4, new ChunkLogger()),
     Supporters(0, new Supporters()),
     profile(2, new Profile()),
+    sharedNBT(2, new SharedNBTStats()),
     toggleFullAccess(2, new ToggleFullAccess()),
     toggleDebugPaths(2, new ToggleDebugPathfinding()),
     toggleDebugTiming(2, new ToggleDebugTiming());
@@ -1,5 +1,9 @@
 package appeng.server.subcommands;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
 import net.minecraft.command.ICommandSender;
 import net.minecraft.server.MinecraftServer;
 import net.minecraft.tileentity.TileEntity;
@@ -9,6 +13,7 @@ import net.minecraft.world.WorldServer;
 import net.minecraftforge.common.util.ForgeDirection;
 
 import appeng.api.networking.IGridHost;
+import appeng.api.networking.events.MENetworkEvent;
 import appeng.me.Grid;
 import appeng.server.ISubCommand;
 
@@ -50,9 +55,22 @@ public class Profile implements ISubCommand {
                 sender.addChatMessage(new ChatComponentTranslation("commands.ae2.ProfilerStart"));
                 grid.startProfiling();
             } else {
+                final List<Map.Entry<Class<? extends MENetworkEvent>, long[]>> events = new ArrayList<>(
+                        grid.getEventStatistics().entrySet());
+                events.sort((a, b) -> Long.compare(b.getValue()[1], a.getValue()[1]));
+
                 IChatComponent message = new ChatComponentTranslation("commands.ae2.ProfilerStop");
                 message.appendText(String.format(" %d", grid.stopProfiling()));
                 sender.addChatMessage(message);
+                for (Map.Entry<Class<? extends MENetworkEvent>, long[]> event : events) {
+                    final long[] stats = event.getValue();
+                    sender.addChatMessage(
+                            new ChatComponentTranslation(
+                                    "commands.ae2.ProfilerEvent",
+                                    event.getKey().getSimpleName(),
+                                    stats[0],
+                                    stats[1] / stats[0]));
+                }
             }
         } catch (NumberFormatException ex) {
             sender.addChatMessage(new ChatComponentTranslation("commands.ae2.ProfilerFailed"));
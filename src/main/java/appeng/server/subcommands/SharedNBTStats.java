@@ -0,0 +1,29 @@
+package appeng.server.subcommands;
+
+import net.minecraft.command.ICommandSender;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.util.ChatComponentTranslation;
+
+import appeng.server.ISubCommand;
+import appeng.util.item.AESharedNBT;
+
+public class SharedNBTStats implements ISubCommand {
+
+    @Override
+    public String getHelp(MinecraftServer srv) {
+        return "commands.ae2.SharedNBTStats";
+    }
+
+    @Override
+    public void call(MinecraftServer srv, String[] args, ICommandSender sender) {
+        final long hits = AESharedNBT.sharedTagHits();
+        final long lookups = hits + AESharedNBT.sharedTagMisses();
+        sender.addChatMessage(
+                new ChatComponentTranslation(
+                        "commands.ae2.SharedNBTStatsResult",
+                        AESharedNBT.sharedTagLoad(),
+                        lookups,
+                        String.format("%.1f", lookups == 0 ? 0.0 : 100.0 * hits / lookups),
+                        AESharedNBT.sharedTagCleanups()));
+    }
+}
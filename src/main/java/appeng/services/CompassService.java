@@ -32,6 +32,7 @@ import appeng.api.AEApi;
 import appeng.api.util.DimensionalCoord;
 import appeng.services.compass.CompassReader;
 import appeng.services.compass.ICompassCallback;
+import appeng.services.compass.MeteoriteIndex;
 import appeng.util.Platform;
 import cpw.mods.fml.common.eventhandler.SubscribeEvent;
 
@@ -40,6 +41,10 @@ public final class CompassService {
     private static final int CHUNK_SIZE = 16;
 
     private final Map<World, CompassReader> worldSet = new HashMap<>(10);
+    /**
+     * Sky stone of each dimension, only used on the executor thread.
+     */
+    private final Map<Integer, MeteoriteIndex> indexes = new HashMap<>();
     private final ExecutorService executor;
 
     /**
@@ -86,19 +91,12 @@ public final class CompassService {
         }
     }
 
-    public void updateArea(final World w, final int chunkX, final int chunkZ) {
-        final int x = chunkX << 4;
-        final int z = chunkZ << 4;
-
-        this.updateArea(w, x, CHUNK_SIZE, z);
-        this.updateArea(w, x, CHUNK_SIZE + 32, z);
-        this.updateArea(w, x, CHUNK_SIZE + 64, z);
-        this.updateArea(w, x, CHUNK_SIZE + 96, z);
-
-        this.updateArea(w, x, CHUNK_SIZE + 128, z);
-        this.updateArea(w, x, CHUNK_SIZE + 160, z);
-        this.updateArea(w, x, CHUNK_SIZE + 192, z);
-        this.updateArea(w, x, CHUNK_SIZE + 224, z);
+    /**
+     * Records natural sky stone at a position without looking at the blocks around it.
+     */
+    public Future<?> markBeacon(final World w, final int x, final int y, final int z) {
+        this.jobSize++;
+        return this.executor.submit(new CMUpdatePost(w, x >> 4, z >> 4, y >> 5, true));
     }
 
     public Future<?> updateArea(final World w, final int x, final int y, final int z) {
@@ -142,6 +140,7 @@ public final class CompassService {
             }
 
             this.worldSet.clear();
+            this.indexes.clear();
         } catch (final InterruptedException e) {
             // wrap this up..
         }
@@ -158,6 +157,19 @@ public final class CompassService {
         return cr;
     }
 
+    private MeteoriteIndex getIndex(final World w) {
+        final int dimension = w.provider.dimensionId;
+        MeteoriteIndex index = this.indexes.get(dimension);
+
+        if (index == null) {
+            index = new MeteoriteIndex();
+            this.getReader(w).loadIndex(index);
+            this.indexes.put(dimension, index);
+        }
+
+        return index;
+    }
+
     private int dist(final int ax, final int az, final int bx, final int bz) {
         final int up = (bz - az) * CHUNK_SIZE;
         final int side = (bx - ax) * CHUNK_SIZE;
@@ -193,8 +205,12 @@ public final class CompassService {
         public void run() {
             CompassService.this.jobSize--;
 
-            final CompassReader cr = CompassService.this.getReader(this.world);
-            cr.setHasBeacon(this.chunkX, this.chunkZ, this.doubleChunkY, this.value);
+            final MeteoriteIndex index = CompassService.this.getIndex(this.world);
+            if (index.hasBeacon(this.chunkX, this.chunkZ, this.doubleChunkY) != this.value) {
+                final CompassReader cr = CompassService.this.getReader(this.world);
+                cr.setHasBeacon(this.chunkX, this.chunkZ, this.doubleChunkY, this.value);
+                index.setHasBeacon(this.chunkX, this.chunkZ, this.doubleChunkY, this.value);
+            }
 
             if (CompassService.this.jobSize() < 2) {
                 CompassService.this.cleanUp();
@@ -221,10 +237,10 @@ public final class CompassService {
             final int cx = this.coord.x >> 4;
             final int cz = this.coord.z >> 4;
 
-            final CompassReader cr = CompassService.this.getReader(this.coord.getWorld());
+            final MeteoriteIndex index = CompassService.this.getIndex(this.coord.getWorld());
 
             // Am I standing on it?
-            if (cr.hasBeacon(cx, cz)) {
+            if (index.hasBeacon(cx, cz)) {
                 this.callback.calculatedDirection(true, true, -999, 0);
 
                 if (CompassService.this.jobSize() < 2) {
@@ -234,70 +250,21 @@ public final class CompassService {
                 return;
             }
 
-            // spiral outward...
-            for (int offset = 1; offset < this.maxRange; offset++) {
-                final int minX = cx - offset;
-                final int minZ = cz - offset;
-                final int maxX = cx + offset;
-                final int maxZ = cz + offset;
-
-                int closest = Integer.MAX_VALUE;
-                int chosen_x = cx;
-                int chosen_z = cz;
-
-                for (int z = minZ; z <= maxZ; z++) {
-                    if (cr.hasBeacon(minX, z)) {
-                        final int closeness = CompassService.this.dist(cx, cz, minX, z);
-                        if (closeness < closest) {
-                            closest = closeness;
-                            chosen_x = minX;
-                            chosen_z = z;
-                        }
-                    }
+            final long nearest = index.findNearest(cx, cz, this.maxRange);
+            if (nearest != MeteoriteIndex.NONE) {
+                final int chosen_x = MeteoriteIndex.unpackX(nearest);
+                final int chosen_z = MeteoriteIndex.unpackZ(nearest);
+                this.callback.calculatedDirection(
+                        true,
+                        false,
+                        CompassService.this.rad(cx, cz, chosen_x, chosen_z),
+                        CompassService.this.dist(cx, cz, chosen_x, chosen_z));
 
-                    if (cr.hasBeacon(maxX, z)) {
-                        final int closeness = CompassService.this.dist(cx, cz, maxX, z);
-                        if (closeness < closest) {
-                            closest = closeness;
-                            chosen_x = maxX;
-                            chosen_z = z;
-                        }
-                    }
-                }
-
-                for (int x = minX + 1; x < maxX; x++) {
-                    if (cr.hasBeacon(x, minZ)) {
-                        final int closeness = CompassService.this.dist(cx, cz, x, minZ);
-                        if (closeness < closest) {
-                            closest = closeness;
-                            chosen_x = x;
-                            chosen_z = minZ;
-                        }
-                    }
-
-                    if (cr.hasBeacon(x, maxZ)) {
-                        final int closeness = CompassService.this.dist(cx, cz, x, maxZ);
-                        if (closeness < closest) {
-                            closest = closeness;
-                            chosen_x = x;
-                            chosen_z = maxZ;
-                        }
-                    }
+                if (CompassService.this.jobSize() < 2) {
+                    CompassService.this.cleanUp();
                 }
 
-                if (closest < Integer.MAX_VALUE) {
-                    this.callback.calculatedDirection(
-                            true,
-                            false,
-                            CompassService.this.rad(cx, cz, chosen_x, chosen_z),
-                            CompassService.this.dist(cx, cz, chosen_x, chosen_z));
-
-                    if (CompassService.this.jobSize() < 2) {
-                        CompassService.this.cleanUp();
-                    }
-
-                    return;
-                }
+                return;
             }
 
             // didn't find shit...
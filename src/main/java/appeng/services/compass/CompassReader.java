@@ -11,6 +11,8 @@
 package appeng.services.compass;
 
 import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -18,6 +20,8 @@ import javax.annotation.Nonnull;
 
 import com.google.common.base.Preconditions;
 
+import appeng.core.AELog;
+
 public final class CompassReader {
 
     private final Map<Long, CompassRegion> regions = new HashMap<>(100);
@@ -46,6 +50,39 @@ public final class CompassReader {
         r.setHasBeacon(cx, cz, cdy, hasBeacon);
     }
 
+    /**
+     * Adds every chunk with sky stone from the region files of this dimension to an index, so worlds from before the
+     * index are searched the same way.
+     */
+    public void loadIndex(final MeteoriteIndex index) {
+        final String prefix = this.dimensionId + "_";
+        final File[] files = this.worldCompassFolder.listFiles();
+        if (files == null) {
+            return;
+        }
+
+        for (final File file : files) {
+            final String name = file.getName();
+            if (!name.startsWith(prefix) || !name.endsWith(".dat")) {
+                continue;
+            }
+
+            final String[] coords = name.substring(prefix.length(), name.length() - ".dat".length()).split("_");
+            try {
+                final int lowX = Integer.parseInt(coords[0]);
+                final int lowZ = Integer.parseInt(coords[1]);
+                final byte[] data = Files.readAllBytes(file.toPath());
+                for (int i = 0; i < data.length; i++) {
+                    if (data[i] != 0) {
+                        index.setBands(lowX + (i & 0x3FF), lowZ + (i >> 10), data[i] & 0xFF, true);
+                    }
+                }
+            } catch (final NumberFormatException | ArrayIndexOutOfBoundsException | IOException e) {
+                AELog.warn(e, "Skipping compass region " + name);
+            }
+        }
+    }
+
     public boolean hasBeacon(final int cx, final int cz) {
         final CompassRegion r = this.getRegion(cx, cz);
 
@@ -0,0 +1,148 @@
+/*
+ * This file is part of Applied Energistics 2. Copyright (c) 2013 - 2015, AlgorithmX2, All rights reserved. Applied
+ * Energistics 2 is free software: you can redistribute it and/or modify it under the terms of the GNU Lesser General
+ * Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any
+ * later version. Applied Energistics 2 is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General
+ * Public License for more details. You should have received a copy of the GNU Lesser General Public License along with
+ * Applied Energistics 2. If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+
+package appeng.services.compass;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Chunks of one dimension that hold natural sky stone, bucketed into cells of 32 by 32 chunks so the nearest one can be
+ * found without looking at every chunk around the compass.
+ * <p>
+ * Not thread safe, the compass service only touches it from its own thread.
+ */
+public final class MeteoriteIndex {
+
+    /**
+     * Returned by {@link #findNearest(int, int, int)} when there is no sky stone in range.
+     */
+    public static final long NONE = Long.MAX_VALUE;
+
+    private static final int CELL_SHIFT = 5;
+    private static final int CELL_SIZE = 1 << CELL_SHIFT;
+
+    /**
+     * Cell key to the chunks of that cell that hold sky stone, chunk key to a bit per 32 block high band.
+     */
+    private final Map<Long, Map<Long, Integer>> cells = new HashMap<>();
+    private int chunks = 0;
+
+    public static long pack(final int x, final int z) {
+        return ((long) x << 32) | (z & 0xFFFFFFFFL);
+    }
+
+    public static int unpackX(final long packed) {
+        return (int) (packed >> 32);
+    }
+
+    public static int unpackZ(final long packed) {
+        return (int) packed;
+    }
+
+    public boolean hasBeacon(final int cx, final int cz) {
+        final Map<Long, Integer> cell = this.cells.get(pack(cx >> CELL_SHIFT, cz >> CELL_SHIFT));
+        return cell != null && cell.containsKey(pack(cx, cz));
+    }
+
+    public boolean hasBeacon(final int cx, final int cz, final int cdy) {
+        final Map<Long, Integer> cell = this.cells.get(pack(cx >> CELL_SHIFT, cz >> CELL_SHIFT));
+        return cell != null && (getBands(cell, pack(cx, cz)) & (1 << cdy)) != 0;
+    }
+
+    public void setHasBeacon(final int cx, final int cz, final int cdy, final boolean hasBeacon) {
+        this.setBands(cx, cz, 1 << cdy, hasBeacon);
+    }
+
+    /**
+     * Sets or clears several bands of a chunk at once, as stored in a compass region.
+     */
+    public void setBands(final int cx, final int cz, final int bands, final boolean hasBeacon) {
+        final long cellKey = pack(cx >> CELL_SHIFT, cz >> CELL_SHIFT);
+        final long chunkKey = pack(cx, cz);
+        Map<Long, Integer> cell = this.cells.get(cellKey);
+
+        if (hasBeacon) {
+            if (cell == null) {
+                cell = new HashMap<>();
+                this.cells.put(cellKey, cell);
+            }
+            final Integer old = cell.put(chunkKey, getBands(cell, chunkKey) | bands);
+            if (old == null) {
+                this.chunks++;
+            }
+        } else if (cell != null) {
+            final int remaining = getBands(cell, chunkKey) & ~bands;
+            if (remaining != 0) {
+                cell.put(chunkKey, remaining);
+            } else if (cell.remove(chunkKey) != null) {
+                this.chunks--;
+                if (cell.isEmpty()) {
+                    this.cells.remove(cellKey);
+                }
+            }
+        }
+    }
+
+    public int size() {
+        return this.chunks;
+    }
+
+    /**
+     * Finds sky stone the same way the compass always searched: the closest square ring around the chunk that holds
+     * any, and within that ring the chunk with the smallest distance.
+     *
+     * @param maxRange rings at or beyond this distance are not searched
+     * @return the packed chunk coordinates, or {@link #NONE}
+     */
+    public long findNearest(final int cx, final int cz, final int maxRange) {
+        final int cellX = cx >> CELL_SHIFT;
+        final int cellZ = cz >> CELL_SHIFT;
+
+        long best = NONE;
+        int bestRing = Integer.MAX_VALUE;
+        long bestDistance = Long.MAX_VALUE;
+
+        for (int cellRing = 0;; cellRing++) {
+            // no chunk in this ring of cells can be closer than this
+            final int minRing = Math.max(0, (cellRing - 1) * CELL_SIZE + 1);
+            if (minRing > bestRing || minRing >= maxRange) {
+                return best;
+            }
+
+            for (int dx = -cellRing; dx <= cellRing; dx++) {
+                final boolean edge = dx == -cellRing || dx == cellRing;
+                for (int dz = -cellRing; dz <= cellRing; dz += edge ? 1 : 2 * cellRing) {
+                    final Map<Long, Integer> cell = this.cells.get(pack(cellX + dx, cellZ + dz));
+                    if (cell == null) {
+                        continue;
+                    }
+
+                    for (final long chunk : cell.keySet()) {
+                        final int x = unpackX(chunk) - cx;
+                        final int z = unpackZ(chunk) - cz;
+                        final int ring = Math.max(Math.abs(x), Math.abs(z));
+                        final long distance = (long) x * x + (long) z * z;
+                        if (ring < maxRange && (ring < bestRing || (ring == bestRing && distance < bestDistance))) {
+                            best = chunk;
+                            bestRing = ring;
+                            bestDistance = distance;
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    private static int getBands(final Map<Long, Integer> cell, final long chunkKey) {
+        final Integer bands = cell.get(chunkKey);
+        return bands == null ? 0 : bands;
+    }
+}
@@ -70,6 +70,7 @@ import appeng.api.util.AEColor;
 import appeng.api.util.IConfigManager;
 import appeng.helpers.IPriorityHost;
 import appeng.me.GridAccessException;
+import appeng.me.storage.ITrackedInventoryHandler;
 import appeng.me.storage.MEInventoryHandler;
 import appeng.tile.TileEvent;
 import appeng.tile.events.TileEventType;
@@ -747,7 +748,8 @@ public class TileChest extends AENetworkPowerTile
         }
     }
 
-    private class ChestMonitorHandler<T extends IAEStack> extends MEMonitorHandler<T> {
+    private class ChestMonitorHandler<T extends IAEStack> extends MEMonitorHandler<T>
+            implements ITrackedInventoryHandler {
 
         public ChestMonitorHandler(final IMEInventoryHandler<T> t) {
             super(t);
@@ -10,6 +10,7 @@
 
 package appeng.tile.storage;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import net.minecraft.block.Block;
@@ -23,6 +24,7 @@ import appeng.api.AEApi;
 import appeng.api.config.Actionable;
 import appeng.api.config.FullnessMode;
 import appeng.api.config.OperationMode;
+import appeng.api.config.PowerMultiplier;
 import appeng.api.config.RedstoneMode;
 import appeng.api.config.Settings;
 import appeng.api.config.Upgrades;
@@ -374,6 +376,10 @@ public class TileIOPort extends AENetworkInvTile implements IUpgradeableHost, IC
         return this.cachedFluid;
     }
 
+    /**
+     * Moves as much as the budget allows in one batch. Every type is routed once to plan the batch, both sides move the
+     * batch with a single change notification, and the energy for what was moved is drawn at once.
+     */
     private long transferContents(final IEnergySource energy, final IMEInventory src, final IMEInventory destination,
             long itemsToMove, final StorageChannel chan) {
         final IItemList<? extends IAEStack> myList;
@@ -383,50 +389,90 @@ public class TileIOPort extends AENetworkInvTile implements IUpgradeableHost, IC
             myList = src.getAvailableItems(src.getChannel().createList());
         }
 
-        boolean didStuff;
+        final List<IAEStack> batch = new ArrayList<>();
+        long planned = 0;
+        for (final IAEStack s : myList) {
+            if (planned >= itemsToMove) {
+                break;
+            }
 
-        do {
-            didStuff = false;
+            final long totalStackSize = s.getStackSize();
+            if (totalStackSize > 0) {
+                final IAEStack stack = destination.injectItems(s.copy(), Actionable.SIMULATE, this.mySrc);
 
-            for (final IAEStack s : myList) {
-                final long totalStackSize = s.getStackSize();
-                if (totalStackSize > 0) {
-                    final IAEStack stack = destination.injectItems(s, Actionable.SIMULATE, this.mySrc);
+                long possible = totalStackSize;
+                if (stack != null) {
+                    possible -= stack.getStackSize();
+                }
 
-                    long possible = 0;
-                    if (stack == null) {
-                        possible = totalStackSize;
-                    } else {
-                        possible = totalStackSize - stack.getStackSize();
-                    }
+                if (possible > 0) {
+                    possible = Math.min(possible, itemsToMove - planned);
+                    batch.add(s.copy().setStackSize(possible));
+                    planned += possible;
+                }
+            }
+        }
 
-                    if (possible > 0) {
-                        possible = Math.min(possible, itemsToMove);
-                        s.setStackSize(possible);
+        if (batch.isEmpty()) {
+            return itemsToMove;
+        }
 
-                        final IAEStack extracted = src.extractItems(s, Actionable.MODULATE, this.mySrc);
-                        if (extracted != null) {
-                            possible = extracted.getStackSize();
-                            final IAEStack failed = Platform.poweredInsert(energy, destination, extracted, this.mySrc);
+        final long typeMultiplier = chan == StorageChannel.FLUIDS ? FLUID_MULTIPLIER : 1;
+        final double availablePower = energy.extractAEPower(
+                Platform.ceilDiv(planned, typeMultiplier),
+                Actionable.SIMULATE,
+                PowerMultiplier.CONFIG);
+        final long affordable = Math.min((long) (availablePower * typeMultiplier + 0.9), planned);
+        if (affordable <= 0) {
+            return itemsToMove;
+        }
 
-                            if (failed != null) {
-                                possible -= failed.getStackSize();
-                                src.injectItems(failed, Actionable.MODULATE, this.mySrc);
-                            }
+        // drop what the network cannot pay for from the end of the batch
+        long excess = planned - affordable;
+        for (int i = batch.size() - 1; i >= 0 && excess > 0; i--) {
+            final IAEStack stack = batch.get(i);
+            final long cut = Math.min(excess, stack.getStackSize());
+            excess -= cut;
+            if (cut == stack.getStackSize()) {
+                batch.remove(i);
+            } else {
+                stack.decStackSize(cut);
+            }
+        }
+        final List<IAEStack> extracted = new ArrayList<>(batch.size());
+        for (final IAEStack stack : (List<IAEStack>) src.extractBatch(batch, Actionable.MODULATE, this.mySrc)) {
+            if (stack != null) {
+                extracted.add(stack);
+            }
+        }
 
-                            if (possible > 0) {
-                                itemsToMove -= possible;
-                                didStuff = true;
-                            }
+        long moved = 0;
+        for (final IAEStack stack : extracted) {
+            moved += stack.getStackSize();
+        }
 
-                            break;
-                        }
-                    }
-                }
+        final List<IAEStack> failed = new ArrayList<>();
+        for (final IAEStack stack : (List<IAEStack>) destination
+                .injectBatch(extracted, Actionable.MODULATE, this.mySrc)) {
+            if (stack != null) {
+                moved -= stack.getStackSize();
+                failed.add(stack);
             }
-        } while (itemsToMove > 0 && didStuff);
+        }
+
+        if (!failed.isEmpty()) {
+            src.injectBatch(failed, Actionable.MODULATE, this.mySrc);
+        }
+
+        // only what arrived is paid for, the simulation above made sure the network can
+        if (moved > 0) {
+            energy.extractAEPower(
+                    Platform.ceilDiv(moved, typeMultiplier),
+                    Actionable.MODULATE,
+                    PowerMultiplier.CONFIG);
+        }
 
-        return itemsToMove;
+        return itemsToMove - moved;
     }
 
     private boolean shouldMove(final IMEInventory<IAEItemStack> itemInv, final IMEInventory<IAEFluidStack> fluidInv) {
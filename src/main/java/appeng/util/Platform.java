@@ -601,17 +601,12 @@ public class Platform {
     public static IRecipe findMatchingRecipe(final InventoryCrafting inventoryCrafting, final World par2World) {
         if (lastUsedRecipe != null && lastUsedRecipe.matches(inventoryCrafting, par2World)) return lastUsedRecipe;
 
-        final CraftingManager cm = CraftingManager.getInstance();
-        final List<IRecipe> rl = cm.getRecipeList();
-
-        for (final IRecipe r : rl) {
-            if (r.matches(inventoryCrafting, par2World)) {
-                lastUsedRecipe = r;
-                return r;
-            }
+        final IRecipe r = RecipeIndex.getIndex().findMatchingRecipe(inventoryCrafting, par2World);
+        if (r != null) {
+            lastUsedRecipe = r;
         }
 
-        return null;
+        return r;
     }
 
     public static ItemStack[] getBlockDrops(final World w, final int x, final int y, final int z) {
@@ -772,7 +767,31 @@ public class Platform {
     }
 
     public static ItemStack findMatchingRecipeOutput(final InventoryCrafting ic, final World worldObj) {
-        return CraftingManager.getInstance().findMatchingRecipe(ic, worldObj);
+        ItemStack first = null;
+        ItemStack second = null;
+        int stacks = 0;
+        for (int x = 0; x < ic.getSizeInventory(); x++) {
+            final ItemStack is = ic.getStackInSlot(x);
+            if (is != null) {
+                if (stacks == 0) {
+                    first = is;
+                } else if (stacks == 1) {
+                    second = is;
+                }
+                stacks++;
+            }
+        }
+
+        // tool repairs are not recipes, the crafting manager handles them before its recipes
+        if (stacks == 2 && first.getItem() == second.getItem()
+                && first.stackSize == 1
+                && second.stackSize == 1
+                && first.getItem().isRepairable()) {
+            return CraftingManager.getInstance().findMatchingRecipe(ic, worldObj);
+        }
+
+        final IRecipe r = RecipeIndex.getIndex().findMatchingRecipe(ic, worldObj);
+        return r == null ? null : r.getCraftingResult(ic);
     }
 
     @SideOnly(Side.CLIENT)
@@ -0,0 +1,201 @@
+/*
+ * This file is part of Applied Energistics 2. Copyright (c) 2013 - 2015, AlgorithmX2, All rights reserved. Applied
+ * Energistics 2 is free software: you can redistribute it and/or modify it under the terms of the GNU Lesser General
+ * Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any
+ * later version. Applied Energistics 2 is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General
+ * Public License for more details. You should have received a copy of the GNU Lesser General Public License along with
+ * Applied Energistics 2. If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+
+package appeng.util;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import net.minecraft.inventory.InventoryCrafting;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraft.item.crafting.CraftingManager;
+import net.minecraft.item.crafting.IRecipe;
+import net.minecraft.item.crafting.ShapedRecipes;
+import net.minecraft.item.crafting.ShapelessRecipes;
+import net.minecraft.world.World;
+import net.minecraftforge.oredict.ShapedOreRecipe;
+import net.minecraftforge.oredict.ShapelessOreRecipe;
+
+/**
+ * Buckets the crafting recipes by the items they accept, so a lookup only tests the recipes that accept the item in
+ * the first occupied slot of the grid. Recipes of unknown types are tested for every lookup. Candidates are tested in
+ * the order of the recipe list, so the first matching recipe is the same one a scan of the list finds.
+ */
+public final class RecipeIndex {
+
+    private static volatile RecipeIndex current;
+
+    private final List<IRecipe> recipeList;
+    private final IRecipe[] recipes;
+    private final Map<Item, int[]> byInput = new IdentityHashMap<>();
+    private final int[] unindexed;
+
+    private RecipeIndex(final List<IRecipe> recipeList) {
+        this.recipeList = recipeList;
+        this.recipes = recipeList.toArray(new IRecipe[0]);
+
+        final Map<Item, List<Integer>> buckets = new IdentityHashMap<>();
+        final List<Integer> unknown = new ArrayList<>();
+        for (int x = 0; x < this.recipes.length; x++) {
+            final Set<Item> inputs = getInputItems(this.recipes[x]);
+            if (inputs == null || inputs.isEmpty()) {
+                unknown.add(x);
+                continue;
+            }
+
+            for (final Item item : inputs) {
+                buckets.computeIfAbsent(item, k -> new ArrayList<>()).add(x);
+            }
+        }
+
+        for (final Map.Entry<Item, List<Integer>> bucket : buckets.entrySet()) {
+            this.byInput.put(bucket.getKey(), toArray(bucket.getValue()));
+        }
+        this.unindexed = toArray(unknown);
+    }
+
+    /**
+     * @return the index of the current recipe list, rebuilt when recipes were added or removed
+     */
+    public static RecipeIndex getIndex() {
+        @SuppressWarnings("unchecked")
+        final List<IRecipe> recipeList = CraftingManager.getInstance().getRecipeList();
+        RecipeIndex index = current;
+
+        if (index == null || index.recipeList != recipeList || index.recipes.length != recipeList.size()) {
+            current = index = new RecipeIndex(recipeList);
+        }
+
+        return index;
+    }
+
+    /**
+     * Drops the index, the ore dictionary entries accepted by ore recipes changed.
+     */
+    public static void invalidate() {
+        current = null;
+    }
+
+    public IRecipe findMatchingRecipe(final InventoryCrafting ic, final World w) {
+        Item first = null;
+        for (int x = 0; x < ic.getSizeInventory(); x++) {
+            final ItemStack is = ic.getStackInSlot(x);
+            if (is != null) {
+                first = is.getItem();
+                break;
+            }
+        }
+
+        final int[] candidates = first == null ? null : this.byInput.get(first);
+        final int[] unknown = this.unindexed;
+        int c = 0;
+        int u = 0;
+        final int cLength = candidates == null ? 0 : candidates.length;
+
+        // merge both buckets to keep the order of the recipe list
+        while (c < cLength || u < unknown.length) {
+            final int next;
+            if (u >= unknown.length || (c < cLength && candidates[c] < unknown[u])) {
+                next = candidates[c++];
+            } else {
+                next = unknown[u++];
+            }
+
+            final IRecipe r = this.recipes[next];
+            if (r.matches(ic, w)) {
+                return r;
+            }
+        }
+
+        return null;
+    }
+
+    public int size() {
+        return this.recipes.length;
+    }
+
+    /**
+     * Subclasses of the known recipe types may override {@link IRecipe#matches} to accept other inputs, so only the
+     * exact types are indexed.
+     *
+     * @return every item the recipe accepts in any slot, or null if the recipe type is unknown
+     */
+    private static Set<Item> getInputItems(final IRecipe r) {
+        final Set<Item> items = new HashSet<>();
+        final Class<? extends IRecipe> type = r.getClass();
+
+        if (type == ShapedRecipes.class) {
+            for (final ItemStack is : ((ShapedRecipes) r).recipeItems) {
+                addItem(items, is);
+            }
+        } else if (type == ShapelessRecipes.class) {
+            for (final Object o : ((ShapelessRecipes) r).recipeItems) {
+                if (!addIngredient(items, o)) {
+                    return null;
+                }
+            }
+        } else if (type == ShapedOreRecipe.class) {
+            for (final Object o : ((ShapedOreRecipe) r).getInput()) {
+                if (!addIngredient(items, o)) {
+                    return null;
+                }
+            }
+        } else if (type == ShapelessOreRecipe.class) {
+            for (final Object o : ((ShapelessOreRecipe) r).getInput()) {
+                if (!addIngredient(items, o)) {
+                    return null;
+                }
+            }
+        } else {
+            return null;
+        }
+
+        return items;
+    }
+
+    private static boolean addIngredient(final Set<Item> items, final Object o) {
+        if (o == null || o instanceof ItemStack) {
+            addItem(items, (ItemStack) o);
+            return true;
+        }
+
+        if (o instanceof Collection<?> ores) {
+            for (final Object ore : ores) {
+                if (!(ore instanceof ItemStack)) {
+                    return false;
+                }
+                addItem(items, (ItemStack) ore);
+            }
+            return true;
+        }
+
+        return false;
+    }
+
+    private static void addItem(final Set<Item> items, final ItemStack is) {
+        if (is != null && is.getItem() != null) {
+            items.add(is.getItem());
+        }
+    }
+
+    private static int[] toArray(final List<Integer> list) {
+        final int[] out = new int[list.size()];
+        for (int x = 0; x < out.length; x++) {
+            out[x] = list.get(x);
+        }
+        return out;
+    }
+}
@@ -20,7 +20,7 @@ import appeng.api.config.InsertionMode;
 import appeng.util.InventoryAdaptor;
 import appeng.util.Platform;
 
-public class AdaptorIInventory extends InventoryAdaptor {
+public class AdaptorIInventory extends InventoryAdaptor implements ISlotRangeAdaptor {
 
     private final IInventory i;
     private final boolean wrapperEnabled;
@@ -313,17 +313,33 @@ public class AdaptorIInventory extends InventoryAdaptor {
 
     @Override
     public Iterator<ItemSlot> iterator() {
-        return new InvIterator();
+        return new InvIterator(0, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public int getSlotCount() {
+        return this.i.getSizeInventory();
+    }
+
+    @Override
+    public Iterator<ItemSlot> iterator(final int from, final int to) {
+        return new InvIterator(from, to);
     }
 
     private class InvIterator implements Iterator<ItemSlot> {
 
         private final ItemSlot is = new ItemSlot();
-        private int x = 0;
+        private final int end;
+        private int x;
+
+        private InvIterator(final int from, final int to) {
+            this.x = from;
+            this.end = to;
+        }
 
         @Override
         public boolean hasNext() {
-            return this.x < AdaptorIInventory.this.i.getSizeInventory();
+            return this.x < this.end && this.x < AdaptorIInventory.this.i.getSizeInventory();
         }
 
         @Override
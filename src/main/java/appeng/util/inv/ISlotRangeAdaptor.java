@@ -0,0 +1,28 @@
+/*
+ * This file is part of Applied Energistics 2. Copyright (c) 2013 - 2014, AlgorithmX2, All rights reserved. Applied
+ * Energistics 2 is free software: you can redistribute it and/or modify it under the terms of the GNU Lesser General
+ * Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any
+ * later version. Applied Energistics 2 is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General
+ * Public License for more details. You should have received a copy of the GNU Lesser General Public License along with
+ * Applied Energistics 2. If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+
+package appeng.util.inv;
+
+import java.util.Iterator;
+
+/**
+ * An {@link appeng.util.InventoryAdaptor} that can iterate a part of its slots, so a scan can be spread over several
+ * ticks.
+ */
+public interface ISlotRangeAdaptor {
+
+    int getSlotCount();
+
+    /**
+     * @param from first slot, inclusive
+     * @param to   last slot, exclusive
+     */
+    Iterator<ItemSlot> iterator(int from, int to);
+}
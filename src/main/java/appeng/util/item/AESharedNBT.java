@@ -10,8 +10,11 @@
 
 package appeng.util.item;
 
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
 import java.lang.ref.WeakReference;
-import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
 
 import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
@@ -28,12 +31,15 @@ import appeng.util.Platform;
 public class AESharedNBT extends NBTTagCompound implements IAETagCompound {
 
     /*
-     * Shared Tag Compound Cache.
+     * Shared Tag Compound Cache. Lookups are lock free, an entry is dropped once the last stack using its tag is gone.
      */
-    private static final WeakHashMap<SharedSearchObject, WeakReference<SharedSearchObject>> SHARED_TAG_COMPOUND = new WeakHashMap<>();
+    private static final ConcurrentHashMap<SharedSearchObject, SharedReference> SHARED_TAG_COMPOUND = new ConcurrentHashMap<>();
+    private static final ReferenceQueue<AESharedNBT> COLLECTED = new ReferenceQueue<>();
+    private static final LongAdder HITS = new LongAdder();
+    private static final LongAdder MISSES = new LongAdder();
+    private static final LongAdder CLEANUPS = new LongAdder();
     private final Item item;
     private final int meta;
-    private SharedSearchObject sso;
     private int hash;
     private IItemComparison comp;
 
@@ -48,17 +54,62 @@ public class AESharedNBT extends NBTTagCompound implements IAETagCompound {
         this.hash = fakeValue;
     }
 
+    /*
+     * Weak reference to a shared compound, remembering its key to remove it from the cache once collected.
+     */
+    private static final class SharedReference extends WeakReference<AESharedNBT> {
+
+        private final SharedSearchObject key;
+
+        private SharedReference(final AESharedNBT shared, final SharedSearchObject key) {
+            super(shared, COLLECTED);
+            this.key = key;
+        }
+    }
+
     /*
      * Debug purposes.
      */
     public static int sharedTagLoad() {
+        expungeCollected();
         return SHARED_TAG_COMPOUND.size();
     }
 
+    /*
+     * Lookups answered from the cache.
+     */
+    public static long sharedTagHits() {
+        return HITS.sum();
+    }
+
+    /*
+     * Lookups that had to create a new shared compound.
+     */
+    public static long sharedTagMisses() {
+        return MISSES.sum();
+    }
+
+    /*
+     * Entries removed after their shared compound was collected.
+     */
+    public static long sharedTagCleanups() {
+        return CLEANUPS.sum();
+    }
+
+    private static void expungeCollected() {
+        Reference<? extends AESharedNBT> collected;
+        while ((collected = COLLECTED.poll()) != null) {
+            final SharedReference ref = (SharedReference) collected;
+            if (SHARED_TAG_COMPOUND.remove(ref.key, ref)) {
+                CLEANUPS.increment();
+            }
+        }
+    }
+
     /*
      * Returns an NBT Compound that is used for accelerating comparisons.
      */
-    static synchronized NBTTagCompound getSharedTagCompound(final NBTTagCompound tagCompound, final ItemStack s) {
+    static NBTTagCompound getSharedTagCompound(final NBTTagCompound tagCompound, final ItemStack s) {
         if (tagCompound.hasNoTags()) {
             return null;
         }
@@ -75,26 +126,38 @@ public class AESharedNBT extends NBTTagCompound implements IAETagCompound {
 
         final SharedSearchObject sso = new SharedSearchObject(item, meta, tagCompound);
 
-        final WeakReference<SharedSearchObject> c = SHARED_TAG_COMPOUND.get(sso);
+        final SharedReference c = SHARED_TAG_COMPOUND.get(sso);
         if (c != null) {
-            final SharedSearchObject cg = c.get();
+            final AESharedNBT cg = c.get();
             if (cg != null) {
-                return cg.getShared(); // I don't think I really need to check this
+                HITS.increment();
+                return cg;
             }
-            // as its already certain to exist..
         }
 
+        MISSES.increment();
+        expungeCollected();
+
         final AESharedNBT clone = AESharedNBT.createFromCompound(item, meta, tagCompound);
-        sso.setCompound((NBTTagCompound) sso.getCompound().copy()); // prevent
-        // modification
-        // of data based
-        // on original
-        // item.
-        sso.setShared(clone);
-        clone.sso = sso;
-
-        SHARED_TAG_COMPOUND.put(sso, new WeakReference<>(sso));
-        return clone;
+        // prevent modification of data based on original item.
+        sso.setCompound((NBTTagCompound) sso.getCompound().copy());
+        final SharedReference ref = new SharedReference(clone, sso);
+
+        while (true) {
+            final SharedReference existing = SHARED_TAG_COMPOUND.putIfAbsent(sso, ref);
+            if (existing == null) {
+                return clone;
+            }
+
+            // another thread shared an equal compound first, or a collected one is still waiting for cleanup
+            final AESharedNBT other = existing.get();
+            if (other != null) {
+                return other;
+            }
+            if (SHARED_TAG_COMPOUND.replace(sso, existing, ref)) {
+                return clone;
+            }
+        }
     }
 
     /*
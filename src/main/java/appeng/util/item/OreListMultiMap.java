@@ -4,23 +4,22 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
 import java.util.Set;
 
 import com.google.common.collect.ImmutableList;
-import com.google.common.collect.ImmutableListMultimap;
-import com.google.common.collect.ImmutableListMultimap.Builder;
 
 import appeng.api.networking.crafting.ICraftingPatternDetails;
 import appeng.api.storage.data.IAEItemStack;
 
 public class OreListMultiMap<T> {
 
-    private ImmutableListMultimap<Integer, T> map;
-    private final Map<Integer, Collection<ICraftingPatternDetails>> patternHashMap = new HashMap<>();
-    private ImmutableListMultimap<Integer, T> patternMap;
-    private ImmutableListMultimap.Builder<Integer, T> builder = new Builder<>();
+    private final Map<Integer, List<T>> map = new HashMap<>();
+    private final Map<Integer, ImmutableList<T>> mapViews = new HashMap<>();
+    private final Map<Integer, List<T>> patternMap = new HashMap<>();
+    private final Map<Integer, ImmutableList<T>> patternMapViews = new HashMap<>();
+    private boolean populated = false;
 
     private static Collection<Integer> getAEEquivalents(IAEItemStack stack) {
         AEItemStack s;
@@ -36,48 +35,74 @@ public class OreListMultiMap<T> {
         return ids;
     }
 
+    private static <T> void add(Map<Integer, List<T>> lists, Map<Integer, ImmutableList<T>> views, Integer key,
+            T val) {
+        lists.computeIfAbsent(key, k -> new ArrayList<>()).add(val);
+        views.remove(key);
+    }
+
+    private static <T> void remove(Map<Integer, List<T>> lists, Map<Integer, ImmutableList<T>> views, Integer key,
+            T val) {
+        final List<T> list = lists.get(key);
+        if (list != null && list.remove(val)) {
+            if (list.isEmpty()) {
+                lists.remove(key);
+            }
+            views.remove(key);
+        }
+    }
+
+    private static <T> ImmutableList<T> view(Map<Integer, List<T>> lists, Map<Integer, ImmutableList<T>> views,
+            Integer key) {
+        ImmutableList<T> view = views.get(key);
+        if (view == null) {
+            final List<T> list = lists.get(key);
+            view = list == null ? ImmutableList.of() : ImmutableList.copyOf(list);
+            views.put(key, view);
+        }
+        return view;
+    }
+
     public boolean isPopulated() {
-        return patternMap != null;
+        return populated;
     }
 
     public void put(IAEItemStack key, ICraftingPatternDetails val) {
         if (((AEItemStack) key).getDefinition() != null) {
-            Collection<ICraftingPatternDetails> tmp = patternHashMap
-                    .getOrDefault(((AEItemStack) key).getDefinition().getMyHash(), null);
-            if (tmp == null) {
-                ArrayList<ICraftingPatternDetails> list = new ArrayList<>();
-                list.add(val);
-                patternHashMap.put(((AEItemStack) key).getDefinition().getMyHash(), list);
-            } else {
-                tmp.add(val);
-            }
+            add(patternMap, patternMapViews, ((AEItemStack) key).getDefinition().getMyHash(), (T) val);
         }
 
         for (Integer realKey : getAEEquivalents(key)) {
-            builder.put(realKey, (T) val);
+            add(map, mapViews, realKey, (T) val);
         }
     }
 
-    public void freeze() {
-        map = builder.build();
-        builder = new Builder<>();
-        for (Entry<Integer, Collection<ICraftingPatternDetails>> collection : this.patternHashMap.entrySet()) {
-            for (ICraftingPatternDetails details : collection.getValue()) {
-                builder.put(collection.getKey(), (T) details);
-            }
+    /**
+     * Removes one mapping added by {@link #put}, the lists of the other keys are kept as they are.
+     */
+    public void remove(IAEItemStack key, ICraftingPatternDetails val) {
+        if (((AEItemStack) key).getDefinition() != null) {
+            remove(patternMap, patternMapViews, ((AEItemStack) key).getDefinition().getMyHash(), (T) val);
         }
-        patternMap = builder.build();
+
+        for (Integer realKey : getAEEquivalents(key)) {
+            remove(map, mapViews, realKey, (T) val);
+        }
+    }
+
+    public void freeze() {
+        populated = true;
     }
 
     public ImmutableList<T> get(IAEItemStack key) {
         Collection<Integer> ids = getAEEquivalents(key);
         if (ids.isEmpty()) return ImmutableList.of();
         else if (ids.size() == 1) {
-            return map.get(ids.iterator().next());
+            return view(map, mapViews, ids.iterator().next());
         } else {
             ImmutableList.Builder<T> b = ImmutableList.builder();
             for (Integer id : ids) {
-                b.addAll(map.get(id));
+                b.addAll(view(map, mapViews, id));
             }
             return b.build();
         }
@@ -85,14 +110,17 @@ public class OreListMultiMap<T> {
 
     public ImmutableList<ICraftingPatternDetails> getBeSubstitutePattern(IAEItemStack ias) {
         if (((AEItemStack) ias).getDefinition() == null) return ImmutableList.of();
-        return (ImmutableList<ICraftingPatternDetails>) this.patternMap
-                .get(((AEItemStack) ias).getDefinition().getMyHash());
+        return (ImmutableList<ICraftingPatternDetails>) view(
+                patternMap,
+                patternMapViews,
+                ((AEItemStack) ias).getDefinition().getMyHash());
     }
 
     public void clear() {
-        map = null;
-        patternMap = null;
-        patternHashMap.clear();
-        builder = new Builder<>();
+        populated = false;
+        map.clear();
+        mapViews.clear();
+        patternMap.clear();
+        patternMapViews.clear();
     }
 }
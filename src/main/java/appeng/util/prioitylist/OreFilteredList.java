@@ -1,6 +1,9 @@
 package appeng.util.prioitylist;
 
-import java.util.HashMap;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
 import java.util.regex.Pattern;
 import java.util.stream.IntStream;
@@ -11,11 +14,26 @@ import net.minecraftforge.oredict.OreDictionary;
 
 import org.apache.commons.lang3.StringUtils;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
 import appeng.api.storage.data.IAEItemStack;
 import appeng.core.AELog;
 
 public class OreFilteredList implements IPartitionList<IAEItemStack> {
 
+    /**
+     * Filters by expression, every user of an expression shares its filter and the answers it remembers.
+     */
+    private static final Cache<String, Predicate<IAEItemStack>> FILTERS = CacheBuilder.newBuilder().weakValues()
+            .build();
+    /**
+     * Expressions that failed to parse, so buses holding one don't parse it again on every tick.
+     */
+    private static final Set<String> INVALID = Collections.newSetFromMap(new ConcurrentHashMap<>());
+    private static final int MAX_INVALID = 256;
+    private static volatile int oreGeneration = 0;
+
     private final Predicate<IAEItemStack> filterPredicate;
 
     public OreFilteredList(String filter) {
@@ -38,16 +56,32 @@ public class OreFilteredList implements IPartitionList<IAEItemStack> {
     }
 
     public static Predicate<IAEItemStack> makeFilter(String f) {
+        final Predicate<IAEItemStack> cached = FILTERS.getIfPresent(f);
+        if (cached != null) return cached;
+        if (INVALID.contains(f)) return null;
+
         try {
             Predicate<ItemStack> matcher = makeMatcher(f);
             if (matcher == null) return null;
-            return new OreListMatcher(matcher);
+            final Predicate<IAEItemStack> filter = new OreListMatcher(matcher);
+            final Predicate<IAEItemStack> raced = FILTERS.asMap().putIfAbsent(f, filter);
+            return raced != null ? raced : filter;
         } catch (Exception ex) {
             AELog.debug(ex);
+            if (INVALID.size() >= MAX_INVALID) INVALID.clear();
+            INVALID.add(f);
             return null;
         }
     }
 
+    /**
+     * Forgets the answers of all filters, items may have gained ores.
+     */
+    public static void onOreDictionaryChange() {
+        oreGeneration++;
+        FILTERS.invalidateAll();
+    }
+
     private static Predicate<ItemStack> makeMatcher(String f) {
         Predicate<ItemStack> matcher = null;
         if (notAWildcard(f)) {
@@ -86,8 +120,9 @@ public class OreFilteredList implements IPartitionList<IAEItemStack> {
 
     private static class OreListMatcher implements Predicate<IAEItemStack> {
 
-        final HashMap<ItemRef, Boolean> cache = new HashMap<>();
+        final Map<ItemRef, Boolean> cache = new ConcurrentHashMap<>();
         final Predicate<ItemStack> matcher;
+        int generation = oreGeneration;
 
         public OreListMatcher(Predicate<ItemStack> matcher) {
             this.matcher = matcher;
@@ -95,7 +130,11 @@ public class OreFilteredList implements IPartitionList<IAEItemStack> {
 
         public boolean test(IAEItemStack t) {
             if (t == null) return false;
-            return cache.compute(new ItemRef(t), (k, v) -> (v != null) ? v : matcher.test(t.getItemStack()));
+            if (generation != oreGeneration) {
+                generation = oreGeneration;
+                cache.clear();
+            }
+            return cache.computeIfAbsent(new ItemRef(t), k -> matcher.test(t.getItemStack()));
         }
     }
 
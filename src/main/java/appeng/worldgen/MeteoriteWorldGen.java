@@ -52,8 +52,6 @@ public final class MeteoriteWorldGen implements IWorldGenerator {
             } else {
                 TickHandler.INSTANCE.addCallable(w, new MeteoriteSpawn(chunkX << 4, 128, chunkZ << 4));
             }
-        } else {
-            WorldData.instance().compassData().service().updateArea(w, chunkX, chunkZ);
         }
     }
 
@@ -130,8 +128,8 @@ public final class MeteoriteWorldGen implements IWorldGenerator {
                 MeteoriteWorldGen.this.tryMeteorite(world, this.depth, this.x, this.z);
             }
 
+            // the sky stone placed here was already recorded for the compass as each block was added
             WorldData.instance().spawnData().setGenerated(world.provider.dimensionId, chunkX, chunkZ);
-            WorldData.instance().compassData().service().updateArea(world, chunkX, chunkZ);
 
             return null;
         }
@@ -0,0 +1,75 @@
+/*
+ * This file is part of Applied Energistics 2. Copyright (c) 2013 - 2015, AlgorithmX2, All rights reserved. Applied
+ * Energistics 2 is free software: you can redistribute it and/or modify it under the terms of the GNU Lesser General
+ * Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any
+ * later version. Applied Energistics 2 is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General
+ * Public License for more details. You should have received a copy of the GNU Lesser General Public License along with
+ * Applied Energistics 2. If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+
+package appeng.me.cache.helpers;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import appeng.api.networking.ticking.TickingRequest;
+
+/**
+ * Tests for {@link TimingWheelTickScheduler}
+ */
+public class TimingWheelTickSchedulerTest {
+
+    private static TickTracker tracker(final long currentTick) {
+        return new TickTracker(new TickingRequest(1, 20, false, true), null, null, currentTick, null);
+    }
+
+    @Test
+    public void testRemoveUnscheduled() {
+        final TimingWheelTickScheduler scheduler = new TimingWheelTickScheduler(0);
+
+        scheduler.remove(null);
+        scheduler.remove(tracker(0));
+
+        Assert.assertNull(scheduler.pollDue(100));
+    }
+
+    @Test
+    public void testAlertDuringTick() {
+        final TimingWheelTickScheduler scheduler = new TimingWheelTickScheduler(0);
+        final TickTracker alerted = tracker(0);
+        final TickTracker other = tracker(0);
+        scheduler.add(alerted);
+        scheduler.add(other);
+
+        final long tick = alerted.getCurrentRate();
+        Assert.assertSame(alerted, scheduler.pollDue(tick));
+
+        // the device alerts itself while it ticks, as TickManagerCache.alertDevice does
+        alerted.setLastTick(alerted.getLastTick() - alerted.getRequest().maxTickRate);
+        alerted.setCurrentRate(alerted.getRequest().minTickRate);
+        scheduler.remove(alerted);
+        scheduler.add(alerted);
+
+        // and is queued again once its tick is done
+        alerted.setLastTick(tick);
+        scheduler.add(alerted);
+
+        Assert.assertSame(other, scheduler.pollDue(tick));
+        Assert.assertNull(scheduler.pollDue(tick));
+        Assert.assertSame(alerted, scheduler.pollDue(tick + 1));
+        Assert.assertNull(scheduler.pollDue(tick + 1));
+        Assert.assertNull(scheduler.pollDue(tick + 100));
+    }
+
+    @Test
+    public void testAddScheduledTracker() {
+        final TimingWheelTickScheduler scheduler = new TimingWheelTickScheduler(0);
+        final TickTracker tt = tracker(0);
+        scheduler.add(tt);
+        scheduler.add(tt);
+
+        Assert.assertSame(tt, scheduler.pollDue(tt.getCurrentRate()));
+        Assert.assertNull(scheduler.pollDue(tt.getCurrentRate() + 100));
+    }
+}
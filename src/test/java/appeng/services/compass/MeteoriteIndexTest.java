@@ -0,0 +1,109 @@
+/*
+ * This file is part of Applied Energistics 2. Copyright (c) 2013 - 2015, AlgorithmX2, All rights reserved. Applied
+ * Energistics 2 is free software: you can redistribute it and/or modify it under the terms of the GNU Lesser General
+ * Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any
+ * later version. Applied Energistics 2 is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General
+ * Public License for more details. You should have received a copy of the GNU Lesser General Public License along with
+ * Applied Energistics 2. If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+
+package appeng.services.compass;
+
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests for {@link MeteoriteIndex}
+ */
+public class MeteoriteIndexTest {
+
+    private static final int MAX_RANGE = 174;
+
+    /**
+     * The square spiral the compass used to walk over its region files.
+     */
+    private static long spiral(final MeteoriteIndex index, final int cx, final int cz, final int maxRange) {
+        for (int offset = 1; offset < maxRange; offset++) {
+            long closest = Long.MAX_VALUE;
+            long chosen = MeteoriteIndex.NONE;
+            for (int x = cx - offset; x <= cx + offset; x++) {
+                for (int z = cz - offset; z <= cz + offset; z++) {
+                    if (Math.max(Math.abs(x - cx), Math.abs(z - cz)) == offset && index.hasBeacon(x, z)) {
+                        final long distance = (long) (x - cx) * (x - cx) + (long) (z - cz) * (z - cz);
+                        if (distance < closest) {
+                            closest = distance;
+                            chosen = MeteoriteIndex.pack(x, z);
+                        }
+                    }
+                }
+            }
+            if (chosen != MeteoriteIndex.NONE) {
+                return chosen;
+            }
+        }
+        return MeteoriteIndex.NONE;
+    }
+
+    private static long distance(final long chunk, final int cx, final int cz) {
+        final long x = MeteoriteIndex.unpackX(chunk) - cx;
+        final long z = MeteoriteIndex.unpackZ(chunk) - cz;
+        return x * x + z * z;
+    }
+
+    @Test
+    public void testFindsTheSameDistanceAsTheSpiral() {
+        final Random random = new Random(42);
+        final MeteoriteIndex index = new MeteoriteIndex();
+        for (int i = 0; i < 300; i++) {
+            index.setHasBeacon(random.nextInt(1200) - 600, random.nextInt(1200) - 600, random.nextInt(8), true);
+        }
+
+        for (int i = 0; i < 200; i++) {
+            final int cx = random.nextInt(1600) - 800;
+            final int cz = random.nextInt(1600) - 800;
+            if (index.hasBeacon(cx, cz)) {
+                continue;
+            }
+
+            final long expected = spiral(index, cx, cz, MAX_RANGE);
+            final long actual = index.findNearest(cx, cz, MAX_RANGE);
+            if (expected == MeteoriteIndex.NONE) {
+                Assert.assertEquals(MeteoriteIndex.NONE, actual);
+            } else {
+                // equally close chunks of the same ring may be chosen in a different order
+                Assert.assertNotEquals(MeteoriteIndex.NONE, actual);
+                Assert.assertEquals(distance(expected, cx, cz), distance(actual, cx, cz));
+            }
+        }
+    }
+
+    @Test
+    public void testRespectsTheRange() {
+        final MeteoriteIndex index = new MeteoriteIndex();
+        index.setHasBeacon(100, -3, 2, true);
+
+        Assert.assertEquals(MeteoriteIndex.NONE, index.findNearest(0, 0, 100));
+        Assert.assertEquals(MeteoriteIndex.pack(100, -3), index.findNearest(0, 0, 101));
+    }
+
+    @Test
+    public void testClearingTheLastBandRemovesTheChunk() {
+        final MeteoriteIndex index = new MeteoriteIndex();
+        index.setHasBeacon(-5, 7, 1, true);
+        index.setHasBeacon(-5, 7, 4, true);
+        Assert.assertEquals(1, index.size());
+
+        index.setHasBeacon(-5, 7, 1, false);
+        Assert.assertTrue(index.hasBeacon(-5, 7));
+        Assert.assertFalse(index.hasBeacon(-5, 7, 1));
+        Assert.assertTrue(index.hasBeacon(-5, 7, 4));
+
+        index.setHasBeacon(-5, 7, 4, false);
+        Assert.assertFalse(index.hasBeacon(-5, 7));
+        Assert.assertEquals(0, index.size());
+        Assert.assertEquals(MeteoriteIndex.NONE, index.findNearest(0, 0, 50));
+    }
+}